@@ -0,0 +1,144 @@
+package com.book.dolphin.category;
+
+import com.book.dolphin.category.application.dto.response.MoveCategoryResponse;
+import com.book.dolphin.category.application.service.CategoryService;
+import com.book.dolphin.category.domain.entity.Category;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.repository.CategoryClosureRepository;
+import com.book.dolphin.category.domain.repository.CategoryRepository;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link CategoryService#move}의 서브트리 depth/path 재계산과 클로저 링크 조립 비용.
+ *
+ * <p>6단계(depth 0~5) 트리에서 21개 노드 서브트리(자식 4 × 손자 4)를 두 부모 사이로 번갈아 옮긴다.
+ * 저장소는 메모리 맵을 들여다보는 동적 프록시로 대체해 DB 비용은 빼고 서비스 로직만 잰다.</p>
+ */
+@State(Scope.Thread)
+public class CategoryMoveBenchmark {
+
+    private final Map<Long, Category> byId = new HashMap<>();
+    private long nextId = 1L;
+
+    private CategoryService service;
+    private Category moving;
+    private Category parentA;
+    private Category parentB;
+    private List<Category> subtree;
+
+    @Setup
+    public void setUp() throws Exception {
+        // /a/a1/a2 와 /b/b1/b2 (depth 0~2), 이동 대상은 a2 밑(depth 3) + 자식/손자(depth 4~5)
+        parentA = chain("a");
+        parentB = chain("b");
+        moving = add(Category.createChild("이동", "moving", parentA, 0, CategoryStatus.ACTIVE,
+                null));
+        for (int i = 0; i < 4; i++) {
+            Category child = add(Category.createChild("자식" + i, "c" + i, moving, i,
+                    CategoryStatus.ACTIVE, null));
+            for (int j = 0; j < 4; j++) {
+                add(Category.createChild("손자" + j, "g" + j, child, j, CategoryStatus.ACTIVE,
+                        null));
+            }
+        }
+        subtree = new ArrayList<>();
+        for (Category c : byId.values()) {
+            if (c.getPath().startsWith(moving.getPath())) {
+                subtree.add(c);
+            }
+        }
+        subtree.sort(Comparator.comparingInt(Category::getDepth));
+
+        service = new CategoryService(categoryRepository(), closureRepository(), event -> {
+        });
+    }
+
+    @Benchmark
+    public MoveCategoryResponse moveSubtree() {
+        Category target = moving.getParent() == parentA ? parentB : parentA;
+        return service.move(moving.getId(), target.getId());
+    }
+
+    private Category chain(String slug) throws Exception {
+        Category root = add(Category.createRoot(slug, slug, 0, CategoryStatus.ACTIVE, null));
+        Category d1 = add(Category.createChild(slug + "1", slug + "1", root, 0,
+                CategoryStatus.ACTIVE, null));
+        return add(Category.createChild(slug + "2", slug + "2", d1, 0, CategoryStatus.ACTIVE,
+                null));
+    }
+
+    private Category add(Category c) throws Exception {
+        Field id = Category.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(c, nextId++);
+        byId.put(c.getId(), c);
+        return c;
+    }
+
+    // 조상 체인(자기 자신 depth 0 포함), 클로저 테이블 조회와 같은 형태
+    private List<Object[]> ancestorsWithDepth(Long id) {
+        List<Object[]> out = new ArrayList<>();
+        int d = 0;
+        for (Category c = byId.get(id); c != null; c = c.getParent()) {
+            out.add(new Object[]{c, d++});
+        }
+        return out;
+    }
+
+    private CategoryRepository categoryRepository() {
+        return proxy(CategoryRepository.class, (name, args) -> switch (name) {
+            case "findById" -> Optional.ofNullable(byId.get((Long) args[0]));
+            case "findSubtreeDescendants" -> subtree;
+            case "findMaxDepthOffsetInSubtree" -> 2;
+            case "findBreadcrumbAncestors" -> {
+                List<Category> chain = new ArrayList<>();
+                for (Category c = byId.get((Long) args[0]).getParent(); c != null;
+                        c = c.getParent()) {
+                    chain.add(0, c);
+                }
+                yield chain;
+            }
+            case "existsByParentIdAndSlug", "existsByParentIsNullAndSlug", "existsByPath",
+                 "existsByPathOtherThan" -> false;
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private CategoryClosureRepository closureRepository() {
+        return proxy(CategoryClosureRepository.class, (name, args) -> switch (name) {
+            case "deleteLinksOutsideSubtree" -> ((Collection<?>) args[0]).size();
+            case "findAncestorsWithDepth" -> ancestorsWithDepth((Long) args[0]);
+            case "saveAll" -> args[0];
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (p, method, args) -> switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + "(bench)";
+                    case "hashCode" -> System.identityHashCode(p);
+                    case "equals" -> p == args[0];
+                    default -> handler.handle(method.getName(), args);
+                });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object handle(String method, Object[] args);
+    }
+}
@@ -0,0 +1,37 @@
+package com.book.dolphin.product;
+
+import com.book.dolphin.product.domain.entity.Inventory;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 재고 도메인 연산. 할당은 상태를 바꾸므로 할당/해제를 한 쌍으로 측정한다.
+ */
+@State(Scope.Thread)
+public class InventoryBenchmark {
+
+    private Inventory inventory;
+
+    @Setup
+    public void setUp() {
+        Product product = Product.builder().name("벤치마크 셔츠").content("본문").build();
+        ProductVariant variant = ProductVariant.of(product, "BENCH-SKU-001");
+        inventory = Inventory.of(variant, 1_000_000L, 10L, false);
+    }
+
+    @Benchmark
+    public long available() {
+        return inventory.available();
+    }
+
+    @Benchmark
+    public long allocateThenDeallocate() {
+        inventory.allocate(3L);
+        inventory.deallocate(3L);
+        return inventory.getAllocated();
+    }
+}
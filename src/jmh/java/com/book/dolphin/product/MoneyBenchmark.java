@@ -0,0 +1,26 @@
+package com.book.dolphin.product;
+
+import com.book.dolphin.product.domain.entity.Money;
+import java.math.BigDecimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private final Money won = Money.of(19_900L);
+    private final Money otherWon = Money.of(3_000L);
+    private final Money usd = Money.of(new BigDecimal("12.34"), "USD");
+    private final Money otherUsd = Money.of(new BigDecimal("0.99"), "USD");
+
+    @Benchmark
+    public Money plusKrw() {
+        return won.plus(otherWon);
+    }
+
+    @Benchmark
+    public Money plusScaled() {
+        return usd.plus(otherUsd);
+    }
+}
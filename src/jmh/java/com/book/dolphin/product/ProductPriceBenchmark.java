@@ -0,0 +1,64 @@
+package com.book.dolphin.product;
+
+import com.book.dolphin.product.domain.entity.DateRange;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductPrice;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 상품 가격 계산 경로. 가격 20건(정가 이력 5 + 할인 15)과 이미지 8장을 가진 상품 기준.
+ */
+@State(Scope.Benchmark)
+public class ProductPriceBenchmark {
+
+    private Product product;
+    private ProductPrice sale;
+    private DateRange probe;
+
+    @Setup
+    public void setUp() {
+        product = Product.builder().name("벤치마크 셔츠").content("본문").build();
+        for (int i = 0; i < 5; i++) {
+            product.addRepresentativeImage("https://cdn.example.com/rep-" + i + ".jpg", "대표" + i, i);
+        }
+        for (int i = 0; i < 3; i++) {
+            product.addContentImage("https://cdn.example.com/body-" + i + ".jpg", "본문" + i, i);
+        }
+
+        // 정가 이력 5건(마지막 1건만 활성)
+        for (int i = 0; i < 5; i++) {
+            product.setListPrice(Money.of(30_000L + i * 1_000L));
+        }
+        // 할인 15건: 과거 7, 현재 1, 미래 7 (서로 겹치지 않는 10일 구간)
+        LocalDateTime base = LocalDateTime.now().minusDays(75);
+        for (int i = 0; i < 15; i++) {
+            LocalDateTime from = base.plusDays(i * 10L);
+            product.setSalePrice(Money.of(20_000L + i * 100L),
+                    new DateRange(from, from.plusDays(9)));
+        }
+
+        sale = product.getPrices().get(product.getPrices().size() - 1);
+        probe = new DateRange(LocalDateTime.now(), LocalDateTime.now().plusDays(3));
+    }
+
+    @Benchmark
+    public Optional<Money> currentPrice() {
+        return product.currentPrice();
+    }
+
+    @Benchmark
+    public boolean isEffectiveNow() {
+        return sale.isEffectiveNow();
+    }
+
+    @Benchmark
+    public boolean overlaps() {
+        return sale.overlaps(probe);
+    }
+}
@@ -0,0 +1,106 @@
+package com.book.dolphin.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 공개 API만으로 부하 테스트 데이터를 만든다(카테고리 → 상품 → 배리언트 → 재고 → 공개).
+ */
+final class DataSeeder {
+
+    private static final int CHILDREN_PER_ROOT = 4;
+    private static final int VARIANTS_PER_PRODUCT = 2;
+    private static final long ON_HAND = 10_000_000L; // 측정 중 품절이 나지 않을 만큼
+
+    private final LoadHttpClient client;
+
+    DataSeeder(LoadHttpClient client) {
+        this.client = client;
+    }
+
+    record SeedData(List<Long> rootIds, List<Long> leafIds, List<Long> productIds,
+                    List<Long> inventoryIds) {
+
+    }
+
+    SeedData seed(int categories, int products) throws Exception {
+        List<Long> rootIds = new ArrayList<>();
+        List<Long> leafIds = new ArrayList<>();
+        for (int r = 0; r < categories; r++) {
+            long rootId = createCategory("루트" + r, "root-" + r, null);
+            rootIds.add(rootId);
+            for (int c = 0; c < CHILDREN_PER_ROOT; c++) {
+                leafIds.add(createCategory("카테고리" + r + "-" + c, "leaf-" + c, rootId));
+            }
+        }
+
+        List<Long> productIds = Collections.synchronizedList(new ArrayList<>());
+        List<Long> inventoryIds = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(products);
+            for (int i = 0; i < products; i++) {
+                int n = i;
+                long categoryId = leafIds.get(n % leafIds.size());
+                futures.add(pool.submit(() -> {
+                    long productId = createProduct(n, categoryId);
+                    productIds.add(productId);
+                    for (int v = 0; v < VARIANTS_PER_PRODUCT; v++) {
+                        inventoryIds.add(createInventory(productId, "LT-" + n + "-" + v));
+                    }
+                    client.postForData("/api/v1/products/" + productId + "/publish", Map.of());
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(); // 하나라도 실패하면 중단
+            }
+        }
+        return new SeedData(rootIds, leafIds, List.copyOf(productIds),
+                List.copyOf(inventoryIds));
+    }
+
+    private long createCategory(String name, String slug, Long parentId) throws Exception {
+        Map<String, Object> body = new HashMap<>();
+        body.put("name", name);
+        body.put("slug", slug);
+        body.put("status", "ACTIVE");
+        body.put("parentId", parentId);
+        return client.postForData("/api/v1/categories/create", body).path("id").asLong();
+    }
+
+    private long createProduct(int n, long categoryId) throws Exception {
+        long listPrice = 10_000L + (n % 200) * 500L;
+        List<Map<String, Object>> representatives = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            representatives.add(Map.of(
+                    "url", "https://cdn.example.com/lt/" + n + "/" + i + ".jpg",
+                    "altText", "대표" + i,
+                    "sortKey", i));
+        }
+        Map<String, Object> body = Map.of(
+                "name", "부하테스트 상품 " + n + (n % 3 == 0 ? " 셔츠" : " 니트"),
+                "content", "본문 " + n,
+                "price", Map.of("listPriceWon", listPrice),
+                "categories", List.of(Map.of("categoryId", categoryId, "primary", true,
+                        "sortKey", 0)),
+                "representatives", representatives
+        );
+        return client.postForData("/api/v1/products/create", body).path("id").asLong();
+    }
+
+    private long createInventory(long productId, String sku) throws Exception {
+        long variantId = client.postForData("/api/v1/variants",
+                Map.of("productId", productId, "skuCode", sku)).path("id").asLong();
+        return client.postForData("/api/v1/inventories", Map.of(
+                "variantId", variantId,
+                "onHand", ON_HAND,
+                "safetyStock", 0,
+                "backorderable", false)).path("id").asLong();
+    }
+}
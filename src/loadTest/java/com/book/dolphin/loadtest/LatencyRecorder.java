@@ -0,0 +1,64 @@
+package com.book.dolphin.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 클라이언트(스레드) 전용 지연 기록기. 락 없이 기록하고, 측정이 끝난 뒤 {@link #merge}로 합친다.
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long elapsedNanos, boolean ok) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = elapsedNanos;
+        if (!ok) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.nanos[i], true);
+        }
+        errors += other.errors;
+    }
+
+    /**
+     * 시나리오 요약(밀리초). 백분위는 nearest-rank.
+     */
+    Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        return new Summary(
+                size,
+                errors,
+                seconds <= 0 ? 0 : size / seconds,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.99)),
+                millis(percentile(sorted, 0.999)),
+                millis(size == 0 ? 0 : sorted[size - 1])
+        );
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0; // 마이크로초 단위까지
+    }
+
+    record Summary(long count, long errors, double throughputRps, double p50Ms, double p99Ms,
+                   double p999Ms, double maxMs) {
+
+    }
+}
@@ -0,0 +1,67 @@
+package com.book.dolphin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 부하 테스트용 얇은 HTTP 클라이언트. 하나의 {@link HttpClient}를 모든 가상 스레드가 공유한다.
+ */
+final class LoadHttpClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+
+    LoadHttpClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 측정용 호출. 본문은 버리고 상태 코드만 돌려준다.
+     */
+    int get(String path) throws IOException, InterruptedException {
+        return http.send(request(path).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    int post(String path, Object body) throws IOException, InterruptedException {
+        return http.send(json(request(path), body), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    /**
+     * 시딩용 호출. 2xx가 아니면 예외, 응답의 {@code data}를 돌려준다.
+     */
+    JsonNode postForData(String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> res = http.send(json(request(path), body),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (res.statusCode() / 100 != 2) {
+            throw new IllegalStateException("시딩 실패: POST " + path + " → " + res.statusCode()
+                    + " " + new String(res.body()));
+        }
+        return objectMapper.readTree(res.body()).path("data");
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, Object body) throws IOException {
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+}
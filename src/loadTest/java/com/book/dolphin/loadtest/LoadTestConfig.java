@@ -0,0 +1,71 @@
+package com.book.dolphin.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모두 시스템 프로퍼티({@code -Dloadtest.xxx}, Gradle에서는 {@code -Ploadtest.xxx})로 바꾼다.
+ *
+ * @param categories 루트 카테고리 수(루트마다 자식 4개, 상품은 자식에 연결)
+ * @param products   상품 수(상품마다 배리언트 2개 + 재고)
+ * @param clients    동시 클라이언트 수(가상 스레드, 응답을 받아야 다음 요청을 보내는 closed-loop)
+ * @param warmupSec  측정 전 워밍업 시간
+ * @param durationSec 측정 시간
+ * @param mix        시나리오별 가중치(예: {@code list=50,detail=30,allocate=15,category=5})
+ * @param baseUrl    대상 서버. 비우면 앱을 같은 프로세스에서 loadtest 프로필(H2 MySQL 모드)로 띄운다.
+ * @param output     요약 JSON 파일 경로
+ */
+record LoadTestConfig(
+        int categories,
+        int products,
+        int clients,
+        int warmupSec,
+        int durationSec,
+        Map<Scenario, Integer> mix,
+        String baseUrl,
+        Path output
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProp("loadtest.categories", 5),
+                intProp("loadtest.products", 500),
+                intProp("loadtest.clients", 64),
+                intProp("loadtest.warmupSec", 10),
+                intProp("loadtest.durationSec", 30),
+                parseMix(System.getProperty("loadtest.mix",
+                        "list=50,detail=30,allocate=15,category=5")),
+                System.getProperty("loadtest.baseUrl", ""),
+                Path.of(System.getProperty("loadtest.output",
+                        "build/reports/loadtest/summary.json"))
+        );
+    }
+
+    boolean embedded() {
+        return baseUrl.isBlank();
+    }
+
+    private static int intProp(String key, int defaultValue) {
+        String v = System.getProperty(key);
+        return v == null || v.isBlank() ? defaultValue : Integer.parseInt(v.trim());
+    }
+
+    static Map<Scenario, Integer> parseMix(String raw) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : raw.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.valueOf(kv[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 가중치가 0보다 큰 시나리오가 없습니다.");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,199 @@
+package com.book.dolphin.loadtest;
+
+import com.book.dolphin.DolphinApplication;
+import com.book.dolphin.loadtest.DataSeeder.SeedData;
+import com.book.dolphin.loadtest.LatencyRecorder.Summary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * HTTP 부하 테스트 진입점({@code ./gradlew loadTest}).
+ *
+ * <ol>
+ *   <li>대상 준비: {@code loadtest.baseUrl}이 없으면 앱을 loadtest 프로필(H2 MySQL 모드, 임의 포트)로 같은 JVM에 띄운다.</li>
+ *   <li>시딩: 공개 API로 카테고리/상품/배리언트/재고를 만든다.</li>
+ *   <li>워밍업 후 측정: 가상 스레드 클라이언트가 가중치대로 시나리오를 골라 closed-loop로 호출한다.</li>
+ *   <li>요약: 시나리오별 건수/오류/처리량/p50/p99/p999/max를 JSON으로 남긴다.</li>
+ * </ol>
+ *
+ * <p>같은 설정이면 같은 데이터/같은 비율로 돌기 때문에, 변경 전후 요약 파일을 비교해 회귀를 본다.
+ * 같은 JVM에서 서버와 클라이언트가 CPU를 나눠 쓰므로 절댓값보다는 상대 비교용이다.</p>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        ConfigurableApplicationContext app = null;
+        String baseUrl = config.baseUrl();
+        if (config.embedded()) {
+            app = SpringApplication.run(DolphinApplication.class,
+                    "--spring.profiles.active=loadtest", "--server.port=0");
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+        }
+
+        try {
+            LoadHttpClient client = new LoadHttpClient(baseUrl, objectMapper);
+            log("시딩 시작: categories=%d, products=%d", config.categories(), config.products());
+            long seedStart = System.nanoTime();
+            SeedData seed = new DataSeeder(client).seed(config.categories(), config.products());
+            log("시딩 완료: %.1fs", (System.nanoTime() - seedStart) / 1e9);
+
+            log("워밍업 %ds", config.warmupSec());
+            run(config, client, seed, config.warmupSec());
+
+            log("측정 %ds, clients=%d, mix=%s", config.durationSec(), config.clients(),
+                    config.mix());
+            Map<Scenario, LatencyRecorder> measured =
+                    run(config, client, seed, config.durationSec());
+
+            Map<String, Object> summary = summarize(config, baseUrl, measured);
+            Files.createDirectories(config.output().toAbsolutePath().getParent());
+            objectMapper.writeValue(config.output().toFile(), summary);
+            System.out.println(objectMapper.writeValueAsString(summary));
+            log("요약 저장: %s", config.output().toAbsolutePath());
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    /**
+     * 지정 시간 동안 클라이언트를 돌리고 시나리오별 기록을 합쳐 돌려준다.
+     */
+    private static Map<Scenario, LatencyRecorder> run(LoadTestConfig config,
+            LoadHttpClient client, SeedData seed, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Map<Scenario, LatencyRecorder>> perClient = new ArrayList<>(config.clients());
+        Scenario[] wheel = weightedWheel(config.mix());
+
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.clients(); i++) {
+                Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+                for (Scenario s : Scenario.values()) {
+                    recorders.put(s, new LatencyRecorder());
+                }
+                perClient.add(recorders);
+                pool.submit(() -> {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Scenario s = wheel[rnd.nextInt(wheel.length)];
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = call(client, seed, s, rnd) / 100 == 2;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        recorders.get(s).record(System.nanoTime() - start, ok);
+                    }
+                });
+            }
+        } // close()가 모든 클라이언트 종료를 기다린다
+
+        Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+        for (Scenario s : Scenario.values()) {
+            LatencyRecorder total = new LatencyRecorder();
+            for (Map<Scenario, LatencyRecorder> r : perClient) {
+                total.merge(r.get(s));
+            }
+            merged.put(s, total);
+        }
+        return merged;
+    }
+
+    private static int call(LoadHttpClient client, SeedData seed, Scenario scenario,
+            ThreadLocalRandom rnd) throws Exception {
+        return switch (scenario) {
+            case LIST -> {
+                int pages = Math.max(1, seed.productIds().size() / 20);
+                String path = "/api/v1/products/list?size=20&page=" + rnd.nextInt(pages);
+                if (rnd.nextInt(4) == 0) {
+                    path += "&categoryId=" + pick(seed.leafIds(), rnd);
+                } else if (rnd.nextInt(4) == 0) {
+                    path += "&priceMin=20000&priceMax=60000&sort=PRICE_ASC";
+                }
+                yield client.get(path);
+            }
+            case DETAIL -> client.get("/api/v1/products/" + pick(seed.productIds(), rnd));
+            case ALLOCATE -> client.post(
+                    "/api/v1/inventories/" + pick(seed.inventoryIds(), rnd) + "/allocate",
+                    Map.of("quantity", 1, "reason", "loadtest"));
+            case CATEGORY -> rnd.nextBoolean()
+                    ? client.get("/api/v1/categories?view=mega&selectedRootId="
+                    + pick(seed.rootIds(), rnd))
+                    : client.get("/api/v1/categories/" + pick(seed.leafIds(), rnd)
+                            + "?include=children,siblings,breadcrumb");
+        };
+    }
+
+    private static long pick(List<Long> ids, ThreadLocalRandom rnd) {
+        return ids.get(rnd.nextInt(ids.size()));
+    }
+
+    // 가중치만큼 시나리오를 반복해 넣은 배열(무작위 인덱스 하나로 비율대로 뽑힌다)
+    private static Scenario[] weightedWheel(Map<Scenario, Integer> mix) {
+        List<Scenario> wheel = new ArrayList<>();
+        mix.forEach((s, w) -> {
+            for (int i = 0; i < w; i++) {
+                wheel.add(s);
+            }
+        });
+        return wheel.toArray(Scenario[]::new);
+    }
+
+    private static Map<String, Object> summarize(LoadTestConfig config, String baseUrl,
+            Map<Scenario, LatencyRecorder> measured) {
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        LatencyRecorder overall = new LatencyRecorder();
+        measured.forEach((s, r) -> {
+            if (config.mix().containsKey(s)) {
+                scenarios.put(s.name(), r.summarize(config.durationSec()));
+                overall.merge(r);
+            }
+        });
+        Summary total = overall.summarize(config.durationSec());
+
+        Map<String, Object> configOut = new LinkedHashMap<>();
+        configOut.put("target", config.embedded() ? "embedded-h2" : baseUrl);
+        configOut.put("categories", config.categories());
+        configOut.put("products", config.products());
+        configOut.put("clients", config.clients());
+        configOut.put("warmupSec", config.warmupSec());
+        configOut.put("durationSec", config.durationSec());
+        configOut.put("mix", config.mix());
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("finishedAt", Instant.now().toString());
+        out.put("config", configOut);
+        out.put("overall", total);
+        out.put("scenarios", scenarios);
+        return out;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,23 @@
+package com.book.dolphin.loadtest;
+
+/**
+ * 부하 시나리오. 실제 트래픽 비율은 {@link LoadTestConfig#mix()} 가중치로 정한다.
+ */
+enum Scenario {
+    /**
+     * 상품 목록(오프셋 페이지, 가끔 카테고리/가격 필터)
+     */
+    LIST,
+    /**
+     * 상품 상세
+     */
+    DETAIL,
+    /**
+     * 단건 재고 할당(쓰기)
+     */
+    ALLOCATE,
+    /**
+     * 카테고리 메가메뉴/상세
+     */
+    CATEGORY
+}
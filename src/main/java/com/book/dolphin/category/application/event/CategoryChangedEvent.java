@@ -0,0 +1,20 @@
+package com.book.dolphin.category.application.event;
+
+/**
+ * 카테고리 트리 변경 알림(트리 스냅샷 갱신용). 커밋 후 리스너에서 소비한다.
+ *
+ * @param categoryId 변경 기준 카테고리(서브트리 이동/삭제면 서브트리 루트)
+ * @param cause      변경 원인
+ */
+public record CategoryChangedEvent(
+        Long categoryId,
+        Cause cause
+) {
+
+    public enum Cause {
+        CREATED,
+        UPDATED,
+        MOVED,
+        DELETED
+    }
+}
@@ -14,6 +14,8 @@ import com.book.dolphin.category.application.dto.response.CategoryDetailResponse
 import com.book.dolphin.category.application.dto.response.CreateCategoryResponse;
 import com.book.dolphin.category.application.dto.response.MegaMenuResponse;
 import com.book.dolphin.category.application.dto.response.MoveCategoryResponse;
+import com.book.dolphin.category.application.event.CategoryChangedEvent;
+import com.book.dolphin.category.application.event.CategoryChangedEvent.Cause;
 import com.book.dolphin.category.domain.entity.Category;
 import com.book.dolphin.category.domain.entity.CategoryClosure;
 import com.book.dolphin.category.domain.entity.CategoryStatus;
@@ -29,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +44,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryClosureRepository categoryClosureRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CreateCategoryResponse create(CreateCategoryRequest request) {
@@ -100,6 +104,7 @@ public class CategoryService {
             }
         }
         categoryClosureRepository.saveAll(closures);
+        publishChanged(saved.getId(), Cause.CREATED);
 
         // 4) 응답
         return CreateCategoryResponse.of(
@@ -114,6 +119,9 @@ public class CategoryService {
         );
     }
 
+    /**
+     * DB 조회 버전. API 조회는 {@link CategoryTreeQueryService}(메모리 스냅샷)가 담당한다.
+     */
     @Transactional(readOnly = true)
     public MegaMenuResponse getMegaMenu(Long selectedRootId, boolean activeOnly) {
         // 1) 루트 목록 조회
@@ -194,6 +202,9 @@ public class CategoryService {
         return new MegaMenuResponse(rootsDto, selectedDto, childrenDto);
     }
 
+    /**
+     * DB 조회 버전. API 조회는 {@link CategoryTreeQueryService}(메모리 스냅샷)가 담당한다.
+     */
     @Transactional(readOnly = true)
     public CategoryDetailResponse getDetail(Long id, boolean activeOnly, Set<String> include) {
         // 0) 대상 카테고리 로딩
@@ -290,6 +301,7 @@ public class CategoryService {
         category.changeImageUrl(request.imageUrl());
         category.changeSortOrder(request.sortOrder());
         category.changeStatus(request.status());
+        publishChanged(id, Cause.UPDATED);
     }
 
 
@@ -441,6 +453,7 @@ public class CategoryService {
         }
 
         categoryClosureRepository.saveAll(insertLinks);
+        publishChanged(id, Cause.MOVED);
 
         // 8) 응답 조립
         Long newParentIdOrNull = (newParent == null) ? null : newParent.getId();
@@ -519,9 +532,15 @@ public class CategoryService {
             }
         }
 
+        publishChanged(id, Cause.DELETED);
         return totalDeleted;
     }
 
+    // 트리 스냅샷은 커밋 후 리스너가 다시 만든다(롤백되면 이벤트도 버려짐)
+    private void publishChanged(Long categoryId, Cause cause) {
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId, cause));
+    }
+
     /**
      * 대량 IN 삭제 시 DB 제한과 성능을 고려해 리스트를 적절한 크기로 나눕니다.
      *
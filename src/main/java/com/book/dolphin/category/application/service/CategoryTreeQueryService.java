@@ -0,0 +1,158 @@
+package com.book.dolphin.category.application.service;
+
+import com.book.dolphin.category.application.dto.response.BreadcrumbNode;
+import com.book.dolphin.category.application.dto.response.CategoryDetailResponse;
+import com.book.dolphin.category.application.dto.response.MegaMenuResponse;
+import com.book.dolphin.category.application.tree.CategoryTreeCache;
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
+import com.book.dolphin.category.domain.exception.CategoryErrorCode;
+import com.book.dolphin.category.domain.exception.CategoryException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 카테고리 조회 전용 서비스(메모리 트리 스냅샷 기반, 쿼리 0회).
+ *
+ * <p>응답 형태와 필터/정렬 규칙은 {@link CategoryService}의 DB 조회 버전과 같다.
+ * 트랜잭션을 열지 않으므로 커넥션도 점유하지 않는다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryTreeQueryService {
+
+    private final CategoryTreeCache treeCache;
+
+    public MegaMenuResponse getMegaMenu(Long selectedRootId, boolean activeOnly) {
+        return getMegaMenu(treeCache.current(), selectedRootId, activeOnly);
+    }
+
+    /**
+     * 주어진 스냅샷 기준 메가메뉴(응답 캐시가 스냅샷 세대와 응답을 맞추는 용도).
+     */
+    MegaMenuResponse getMegaMenu(CategoryTreeSnapshot tree, Long selectedRootId,
+            boolean activeOnly) {
+        // 1) 루트 목록 (노출 필터 적용)
+        List<Integer> roots = new ArrayList<>(tree.rootCount());
+        for (int k = 0; k < tree.rootCount(); k++) {
+            int r = tree.root(k);
+            if (tree.visible(r, activeOnly)) {
+                roots.add(r);
+            }
+        }
+        if (roots.isEmpty()) {
+            return new MegaMenuResponse(List.of(), null, List.of());
+        }
+
+        // 2) 선택 루트 결정 (요청한 rootId가 노출 루트가 아니면 첫 번째 루트로 대체)
+        int requested = tree.indexOf(selectedRootId);
+        int selected = roots.contains(requested) ? requested : roots.get(0);
+
+        // 3) 루트 DTO + childCount 뱃지
+        List<MegaMenuResponse.Node> rootsDto = new ArrayList<>(roots.size());
+        for (int r : roots) {
+            rootsDto.add(new MegaMenuResponse.Node(
+                    tree.id(r),
+                    tree.name(r),
+                    tree.slug(r),
+                    tree.imageUrl(r),
+                    tree.visibleChildCount(r, activeOnly)
+            ));
+        }
+
+        MegaMenuResponse.SelectedRoot selectedDto = new MegaMenuResponse.SelectedRoot(
+                tree.id(selected),
+                tree.name(selected),
+                tree.slug(selected),
+                tree.imageUrl(selected)
+        );
+
+        // 4) 선택 루트의 직계 자식
+        List<MegaMenuResponse.Node> childrenDto = new ArrayList<>(tree.childCount(selected));
+        for (int k = 0; k < tree.childCount(selected); k++) {
+            int c = tree.child(selected, k);
+            if (tree.visible(c, activeOnly)) {
+                childrenDto.add(new MegaMenuResponse.Node(
+                        tree.id(c),
+                        tree.name(c),
+                        tree.slug(c),
+                        tree.imageUrl(c),
+                        null // 자식 뱃지는 메가 메뉴 2뎁스에서는 보통 표시 안 함
+                ));
+            }
+        }
+
+        return new MegaMenuResponse(rootsDto, selectedDto, childrenDto);
+    }
+
+    public CategoryDetailResponse getDetail(Long id, boolean activeOnly, Set<String> include) {
+        CategoryTreeSnapshot tree = treeCache.current();
+
+        // 0) 대상 카테고리
+        int idx = tree.indexOf(id);
+        if (idx < 0 || !tree.visible(idx, activeOnly)) {
+            throw new CategoryException(CategoryErrorCode.CATEGORY_NOT_FOUND, id);
+        }
+
+        // 1) 브레드크럼 (루트 → 부모, 노출 필터 적용)
+        int[] ancestors = tree.ancestors(idx);
+        List<BreadcrumbNode> breadcrumb = new ArrayList<>(ancestors.length);
+        for (int a : ancestors) {
+            if (tree.visible(a, activeOnly)) {
+                breadcrumb.add(new BreadcrumbNode(tree.id(a), tree.name(a), tree.slug(a)));
+            }
+        }
+
+        // 2) children (옵션)
+        List<CategoryDetailResponse.Node> children = new ArrayList<>();
+        if (include.contains("children")) {
+            for (int k = 0; k < tree.childCount(idx); k++) {
+                addIfVisible(tree, tree.child(idx, k), activeOnly, children);
+            }
+        }
+
+        // 3) siblings (옵션) - 부모가 없으면 "다른 루트들"
+        List<CategoryDetailResponse.Node> siblings = new ArrayList<>();
+        if (include.contains("siblings")) {
+            int parent = tree.parent(idx);
+            int count = parent < 0 ? tree.rootCount() : tree.childCount(parent);
+            for (int k = 0; k < count; k++) {
+                int s = parent < 0 ? tree.root(k) : tree.child(parent, k);
+                if (s != idx) {
+                    addIfVisible(tree, s, activeOnly, siblings);
+                }
+            }
+        }
+
+        // 4) roots (옵션)
+        List<CategoryDetailResponse.Node> roots = new ArrayList<>();
+        if (include.contains("roots")) {
+            for (int k = 0; k < tree.rootCount(); k++) {
+                addIfVisible(tree, tree.root(k), activeOnly, roots);
+            }
+        }
+
+        return new CategoryDetailResponse(toNode(tree, idx), breadcrumb, children, siblings,
+                roots);
+    }
+
+    private static void addIfVisible(CategoryTreeSnapshot tree, int idx, boolean activeOnly,
+            List<CategoryDetailResponse.Node> out) {
+        if (tree.visible(idx, activeOnly)) {
+            out.add(toNode(tree, idx));
+        }
+    }
+
+    private static CategoryDetailResponse.Node toNode(CategoryTreeSnapshot tree, int idx) {
+        return new CategoryDetailResponse.Node(
+                tree.id(idx),
+                tree.name(idx),
+                tree.slug(idx),
+                tree.path(idx),
+                tree.depth(idx),
+                tree.imageUrl(idx)
+        );
+    }
+}
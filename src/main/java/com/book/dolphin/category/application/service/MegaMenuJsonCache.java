@@ -0,0 +1,82 @@
+package com.book.dolphin.category.application.service;
+
+import com.book.dolphin.category.application.dto.response.MegaMenuResponse;
+import com.book.dolphin.category.application.tree.CategoryTreeCache;
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
+import com.book.dolphin.common.response.ApiResponse;
+import com.book.dolphin.common.response.ResultCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 메가메뉴 응답 본문(JSON 바이트)과 ETag 캐시.
+ *
+ * <p>메가메뉴는 (선택 루트, activeOnly)와 트리 스냅샷에만 의존하므로, 직렬화 결과를 키별로 보관해
+ * 요청마다 DTO 조립/Jackson 직렬화를 하지 않는다.</p>
+ *
+ * <ul>
+ *   <li>키: 요청한 selectedRootId가 실제 루트가 아니면 null(기본 선택)로 접어, 키 수가 루트 수 × 2를 넘지 않는다.</li>
+ *   <li>무효화: 항목마다 만든 시점의 스냅샷 세대를 기록한다. 카테고리 쓰기가 커밋되어 세대가 바뀌면
+ *       기존 항목은 모두 버리고 새 스냅샷으로 다시 만든다.</li>
+ *   <li>ETag: 본문 MD5(강한 검증자). 내용이 같으면 재시작/다른 인스턴스에서도 같은 값이 나온다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class MegaMenuJsonCache {
+
+    private final CategoryTreeCache treeCache;
+    private final CategoryTreeQueryService queryService;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long generation = -1L;
+
+    public Entry get(Long selectedRootId, boolean activeOnly) {
+        CategoryTreeSnapshot tree = treeCache.current();
+        if (tree.generation() != generation) {
+            entries.clear();
+            generation = tree.generation();
+        }
+
+        int idx = tree.indexOf(selectedRootId);
+        Key key = new Key(idx >= 0 && tree.parent(idx) < 0 ? selectedRootId : null, activeOnly);
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.generation() == tree.generation()) {
+            return cached;
+        }
+        Entry fresh = serialize(tree, key);
+        entries.put(key, fresh);
+        return fresh;
+    }
+
+    private Entry serialize(CategoryTreeSnapshot tree, Key key) {
+        MegaMenuResponse res = queryService.getMegaMenu(tree, key.selectedRootId(),
+                key.activeOnly());
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(
+                    new ApiResponse<>(ResultCode.SUCCESS, null, res));
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new Entry(tree.generation(), body, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메가메뉴 직렬화 실패", e);
+        }
+    }
+
+    private record Key(Long selectedRootId, boolean activeOnly) {
+
+    }
+
+    /**
+     * @param body 직렬화된 {@code ApiResponse<MegaMenuResponse>} (호출자는 수정하지 말 것)
+     * @param etag 따옴표를 포함한 강한 ETag
+     */
+    public record Entry(long generation, byte[] body, String etag) {
+
+    }
+}
@@ -0,0 +1,107 @@
+package com.book.dolphin.category.application.tree;
+
+import com.book.dolphin.category.application.event.CategoryChangedEvent;
+import com.book.dolphin.category.domain.repository.CategoryRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 현재 카테고리 트리 스냅샷 보관소.
+ *
+ * <p>조회는 {@link #current()}가 들고 있는 스냅샷을 그대로 돌려주므로 DB를 타지 않는다.
+ * 카테고리 쓰기가 커밋되면({@link CategoryChangedEvent}) 트리 전체를 쿼리 1번으로 다시 읽어
+ * 새 스냅샷으로 원자적으로 교체한다. 트리가 작고 쓰기가 드물어 부분 패치보다 전체 재구성이 단순하고 안전하다.</p>
+ *
+ * <ul>
+ *   <li>세대: 변경 커밋마다 {@code requested}를 올리고, 스냅샷은 재구성 시작 시점의 세대를 기록한다.
+ *       스냅샷 세대가 요청 세대보다 낮으면 아직 반영 안 된 커밋이 있다는 뜻이다.</li>
+ *   <li>동시 커밋: 재구성은 락 하나로 직렬화하고, 락을 얻었을 때 이미 최신이면 건너뛴다(연속 커밋 병합).</li>
+ *   <li>실패: 재구성에 실패하면 기존 스냅샷을 유지하고, 다음 조회 때 다시 시도한다.</li>
+ *   <li>다른 인스턴스: 변경 이벤트는 이 JVM에서 커밋된 쓰기에만 온다. 다른 인스턴스의 쓰기는
+ *       {@link CategoryTreeReconciler}가 주기적으로 {@link #reconcile()}을 불러 반영한다.
+ *       따라서 다른 인스턴스의 변경은 최대 그 주기만큼 늦게 보인다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategoryTreeSnapshot> current = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong(1L);
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 최신 스냅샷. 첫 호출이거나 직전 재구성이 실패해 뒤처진 경우에만 DB를 읽는다.
+     */
+    public CategoryTreeSnapshot current() {
+        CategoryTreeSnapshot snapshot = current.get();
+        if (snapshot != null && snapshot.generation() >= requested.get()) {
+            return snapshot;
+        }
+        if (snapshot == null) {
+            return rebuild(); // 최초 적재 실패는 호출자에게 그대로 전파
+        }
+        try {
+            return rebuild();
+        } catch (RuntimeException e) {
+            log.warn("카테고리 트리 재구성 실패, 이전 스냅샷으로 응답: generation={}",
+                    snapshot.generation(), e);
+            return snapshot;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onCategoryChanged(CategoryChangedEvent event) {
+        requested.incrementAndGet();
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 쓰기 응답은 이미 커밋됨. 다음 조회가 뒤처진 세대를 보고 다시 시도한다.
+            log.error("카테고리 트리 재구성 실패: categoryId={}, cause={}",
+                    event.categoryId(), event.cause(), e);
+        }
+    }
+
+    /**
+     * 세대를 올리고 트리를 다시 읽는다. 아직 한 번도 적재하지 않았으면 첫 조회에 맡긴다.
+     */
+    public void reconcile() {
+        if (current.get() == null) {
+            return;
+        }
+        requested.incrementAndGet();
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("카테고리 트리 주기 재구성 실패, 다음 조회 때 다시 시도", e);
+        }
+    }
+
+    private CategoryTreeSnapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            // 세대를 먼저 읽고 DB를 읽는다 → 이 세대까지의 커밋은 모두 결과에 포함된다.
+            long target = requested.get();
+            CategoryTreeSnapshot snapshot = current.get();
+            if (snapshot != null && snapshot.generation() >= target) {
+                return snapshot; // 대기하는 동안 다른 스레드가 이미 반영
+            }
+            CategoryTreeSnapshot fresh =
+                    CategoryTreeSnapshot.of(target, categoryRepository.findAllForTree());
+            current.set(fresh);
+            log.debug("카테고리 트리 재구성: {}", fresh);
+            return fresh;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
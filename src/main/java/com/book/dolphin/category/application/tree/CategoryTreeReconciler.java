@@ -0,0 +1,22 @@
+package com.book.dolphin.category.application.tree;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 커밋된 카테고리 쓰기를 반영하기 위해 트리 스냅샷을 주기적으로 다시 만든다.
+ *
+ * <p>트리는 쿼리 한 번으로 읽을 만큼 작다. 메가메뉴 ETag는 본문 해시라 내용이 같으면 재구성 후에도 바뀌지 않는다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+class CategoryTreeReconciler {
+
+    private final CategoryTreeCache treeCache;
+
+    @Scheduled(fixedDelayString = "${dolphin.category.tree.reconcile-interval-ms:30000}")
+    void reconcile() {
+        treeCache.reconcile();
+    }
+}
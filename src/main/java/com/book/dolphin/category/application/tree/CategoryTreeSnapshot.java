@@ -0,0 +1,245 @@
+package com.book.dolphin.category.application.tree;
+
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.repository.CategoryRepository.CategoryTreeRow;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리 전체의 불변 스냅샷(배열 기반).
+ *
+ * <p>노드는 0..size-1 인덱스로 다루며, 속성은 인덱스별 병렬 배열에 담는다.
+ * 루트/자식 목록은 {@code sortOrder asc, name asc} 순(DB 조회와 같은 순서)으로 미리 정렬해 둔다.</p>
+ *
+ * <p>한 번 만들어지면 바뀌지 않으므로 락 없이 여러 스레드가 동시에 읽어도 된다.
+ * 변경은 {@link CategoryTreeCache}가 새 스냅샷을 만들어 통째로 교체하는 방식(copy-on-write)으로만 반영된다.</p>
+ */
+public final class CategoryTreeSnapshot {
+
+    private static final int[] NONE = new int[0];
+
+    private final long generation;
+    private final Map<Long, Integer> indexById;
+
+    private final long[] ids;
+    private final int[] parents;      // 부모 인덱스(루트는 -1)
+    private final int[] depths;
+    private final String[] names;
+    private final String[] slugs;
+    private final String[] paths;
+    private final String[] imageUrls;
+    private final CategoryStatus[] statuses;
+
+    private final int[] roots;
+    private final int[][] children;
+
+    private CategoryTreeSnapshot(long generation, Map<Long, Integer> indexById, long[] ids,
+            int[] parents, int[] depths, String[] names, String[] slugs, String[] paths,
+            String[] imageUrls, CategoryStatus[] statuses, int[] roots, int[][] children) {
+        this.generation = generation;
+        this.indexById = indexById;
+        this.ids = ids;
+        this.parents = parents;
+        this.depths = depths;
+        this.names = names;
+        this.slugs = slugs;
+        this.paths = paths;
+        this.imageUrls = imageUrls;
+        this.statuses = statuses;
+        this.roots = roots;
+        this.children = children;
+    }
+
+    /**
+     * DB 행 목록으로 스냅샷을 만든다.
+     *
+     * @param generation 스냅샷 세대(갱신 요청 순번). 캐시가 최신 여부를 판단하는 데 쓴다.
+     */
+    public static CategoryTreeSnapshot of(long generation, List<? extends CategoryTreeRow> rows) {
+        int size = rows.size();
+        Map<Long, Integer> indexById = new HashMap<>(Math.max(16, size * 2));
+        long[] ids = new long[size];
+        int[] parents = new int[size];
+        int[] depths = new int[size];
+        int[] sortOrders = new int[size];
+        String[] names = new String[size];
+        String[] slugs = new String[size];
+        String[] paths = new String[size];
+        String[] imageUrls = new String[size];
+        CategoryStatus[] statuses = new CategoryStatus[size];
+
+        // 1) 노드 속성 채우기 + id → 인덱스
+        for (int i = 0; i < size; i++) {
+            CategoryTreeRow r = rows.get(i);
+            ids[i] = r.getId();
+            depths[i] = r.getDepth() == null ? 0 : r.getDepth();
+            sortOrders[i] = r.getSortOrder() == null ? 0 : r.getSortOrder();
+            names[i] = r.getName();
+            slugs[i] = r.getSlug();
+            paths[i] = r.getPath();
+            imageUrls[i] = r.getImageUrl();
+            statuses[i] = r.getStatus();
+            indexById.put(r.getId(), i);
+        }
+
+        // 2) 부모 연결 및 부모별 자식 수집
+        List<List<Integer>> buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(null);
+        }
+        List<Integer> rootList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Long parentId = rows.get(i).getParentId();
+            Integer p = parentId == null ? null : indexById.get(parentId);
+            parents[i] = p == null ? -1 : p;
+            if (parentId == null) {
+                rootList.add(i);
+            } else if (p != null) {
+                if (buckets.get(p) == null) {
+                    buckets.set(p, new ArrayList<>());
+                }
+                buckets.get(p).add(i);
+            }
+            // 부모 행이 없는 고아 노드는 어느 목록에도 걸지 않는다(단건 조회만 가능)
+        }
+
+        // 3) 정렬: sortOrder asc, name asc (동률은 id로 고정)
+        Comparator<Integer> order = Comparator
+                .<Integer>comparingInt(i -> sortOrders[i])
+                .thenComparing(i -> names[i], Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(i -> ids[i]);
+        int[][] children = new int[size][];
+        for (int i = 0; i < size; i++) {
+            children[i] = sorted(buckets.get(i), order);
+        }
+
+        return new CategoryTreeSnapshot(generation, Map.copyOf(indexById), ids, parents, depths,
+                names, slugs, paths, imageUrls, statuses, sorted(rootList, order), children);
+    }
+
+    public static CategoryTreeSnapshot empty() {
+        return of(0L, List.of());
+    }
+
+    private static int[] sorted(List<Integer> idx, Comparator<Integer> order) {
+        if (idx == null || idx.isEmpty()) {
+            return NONE;
+        }
+        idx.sort(order);
+        return idx.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return 노드 인덱스, 없으면 -1
+     */
+    public int indexOf(Long id) {
+        Integer idx = id == null ? null : indexById.get(id);
+        return idx == null ? -1 : idx;
+    }
+
+    public long id(int idx) {
+        return ids[idx];
+    }
+
+    /**
+     * @return 부모 인덱스, 루트(또는 고아)면 -1
+     */
+    public int parent(int idx) {
+        return parents[idx];
+    }
+
+    public int depth(int idx) {
+        return depths[idx];
+    }
+
+    public String name(int idx) {
+        return names[idx];
+    }
+
+    public String slug(int idx) {
+        return slugs[idx];
+    }
+
+    public String path(int idx) {
+        return paths[idx];
+    }
+
+    public String imageUrl(int idx) {
+        return imageUrls[idx];
+    }
+
+    public CategoryStatus status(int idx) {
+        return statuses[idx];
+    }
+
+    /**
+     * 노출 필터. {@code activeOnly=false}면 모두 통과.
+     */
+    public boolean visible(int idx, boolean activeOnly) {
+        return !activeOnly || statuses[idx] == CategoryStatus.ACTIVE;
+    }
+
+    public int rootCount() {
+        return roots.length;
+    }
+
+    public int root(int k) {
+        return roots[k];
+    }
+
+    public int childCount(int idx) {
+        return children[idx].length;
+    }
+
+    public int child(int idx, int k) {
+        return children[idx][k];
+    }
+
+    /**
+     * 필터를 통과하는 직계 자식 수(뱃지용).
+     */
+    public int visibleChildCount(int idx, boolean activeOnly) {
+        if (!activeOnly) {
+            return children[idx].length;
+        }
+        int n = 0;
+        for (int c : children[idx]) {
+            if (visible(c, true)) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 조상 인덱스 목록(루트 → 부모 순, 자기 자신 제외).
+     */
+    public int[] ancestors(int idx) {
+        int n = 0;
+        // 데이터가 꼬여 순환이 생겨도 멈추도록 노드 수로 상한을 둔다
+        for (int p = parents[idx]; p >= 0 && n < ids.length; p = parents[p]) {
+            n++;
+        }
+        int[] out = new int[n];
+        for (int p = parents[idx]; n > 0; p = parents[p]) {
+            out[--n] = p;
+        }
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryTreeSnapshot{generation=" + generation + ", size=" + ids.length + '}';
+    }
+}
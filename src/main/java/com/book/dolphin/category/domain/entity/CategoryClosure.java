@@ -9,10 +9,14 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(
@@ -26,7 +30,7 @@ import lombok.NoArgsConstructor;
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CategoryClosure {
+public class CategoryClosure implements Persistable<CategoryClosureId> {
 
     @EmbeddedId
     private CategoryClosureId id;
@@ -51,6 +55,12 @@ public class CategoryClosure {
     @Column(name = "depth", nullable = false)
     private int depth;
 
+    /**
+     * 할당형 복합키라 save()가 merge(행마다 SELECT)로 빠지지 않도록 신규 여부를 직접 알린다.
+     */
+    @Transient
+    private boolean isNew = true;
+
     private CategoryClosure(CategoryClosureId id, Category ancestor, Category descendant,
             int depth) {
         this.id = id;
@@ -59,6 +69,17 @@ public class CategoryClosure {
         this.depth = depth;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public static CategoryClosure create(Category ancestor, Category descendant, int depth) {
         return new CategoryClosure(
                 CategoryClosureId.create(ancestor.getId(), descendant.getId()),
@@ -1,6 +1,7 @@
 package com.book.dolphin.category.domain.repository;
 
 import com.book.dolphin.category.domain.entity.Category;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -127,4 +128,26 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Modifying
     @Query("delete from Category c where c.id in :ids")
     int deleteAllByIdsIn(List<Long> ids);
-}
\ No newline at end of file
+
+    // 트리 스냅샷 적재용: 엔티티 없이 스칼라만 한 번에 읽는다(부모는 FK 값만)
+    @Query("""
+        select c.id as id, p.id as parentId, c.name as name, c.slug as slug, c.path as path,
+               c.depth as depth, c.sortOrder as sortOrder, c.status as status,
+               c.imageUrl as imageUrl
+        from Category c
+          left join c.parent p
+    """)
+    List<CategoryTreeRow> findAllForTree();
+
+    interface CategoryTreeRow {
+        Long getId();
+        Long getParentId();
+        String getName();
+        String getSlug();
+        String getPath();
+        Integer getDepth();
+        Integer getSortOrder();
+        CategoryStatus getStatus();
+        String getImageUrl();
+    }
+}
@@ -5,9 +5,10 @@ import com.book.dolphin.category.application.dto.request.MoveCategoryRequest;
 import com.book.dolphin.category.application.dto.request.UpdateCategoryRequest;
 import com.book.dolphin.category.application.dto.response.CategoryDetailResponse;
 import com.book.dolphin.category.application.dto.response.CreateCategoryResponse;
-import com.book.dolphin.category.application.dto.response.MegaMenuResponse;
 import com.book.dolphin.category.application.dto.response.MoveCategoryResponse;
 import com.book.dolphin.category.application.service.CategoryService;
+import com.book.dolphin.category.application.service.CategoryTreeQueryService;
+import com.book.dolphin.category.application.service.MegaMenuJsonCache;
 import com.book.dolphin.common.response.ApiResponse;
 import com.book.dolphin.common.response.ResultCode;
 import jakarta.validation.Valid;
@@ -15,7 +16,9 @@ import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,6 +36,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryTreeQueryService categoryTreeQueryService;
+    private final MegaMenuJsonCache megaMenuJsonCache;
 
     @PostMapping("/create")
     public ResponseEntity<ApiResponse<CreateCategoryResponse>> create(
@@ -49,8 +54,13 @@ public class CategoryController {
                 );
     }
 
+    /**
+     * 메가메뉴. 직렬화된 본문을 캐시에서 그대로 내려주며, If-None-Match가 일치하면 304(본문 없음)로 응답한다.
+     *
+     * @see MegaMenuJsonCache
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<MegaMenuResponse>> getMegaMenu(
+    public ResponseEntity<?> getMegaMenu(
             @RequestParam(required = false) String view,
             @RequestParam(required = false) Long selectedRootId,
             @RequestParam(defaultValue = "true") boolean activeOnly
@@ -60,8 +70,13 @@ public class CategoryController {
             return ResponseEntity.badRequest().body(
                     new ApiResponse<>(ResultCode.ERROR, "지원하지 않는 view 입니다.", null));
         }
-        MegaMenuResponse res = categoryService.getMegaMenu(selectedRootId, activeOnly);
-        return ResponseEntity.ok(new ApiResponse<>(ResultCode.SUCCESS, null, res));
+        // If-None-Match 비교와 304 변환은 ResponseEntity의 ETag로 스프링이 처리한다
+        MegaMenuJsonCache.Entry cached = megaMenuJsonCache.get(selectedRootId, activeOnly);
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(CacheControl.noCache()) // 매번 재검증(내용이 바뀌면 바로 반영)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.body());
     }
 
     @GetMapping("/{id}")
@@ -76,7 +91,7 @@ public class CategoryController {
                 .map(String::toLowerCase)
                 .collect(Collectors.toSet());
 
-        CategoryDetailResponse response = categoryService.getDetail(id, activeOnly, includeSet);
+        CategoryDetailResponse response = categoryTreeQueryService.getDetail(id, activeOnly, includeSet);
         return ResponseEntity.ok(new ApiResponse<>(ResultCode.SUCCESS, null, response));
     }
 
@@ -0,0 +1,17 @@
+package com.book.dolphin.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 작업(재고 카운터 플러시 등)을 위한 스케줄링 활성화.
+ *
+ * @implNote 메인 클래스가 아닌 별도 설정으로 분리해 {@code @DataJpaTest} 같은 슬라이스 테스트에서는
+ * 스케줄러가 뜨지 않도록 한다.
+ * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
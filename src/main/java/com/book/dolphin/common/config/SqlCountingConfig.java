@@ -0,0 +1,36 @@
+package com.book.dolphin.common.config;
+
+import com.book.dolphin.common.persistence.SqlCountingDataSource;
+import com.book.dolphin.common.persistence.SqlStatementCounter;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * DataSource 빈을 {@link SqlCountingDataSource}로 감싸 JPA/JDBC SQL을 {@link SqlStatementCounter}에 센다.
+ *
+ * @implNote 슬라이스 테스트({@code @DataJpaTest})는 컴포넌트 스캔 설정을 올리지 않으므로
+ * {@code META-INF/spring/...AutoConfigureDataJpa.imports}(테스트 리소스)로 함께 올린다.
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class SqlCountingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.book.dolphin.common.config;
+
+import com.book.dolphin.common.persistence.SqlCountMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 엔드포인트별 SQL 수 지표({@link SqlCountMetricsInterceptor}) 등록. 기본은 꺼져 있다.
+ *
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "dolphin.sql.metrics", name = "enabled", havingValue = "true")
+public class SqlMetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlMetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlCountMetricsInterceptor(meterRegistry));
+    }
+}
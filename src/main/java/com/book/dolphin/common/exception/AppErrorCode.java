@@ -26,6 +26,7 @@ public enum AppErrorCode implements ErrorCode {
     // 시스템/인프라
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "공통: 서버 내부 오류가 발생했습니다."),
     SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "공통: 서비스가 일시적으로 불가능합니다."),
+    DB_ADMISSION_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "공통: 데이터베이스 요청이 몰려 %sms 안에 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
     GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "공통: 게이트웨이 응답 시간이 초과되었습니다."),
     DEPENDENCY_FAILURE(HttpStatus.BAD_GATEWAY, "공통: 외부/하위 시스템 연동에 실패했습니다."),
     IO_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "공통: 입출력 처리 중 오류가 발생했습니다."),
@@ -35,8 +36,12 @@ public enum AppErrorCode implements ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "공통: 잘못된 입력입니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "공통: 허용되지 않은 HTTP 메서드입니다."),
     UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "공통: 지원하지 않는 콘텐츠 타입입니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "공통: Idempotency-Key는 영문/숫자/-/_ 1~%s자여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "공통: 같은 Idempotency-Key가 다른 요청에 이미 사용되었습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "공통: 같은 Idempotency-Key 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요."),
     // 리소스/상태
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "공통: 요청한 리소스를 찾을 수 없습니다."),
+    OPTIMISTIC_LOCK_CONFLICT(HttpStatus.CONFLICT, "공통: 다른 요청과 동시에 변경되어 처리하지 못했습니다. 다시 시도해 주세요."),
     RESP_BODY_WRITE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "공통: 응답 본문을 생성/쓰기 중 오류가 발생했습니다."),
     MEDIA_TYPE_NOT_ACCEPTABLE(HttpStatus.NOT_ACCEPTABLE, "공통: 요청한 응답 형식을 제공할 수 없습니다.");
 
@@ -1,10 +1,16 @@
 package com.book.dolphin.common.exception;
 
 import com.book.dolphin.common.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -21,17 +27,27 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * <ul>
  *   <li>{@link MethodArgumentNotValidException} → 400 + VALIDATION_FAILED + 필드별 오류</li>
  *   <li>{@link EntityNotFoundException} → 404 + ENTITY_NOT_FOUND</li>
+ *   <li>{@link OptimisticLockingFailureException} → 409 + OPTIMISTIC_LOCK_CONFLICT</li>
  *   <li>그 외 처리되지 않은 예외 → 500 + INTERNAL_SERVER_ERROR</li>
  * </ul>
  *
+ * <p>도메인 예외와 낙관적 락 충돌은 {@code app.errors}(code, domain) 카운터로도 집계한다.</p>
+ *
  * @apiNote 응답 본문은 {@link com.book.dolphin.common.response.ErrorResponse} 형식으로 고정됩니다.
  * @implNote PII/민감 정보를 message에 노출하지 않도록 주의하세요. rootCause는 로그에만 남깁니다.
  * @since 1.0
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    static final String ERROR_METRIC = "app.errors";
+
+    private final MeterRegistry meterRegistry;
+
+    // 에러 코드 → 카운터(요청마다 빌더/레지스트리 조회를 하지 않도록)
+    private final Map<ErrorCode, Counter> errorCounters = new ConcurrentHashMap<>();
 
     /**
      * 도메인 전용 예외를 매핑한다.
@@ -45,6 +61,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(AppException.class)
     public ResponseEntity<ErrorResponse> handleApp(AppException ex) {
         ErrorCode code = ex.getErrorCode();
+        countError(code);
         return ResponseEntity.status(code.getHttpStatus())
                 .body(ErrorResponse.of(code.getHttpStatus(), ex.getMessage())); // 포맷된 메시지
     }
@@ -181,6 +198,23 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * 낙관적 락 충돌(재시도 경로 밖이거나 재시도 없이 올라온 경우)을 409로 매핑한다.
+     *
+     * @param ex 버전 검사 실패
+     * @return 409 + 재시도 안내 메시지
+     * @apiNote 클라이언트는 최신 상태를 다시 읽고 재시도하면 된다.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(
+            OptimisticLockingFailureException ex) {
+        log.warn("낙관적 락 충돌(409): {}", rootCauseMessage(ex));
+        AppErrorCode code = AppErrorCode.OPTIMISTIC_LOCK_CONFLICT;
+        countError(code);
+        return ResponseEntity.status(code.getHttpStatus())
+                .body(ErrorResponse.of(code.getHttpStatus(), code.getMessageTemplate()));
+    }
+
     /**
      * 처리되지 않은 모든 예외를 500으로 매핑하는 안전망 핸들러.
      *
@@ -197,6 +231,20 @@ public class GlobalExceptionHandler {
                         AppErrorCode.INTERNAL_SERVER_ERROR.getMessageTemplate()));
     }
 
+    /**
+     * 에러 코드별 발생 횟수를 센다(태그 값은 에러 코드 enum 범위로 제한된다).
+     *
+     * <p>태그는 code = 에러 코드 이름, domain = 에러 코드가 속한 enum 이름이다.</p>
+     */
+    private void countError(ErrorCode code) {
+        errorCounters.computeIfAbsent(code, c -> Counter.builder(ERROR_METRIC)
+                        .tag("code", c instanceof Enum<?> e ? e.name()
+                                : c.getClass().getSimpleName())
+                        .tag("domain", c.getClass().getSimpleName())
+                        .register(meterRegistry))
+                .increment();
+    }
+
     /**
      * 예외 체인의 루트 원인 메시지를 추출한다.
      *
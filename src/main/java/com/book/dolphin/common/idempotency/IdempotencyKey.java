@@ -0,0 +1,49 @@
+package com.book.dolphin.common.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멱등 키 한 건(키 → 요청 지문 + 완료 응답).
+ *
+ * @implNote 스키마 정의용 매핑이다. 읽기/쓰기는 {@link IdempotencyKeyStore}가 JDBC로 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+})
+@Entity
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 64)
+    private String key;
+
+    /**
+     * 요청 지문(SHA-256 hex). 같은 키가 다른 요청에 재사용되면 거절한다.
+     */
+    @Column(name = "fingerprint", length = 64, nullable = false)
+    private String fingerprint;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Lob
+    @Column(name = "response_json", columnDefinition = "text")
+    private String responseJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
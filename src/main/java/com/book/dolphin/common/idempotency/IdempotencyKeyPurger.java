@@ -0,0 +1,34 @@
+package com.book.dolphin.common.idempotency;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 멱등 키를 주기적으로 지운다(테이블 크기를 TTL 동안의 요청 수로 제한).
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class IdempotencyKeyPurger {
+
+    private final IdempotencyKeyStore store;
+    private final IdempotencyProperties properties;
+
+    @Scheduled(fixedDelayString = "${dolphin.idempotency.purge-interval-ms:600000}")
+    void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = Math.max(1, properties.purgeBatchSize());
+        int total = 0;
+        int purged;
+        do {
+            purged = store.purgeExpired(now, batchSize);
+            total += purged;
+        } while (purged == batchSize);
+        if (total > 0) {
+            log.info("만료 멱등 키 삭제: {}건", total);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.book.dolphin.common.idempotency;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등 키 테이블 접근(JDBC, 문장마다 자동 커밋).
+ *
+ * <p>선점은 PK INSERT 한 번으로 인스턴스 간에도 하나만 성공한다. 완료되면 응답 JSON을 채우고,
+ * 실행이 실패하면 선점을 지워 같은 키로 다시 시도할 수 있게 한다.</p>
+ *
+ * <p>처리 중 행의 {@code expires_at}은 짧은 임대 기한이다. 선점한 인스턴스가 완료도 해제도 못 하고 죽으면
+ * 기한이 지난 뒤 다른 요청이 행을 지우고 다시 선점한다. 완료/해제는 선점 시각({@code created_at})이 같을
+ * 때만 반영해, 기한을 넘긴 옛 선점자가 새 선점자의 행을 덮거나 지우지 못하게 한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+class IdempotencyKeyStore {
+
+    private static final String SELECT_SQL = """
+            SELECT fingerprint, completed, response_json
+            FROM idempotency_keys
+            WHERE idempotency_key = ? AND expires_at > ?
+            """;
+
+    private static final String DELETE_EXPIRED_KEY_SQL = """
+            DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?
+            """;
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO idempotency_keys
+                (idempotency_key, fingerprint, completed, response_json, created_at, expires_at)
+            VALUES (?, ?, FALSE, NULL, ?, ?)
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys SET completed = TRUE, response_json = ?, expires_at = ?
+            WHERE idempotency_key = ? AND created_at = ? AND completed = FALSE
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM idempotency_keys
+            WHERE idempotency_key = ? AND created_at = ? AND completed = FALSE
+            """;
+
+    private static final String SELECT_EXPIRED_SQL = """
+            SELECT idempotency_key FROM idempotency_keys
+            WHERE expires_at <= ?
+            ORDER BY expires_at
+            LIMIT ?
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM idempotency_keys WHERE idempotency_key = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    Optional<StoredKey> find(String key, LocalDateTime now) {
+        List<StoredKey> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, n) -> new StoredKey(rs.getString(1), rs.getBoolean(2), rs.getString(3)),
+                key, Timestamp.valueOf(now));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 만료된 행(기한이 지난 처리 중 선점 포함)을 지우고 선점한다.
+     *
+     * @param claimedAt  선점 시각. {@link #complete}/{@link #release}에 그대로 넘긴다.
+     * @param leaseUntil 처리 중 임대 기한
+     * @return 선점했으면 true, 이미 다른 요청이 가진 키면 false
+     */
+    boolean claim(String key, String fingerprint, LocalDateTime claimedAt,
+            LocalDateTime leaseUntil) {
+        Timestamp ts = Timestamp.valueOf(claimedAt);
+        jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, ts);
+        try {
+            jdbcTemplate.update(CLAIM_SQL, key, fingerprint, ts, Timestamp.valueOf(leaseUntil));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 응답을 저장하고 만료 시각을 완료 응답 TTL로 늘린다.
+     *
+     * @return 저장했으면 true, 임대 기한이 지나 다른 요청이 선점을 가져갔으면 false
+     */
+    boolean complete(String key, LocalDateTime claimedAt, String responseJson,
+            LocalDateTime expiresAt) {
+        return jdbcTemplate.update(COMPLETE_SQL, responseJson, Timestamp.valueOf(expiresAt), key,
+                Timestamp.valueOf(claimedAt)) > 0;
+    }
+
+    void release(String key, LocalDateTime claimedAt) {
+        jdbcTemplate.update(RELEASE_SQL, key, Timestamp.valueOf(claimedAt));
+    }
+
+    /**
+     * 만료된 키를 최대 {@code limit}건 지운다(만료 시각 인덱스 순).
+     *
+     * @return 지운 건수
+     */
+    int purgeExpired(LocalDateTime now, int limit) {
+        List<String> keys = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL, String.class,
+                Timestamp.valueOf(now), limit);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, keys, keys.size(), (ps, k) -> ps.setString(1, k));
+        return keys.size();
+    }
+
+    /**
+     * @param responseJson 완료 전이면 {@code null}
+     */
+    record StoredKey(String fingerprint, boolean completed, String responseJson) {
+
+    }
+}
@@ -0,0 +1,28 @@
+package com.book.dolphin.common.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 멱등 키 설정({@code dolphin.idempotency.*}).
+ *
+ * @param ttlMs               완료된 키(와 저장된 응답)를 기억하는 시간(ms)
+ * @param processingTimeoutMs 처리 중 선점의 임대 시간(ms). 선점한 인스턴스가 죽으면 이 시간 뒤 다른 요청이
+ *                            이어받는다. 가장 긴 요청 처리 시간보다 길어야 중복 실행이 없다.
+ * @param cacheMaxEntries     로컬 캐시에 둘 완료 응답 최대 수
+ * @param inFlightWaitMs      같은 키의 처리 중 요청을 기다리는 최대 시간(ms). 넘으면 409
+ * @param purgeIntervalMs     만료 키 삭제 주기(ms)
+ * @param purgeBatchSize      삭제 1회당 최대 키 수
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("86400000") long ttlMs,
+        @DefaultValue("60000") long processingTimeoutMs,
+        @DefaultValue("100000") long cacheMaxEntries,
+        @DefaultValue("10000") long inFlightWaitMs,
+        @DefaultValue("600000") long purgeIntervalMs,
+        @DefaultValue("1000") int purgeBatchSize
+) {
+
+}
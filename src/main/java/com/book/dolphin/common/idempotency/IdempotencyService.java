@@ -0,0 +1,213 @@
+package com.book.dolphin.common.idempotency;
+
+import com.book.dolphin.common.exception.AppErrorCode;
+import com.book.dolphin.common.exception.AppException;
+import com.book.dolphin.common.idempotency.IdempotencyKeyStore.StoredKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code Idempotency-Key} 헤더가 있는 변경 요청을 한 번만 실행한다.
+ *
+ * <ol>
+ *   <li>로컬 캐시(크기 제한): 완료된 키면 저장된 응답 객체를 그대로 반환(DB 접근 없음)</li>
+ *   <li>처리 중 합치기: 같은 키가 이 인스턴스에서 실행 중이면 그 결과(또는 예외)를 기다려 공유</li>
+ *   <li>DB 테이블: 다른 인스턴스가 완료한 응답을 읽고, 없으면 PK INSERT로 선점한 뒤 실행</li>
+ * </ol>
+ *
+ * <p>같은 키로 다른 요청(지문 불일치)이 오면 422, 다른 인스턴스가 처리 중이면 409로 거절한다.
+ * 실행이 예외로 끝나면 선점을 지워 같은 키로 재시도할 수 있다.</p>
+ *
+ * <p>처리 중 선점은 {@code processing-timeout-ms} 동안만 유효하고, 긴 TTL은 완료된 응답에만 준다.</p>
+ *
+ * @implNote 실행 성공 후 응답 저장 전에 프로세스가 죽으면 키는 임대 기한까지 처리 중(409)으로 남고,
+ * 그 뒤 같은 키의 재시도는 다시 실행된다. 죽기 전에 실행이 커밋됐다면 이 경우에 한해 중복 실행이 될 수 있다.
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    static final int MAX_KEY_LENGTH = 64;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1," + MAX_KEY_LENGTH + "}");
+
+    private final IdempotencyKeyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, Completed> completed;
+    private final ConcurrentHashMap<String, CompletableFuture<Completed>> inFlight =
+            new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyKeyStore store, IdempotencyProperties properties,
+            ObjectMapper objectMapper) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.cacheMaxEntries())
+                .expireAfterWrite(Duration.ofMillis(properties.ttlMs()))
+                .build();
+    }
+
+    /**
+     * @param key         {@code Idempotency-Key} 헤더 값({@code null}이면 그냥 실행)
+     * @param fingerprint 요청을 구분하는 문자열(작업 + 대상 + 본문). 같은 키의 재요청인지 판별한다.
+     * @param type        응답 타입(다른 인스턴스가 저장한 응답을 읽을 때 사용)
+     */
+    public <T> T execute(String key, String fingerprint, Class<T> type, Supplier<T> action) {
+        return execute(key, fingerprint, objectMapper.constructType(type), action);
+    }
+
+    public <E> List<E> executeList(String key, String fingerprint, Class<E> elementType,
+            Supplier<List<E>> action) {
+        return execute(key, fingerprint,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, elementType),
+                action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(String key, String fingerprint, JavaType type, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new AppException(AppErrorCode.INVALID_IDEMPOTENCY_KEY, MAX_KEY_LENGTH);
+        }
+        String fp = digest(fingerprint);
+
+        Completed hit = completed.getIfPresent(key);
+        if (hit != null) {
+            return (T) hit.responseFor(fp);
+        }
+        CompletableFuture<Completed> mine = new CompletableFuture<>();
+        CompletableFuture<Completed> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return (T) await(running).responseFor(fp);
+        }
+        try {
+            Completed done = lead(key, fp, type, action);
+            completed.put(key, done);
+            mine.complete(done);
+            return (T) done.responseFor(fp);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Completed lead(String key, String fp, JavaType type, Supplier<?> action) {
+        // 선점 시각은 완료/해제의 소유 확인에 쓰므로 DB 컬럼 정밀도(마이크로초)에 맞춘다
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Optional<StoredKey> stored = store.find(key, now);
+        if (stored.isPresent()) {
+            return fromStored(stored.get(), fp, type);
+        }
+        if (!store.claim(key, fp, now,
+                now.plus(Duration.ofMillis(properties.processingTimeoutMs())))) {
+            // 다른 인스턴스가 먼저 선점했다
+            return store.find(key, now)
+                    .map(s -> fromStored(s, fp, type))
+                    .orElseThrow(() -> new AppException(
+                            AppErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+        }
+
+        Object response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            store.release(key, now);
+            throw e;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            LocalDateTime completedAt = LocalDateTime.now();
+            if (!store.complete(key, now, json,
+                    completedAt.plus(Duration.ofMillis(properties.ttlMs())))) {
+                log.warn("멱등 선점 임대 기한 초과로 응답을 저장하지 못함: key={}, elapsedMs={}", key,
+                        Duration.between(now, completedAt).toMillis());
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 실행은 끝났으므로 응답은 돌려준다. 이 인스턴스는 로컬 캐시로, 다른 인스턴스는 409로 중복을 막는다.
+            log.error("멱등 응답 저장 실패: key={}", key, e);
+        }
+        return new Completed(fp, response);
+    }
+
+    private Completed fromStored(StoredKey stored, String fp, JavaType type) {
+        if (!stored.fingerprint().equals(fp)) {
+            throw new AppException(AppErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (!stored.completed()) {
+            throw new AppException(AppErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        try {
+            return new Completed(fp, objectMapper.readValue(stored.responseJson(), type));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private Completed await(CompletableFuture<Completed> running) {
+        try {
+            return running.get(properties.inFlightWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new AppException(AppErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(AppErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re; // 먼저 온 요청과 같은 실패를 돌려준다
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static String digest(String fingerprint) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(fingerprint.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 완료된 요청의 지문과 응답.
+     */
+    private record Completed(String fingerprint, Object response) {
+
+        Object responseFor(String fp) {
+            if (!fingerprint.equals(fp)) {
+                throw new AppException(AppErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return response;
+        }
+    }
+}
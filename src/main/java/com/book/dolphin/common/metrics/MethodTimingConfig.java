@@ -0,0 +1,78 @@
+package com.book.dolphin.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 서비스/리포지토리 메서드 타이머({@link MethodTimingInterceptor})를 건다.
+ *
+ * <ul>
+ *   <li>서비스: {@code com.book.dolphin} 아래 {@code @Service} 클래스의 public 메서드 → {@code app.service.calls}</li>
+ *   <li>리포지토리: Spring Data {@link Repository} 구현체 → {@code app.repository.calls}</li>
+ *   <li>순서: 가장 바깥. DB 입장 대기와 트랜잭션 시작/커밋 시간까지 서비스 시간에 포함된다.</li>
+ * </ul>
+ *
+ * @implNote {@code DbAdmissionConfig}와 같이 AOP 스타터 없이 인프라 역할 어드바이저로 등록한다.
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "dolphin.metrics.method-timing", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class MethodTimingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor serviceTimingAdvisor(MethodTimingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ServicePointcut(),
+                new MethodTimingInterceptor("app.service.calls", properties, meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor repositoryTimingAdvisor(MethodTimingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new RepositoryPointcut(),
+                new MethodTimingInterceptor("app.repository.calls", properties, meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    static final class ServicePointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return targetClass != null
+                    && targetClass.getName().startsWith("com.book.dolphin")
+                    && Modifier.isPublic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class
+                    && AnnotatedElementUtils.hasAnnotation(targetClass, Service.class);
+        }
+    }
+
+    static final class RepositoryPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return targetClass != null
+                    && Repository.class.isAssignableFrom(targetClass)
+                    && method.getDeclaringClass() != Object.class;
+        }
+    }
+}
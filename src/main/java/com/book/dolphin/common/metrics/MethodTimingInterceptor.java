@@ -0,0 +1,107 @@
+package com.book.dolphin.common.metrics;
+
+import com.book.dolphin.common.exception.AppException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 서비스/리포지토리 메서드 호출 시간을 타이머로 남긴다.
+ *
+ * <ul>
+ *   <li>이름: {@code app.service.calls} / {@code app.repository.calls}</li>
+ *   <li>태그: {@code class}(서비스 클래스 또는 리포지토리 인터페이스 단순 이름), {@code method},
+ *       {@code exception}(정상 종료면 none, 도메인 예외면 에러 코드)</li>
+ *   <li>백분위: {@link MethodTimingProperties#percentiles()}. 느린 엔드포인트에서 어느 쿼리가 시간을 쓰는지
+ *       리포지토리 타이머로 바로 볼 수 있다.</li>
+ * </ul>
+ *
+ * @implNote 호출마다 빌더로 등록하지 않도록 (메서드, 클래스, 결과)별 타이머를 보관한다.
+ * 레지스트리는 첫 호출 때 꺼낸다(어드바이저가 빈 생성 초기에 만들어지므로).
+ */
+class MethodTimingInterceptor implements MethodInterceptor {
+
+    private static final String NONE = "none";
+
+    private final String metricName;
+    private final MethodTimingProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final Map<Class<?>, String> classTags = new ConcurrentHashMap<>();
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    MethodTimingInterceptor(String metricName, MethodTimingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.metricName = metricName;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long started = System.nanoTime();
+        String outcome = NONE;
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            outcome = outcomeOf(t);
+            throw t;
+        } finally {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                record(registry, invocation, outcome, System.nanoTime() - started);
+            }
+        }
+    }
+
+    private void record(MeterRegistry registry, MethodInvocation invocation, String outcome,
+            long elapsedNanos) {
+        Object target = invocation.getThis();
+        Class<?> type = target == null ? invocation.getMethod().getDeclaringClass()
+                : target.getClass();
+        timer(registry, invocation.getMethod(), type, outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(MeterRegistry registry, Method method, Class<?> type, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(method, type, outcome), k ->
+                Timer.builder(metricName)
+                        .tag("class", classTags.computeIfAbsent(type, MethodTimingInterceptor::classTag))
+                        .tag("method", method.getName())
+                        .tag("exception", outcome)
+                        .publishPercentiles(properties.percentiles().stream()
+                                .mapToDouble(Double::doubleValue).toArray())
+                        .register(registry));
+    }
+
+    // 도메인 예외는 에러 코드, 그 외는 예외 클래스 단순 이름(태그 값 수가 코드 수로 제한된다)
+    static String outcomeOf(Throwable t) {
+        if (t instanceof AppException app && app.getErrorCode() instanceof Enum<?> code) {
+            return code.name();
+        }
+        return t.getClass().getSimpleName();
+    }
+
+    // 리포지토리는 프록시 클래스 대신 우리가 선언한 인터페이스 이름, 서비스는 CGLIB 접미사를 뗀 클래스 이름
+    static String classTag(Class<?> type) {
+        for (Class<?> itf : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            if (Repository.class.isAssignableFrom(itf) && itf != Repository.class
+                    && itf.getName().startsWith("com.book.dolphin")) {
+                return itf.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(type).getSimpleName();
+    }
+
+    private record TimerKey(Method method, Class<?> type, String outcome) {
+
+    }
+}
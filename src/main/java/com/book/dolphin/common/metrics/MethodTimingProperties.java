@@ -0,0 +1,20 @@
+package com.book.dolphin.common.metrics;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 서비스/리포지토리 메서드 지연 시간 측정 설정({@code dolphin.metrics.method-timing.*}).
+ *
+ * @param enabled     측정 사용 여부
+ * @param percentiles 타이머마다 내보낼 백분위(앱 내부 계산)
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.metrics.method-timing")
+public record MethodTimingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"0.5", "0.95", "0.99"}) List<Double> percentiles
+) {
+
+}
@@ -0,0 +1,69 @@
+package com.book.dolphin.common.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import javax.sql.DataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB 입장 제어({@link DbAdmissionInterceptor})를 트랜잭션 경계와 JPA 리포지토리 앞에 건다.
+ *
+ * <p>가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서는 요청 스레드 수 제한이 사실상 없어지므로,
+ * 커넥션 풀보다 많은 요청이 동시에 DB로 몰리지 않도록 함께 켜는 것을 전제로 한다.</p>
+ *
+ * <ul>
+ *   <li>대상: {@code @Transactional} 메서드/클래스, Spring Data {@link Repository} 구현체</li>
+ *   <li>순서: 트랜잭션 인터셉터보다 바깥(커넥션을 잡기 전에 허가를 먼저 받는다), 메서드 타이머보다는 안쪽</li>
+ * </ul>
+ *
+ * @implNote AOP 스타터 없이 동작하도록 인프라 역할 어드바이저로 등록한다(트랜잭션용 자동 프록시 생성기가 집어간다).
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "dolphin.db.admission", name = "enabled", havingValue = "true")
+public class DbAdmissionConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor dbAdmissionAdvisor(DbAdmissionProperties properties,
+            ObjectProvider<DataSource> dataSource,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new DbWorkPointcut(),
+                new DbAdmissionInterceptor(properties, dataSource, meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    /**
+     * 커넥션을 잡는 진입점: 트랜잭션 메서드와 리포지토리 메서드(Object 메서드 제외).
+     */
+    static final class DbWorkPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            if (method.getDeclaringClass() == Object.class) {
+                return false;
+            }
+            if (targetClass != null && Repository.class.isAssignableFrom(targetClass)) {
+                return true;
+            }
+            Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+            return AnnotatedElementUtils.hasAnnotation(specific, Transactional.class)
+                    || (targetClass != null
+                    && AnnotatedElementUtils.hasAnnotation(targetClass, Transactional.class));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.book.dolphin.common.persistence;
+
+import com.book.dolphin.common.exception.AppErrorCode;
+import com.book.dolphin.common.exception.AppException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+
+/**
+ * DB 작업 입장 제어. 세마포어 허가를 얻은 요청만 트랜잭션/리포지토리 호출로 들어간다.
+ *
+ * <p>허가 수를 커넥션 풀보다 작게 잡아, 커넥션을 못 받는 요청이 풀 안에서 타임아웃까지 매달리는 대신
+ * 여기서 도착 순서대로(공정 모드) 기다리게 한다. 대기 시간은 {@code db.admission.wait}로 남고,
+ * {@code acquireTimeoutMs}를 넘기면 503({@link AppErrorCode#DB_ADMISSION_TIMEOUT})으로 빨리 실패한다.</p>
+ *
+ * <p>허가는 스레드당 가장 바깥 호출에서 한 번만 얻는다. 트랜잭션 안의 리포지토리 호출처럼 중첩된 진입은
+ * 이미 잡은 허가를 그대로 쓴다.</p>
+ *
+ * <p>허가 하나가 커넥션 하나는 아니다. 허가를 쥔 요청도 잠깐 두 번째 커넥션을 쓴다(pooled 시퀀스 구간 조회,
+ * 원장 파이프라인의 {@code REQUIRES_NEW} 적재). 원장 적재 스레드처럼 허가 없이 커넥션을 쓰는 백그라운드 작업도 있다.
+ * 허가 수가 풀 크기와 같으면 허가를 쥔 요청들이 서로의 커넥션을 기다리다 커넥션 타임아웃까지 멈출 수 있다.
+ * 그래서 기본 허가 수는 풀 크기에서 {@code reservedConnections}를 뺀 값이고, 설정한 허가 수가 그보다 크면 줄여 쓴다.
+ * 두 번째 커넥션 작업은 또 다른 커넥션을 기다리지 않으므로, 남겨 둔 커넥션 하나면 항상 누군가는 끝까지 진행한다.</p>
+ *
+ * @implNote 세마포어/ThreadLocal은 가상 스레드에서 캐리어를 붙잡지 않는다. 풀 크기와 메트릭은 첫 호출 때
+ * 지연 초기화한다(어드바이저가 빈 생성 초기에 만들어져 DataSource를 앞당겨 만들지 않도록).
+ */
+@Slf4j
+class DbAdmissionInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final DbAdmissionProperties properties;
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final ReentrantLock initLock = new ReentrantLock();
+    private volatile Gate gate;
+
+    DbAdmissionInterceptor(DbAdmissionProperties properties,
+            ObjectProvider<DataSource> dataSource,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            depth[0]++;
+            try {
+                return invocation.proceed();
+            } finally {
+                depth[0]--;
+            }
+        }
+
+        Gate g = gate();
+        g.acquire(properties.acquireTimeoutMs());
+        depth[0] = 1;
+        try {
+            return invocation.proceed();
+        } finally {
+            DEPTH.remove();
+            g.semaphore.release();
+        }
+    }
+
+    private Gate gate() {
+        Gate g = gate;
+        if (g != null) {
+            return g;
+        }
+        initLock.lock();
+        try {
+            if (gate == null) {
+                gate = new Gate(resolvePermits(), meterRegistry.getIfAvailable());
+                log.info("DB 입장 제어 활성화: permits={}, acquireTimeoutMs={}",
+                        gate.permits, properties.acquireTimeoutMs());
+            }
+            return gate;
+        } finally {
+            initLock.unlock();
+        }
+    }
+
+    int resolvePermits() {
+        // SQL 카운터 래퍼(SqlCountingDataSource) 안쪽의 풀을 꺼낸다
+        DataSource ds = dataSource.getIfAvailable();
+        HikariDataSource hikari = ds == null ? null
+                : DataSourceUnwrapper.unwrap(ds, HikariDataSource.class);
+        int poolSize = hikari != null ? hikari.getMaximumPoolSize() : 10; // Hikari 기본 풀 크기
+        int max = Math.max(1, poolSize - Math.max(0, properties.reservedConnections()));
+        if (properties.permits() <= 0) {
+            return max;
+        }
+        if (properties.permits() > max) {
+            log.warn("DB 입장 허가 수를 줄여 씀: permits={}, poolSize={}, reservedConnections={} → {}",
+                    properties.permits(), poolSize, properties.reservedConnections(), max);
+            return max;
+        }
+        return properties.permits();
+    }
+
+    private static final class Gate {
+
+        private final int permits;
+        private final Semaphore semaphore;
+        private final Timer waitTimer;
+        private final Counter rejected;
+
+        private Gate(int permits, MeterRegistry registry) {
+            this.permits = permits;
+            this.semaphore = new Semaphore(permits, true);
+            if (registry == null) {
+                this.waitTimer = null;
+                this.rejected = null;
+                return;
+            }
+            Gauge.builder("db.admission.active", semaphore,
+                            s -> permits - s.availablePermits())
+                    .description("허가를 받아 DB 작업 중인 요청 수")
+                    .register(registry);
+            Gauge.builder("db.admission.queued", semaphore, Semaphore::getQueueLength)
+                    .description("허가를 기다리는 요청 수")
+                    .register(registry);
+            this.waitTimer = Timer.builder("db.admission.wait")
+                    .description("DB 작업 허가 대기 시간")
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .register(registry);
+            this.rejected = Counter.builder("db.admission.rejected")
+                    .description("허가 대기 시간 초과로 거절된 요청 수")
+                    .register(registry);
+        }
+
+        private void acquire(long timeoutMs) {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                // 대기 없는 tryAcquire()는 공정성을 무시하고 새치기하므로 시간 제한 버전만 쓴다
+                acquired = semaphore.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AppException(AppErrorCode.DB_ADMISSION_TIMEOUT, timeoutMs);
+            }
+            if (waitTimer != null) {
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                if (rejected != null) {
+                    rejected.increment();
+                }
+                throw new AppException(AppErrorCode.DB_ADMISSION_TIMEOUT, timeoutMs);
+            }
+        }
+    }
+}
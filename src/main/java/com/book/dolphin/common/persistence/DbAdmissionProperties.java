@@ -0,0 +1,24 @@
+package com.book.dolphin.common.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * DB 동시 작업 수 제한 설정({@code dolphin.db.admission.*}).
+ *
+ * @param enabled             제한 사용 여부(가상 스레드 모드에서 켜는 것을 권장)
+ * @param permits             동시에 DB 작업을 할 수 있는 요청 수. 0이면 Hikari {@code maximumPoolSize}에서
+ *                            {@code reservedConnections}를 뺀 값. 그보다 크게 잡으면 그 값으로 줄인다.
+ * @param acquireTimeoutMs    허가를 기다리는 최대 시간(ms). 넘으면 503으로 응답한다.
+ * @param reservedConnections 허가 몫에서 빼 둘 커넥션 수(허가를 쥔 요청의 두 번째 커넥션, 백그라운드 적재)
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.db.admission")
+public record DbAdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int permits,
+        @DefaultValue("1000") long acquireTimeoutMs,
+        @DefaultValue("2") int reservedConnections
+) {
+
+}
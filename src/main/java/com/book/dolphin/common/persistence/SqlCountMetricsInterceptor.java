@@ -0,0 +1,61 @@
+package com.book.dolphin.common.persistence;
+
+import com.book.dolphin.common.persistence.SqlStatementCounter.Scope;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나가 실행한 SQL 수를 엔드포인트별 분포로 남긴다({@code http.server.requests.sql}, 태그: method, uri).
+ *
+ * <p>{@code dolphin.sql.metrics.enabled=true}일 때만 등록된다. 요청 스레드에서 범위를 열고 닫으므로
+ * 비동기 처리로 넘어간 뒤의 SQL(원장 적재 스레드, 카운터 플러시 등)은 세지 않는다. 분포는 (method, uri)별로
+ * 한 번만 등록해 재사용한다.</p>
+ */
+public class SqlCountMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String SQL_METRIC = "http.server.requests.sql";
+    private static final String SCOPE_ATTRIBUTE =
+            SqlCountMetricsInterceptor.class.getName() + ".scope";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Endpoint, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlCountMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        request.setAttribute(SCOPE_ATTRIBUTE, SqlStatementCounter.open());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+            Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof Scope scope)) {
+            return;
+        }
+        scope.close();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Endpoint endpoint = new Endpoint(request.getMethod(),
+                pattern == null ? "UNKNOWN" : pattern.toString());
+        summaries.computeIfAbsent(endpoint, e -> DistributionSummary.builder(SQL_METRIC)
+                        .description("요청당 실행한 SQL 수")
+                        .tag("method", e.method())
+                        .tag("uri", e.uri())
+                        .register(meterRegistry))
+                .record(scope.count());
+    }
+
+    private record Endpoint(String method, String uri) {
+
+    }
+}
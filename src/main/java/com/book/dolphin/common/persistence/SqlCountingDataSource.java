@@ -0,0 +1,89 @@
+package com.book.dolphin.common.persistence;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션이 준비/실행하는 SQL을 현재 스레드의 측정 범위({@link SqlStatementCounter})에 세는 DataSource 래퍼.
+ *
+ * <p>Hibernate와 JdbcTemplate이 같은 DataSource 빈을 쓰므로, JPA 쿼리와 JDBC로 직접 보내는 쓰기(재고 카운터 플러시,
+ * 원장 배치, 예약, 조건부 UPDATE)를 한곳에서 센다.</p>
+ *
+ * <ul>
+ *   <li>세는 시점: {@code prepareStatement}/{@code prepareCall} 한 번에 1. 배치는 준비가 한 번이라 1로 센다.</li>
+ *   <li>{@code createStatement}로 만든 문장은 실행({@code execute*}, {@code executeBatch})마다 1로 센다.</li>
+ * </ul>
+ *
+ * @implNote {@link DelegatingDataSource}라 {@code unwrap}이나 {@code DataSourceUnwrapper}로
+ * 원래 풀(Hikari)을 꺼낼 수 있다. 종료 시 원래 풀을 닫도록 {@link #close()}를 넘긴다.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new Counting(target)));
+    }
+
+    private record Counting(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                // Connection
+                case "prepareStatement", "prepareCall" ->
+                        SqlStatementCounter.record((String) args[0]);
+                // createStatement로 만든 Statement(PreparedStatement는 감싸지 않는다)
+                case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate" ->
+                        SqlStatementCounter.record((String) args[0]);
+                case "executeBatch", "executeLargeBatch" -> SqlStatementCounter.record("(batch)");
+                default -> {
+                }
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if ("createStatement".equals(name) && result instanceof Statement statement) {
+                return proxy(Statement.class, statement);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.book.dolphin.common.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 스레드의 측정 범위({@link Scope})에 SQL을 센다.
+ *
+ * <p>DataSource 래퍼({@link SqlCountingDataSource})가 JPA와 JdbcTemplate의 SQL을 모두 넘기며, 열린 범위가 없으면
+ * 아무것도 하지 않는다. 테스트의 SQL 예산 검증과 요청별 SQL 수 지표({@link SqlCountMetricsInterceptor})가 같은 카운터를 쓴다.</p>
+ *
+ * <ul>
+ *   <li>범위는 중첩될 수 있고, 안쪽 범위의 SQL은 바깥 범위에도 함께 센다.</li>
+ *   <li>트랜잭션별 개수: 실행 시점의 트랜잭션 이름(보통 {@code 클래스.메서드})으로 나눠 센다.</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final String NO_TRANSACTION = "(no transaction)";
+
+    private SqlStatementCounter() {
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+    }
+
+    /**
+     * 개수만 세는 범위를 연다(요청별 지표용).
+     */
+    public static Scope open() {
+        return open(false);
+    }
+
+    /**
+     * @param captureStatements true면 SQL 원문도 보관한다(테스트 실패 메시지용, 최대 {@value Scope#MAX_CAPTURED}개)
+     */
+    public static Scope open(boolean captureStatements) {
+        Scope scope = new Scope(CURRENT.get(), captureStatements);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        static final int MAX_CAPTURED = 200;
+
+        private final Scope parent;
+        private final List<String> statements;
+        private final Map<String, Integer> byTransaction = new LinkedHashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(Scope parent, boolean captureStatements) {
+            this.parent = parent;
+            this.statements = captureStatements ? new ArrayList<>() : null;
+        }
+
+        private void record(String sql) {
+            count++;
+            if (statements != null && statements.size() < MAX_CAPTURED) {
+                statements.add(sql);
+            }
+            String tx = TransactionSynchronizationManager.isActualTransactionActive()
+                    ? TransactionSynchronizationManager.getCurrentTransactionName()
+                    : null;
+            byTransaction.merge(tx == null ? NO_TRANSACTION : tx, 1, Integer::sum);
+            if (parent != null) {
+                parent.record(sql);
+            }
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * 트랜잭션 이름별 SQL 수(실행 순서).
+         */
+        public Map<String, Integer> countsByTransaction() {
+            return Collections.unmodifiableMap(byTransaction);
+        }
+
+        /**
+         * 보관한 SQL 원문(보관하지 않는 범위면 빈 목록).
+         */
+        public List<String> statements() {
+            return statements == null ? List.of() : Collections.unmodifiableList(statements);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.book.dolphin.product.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkAllocateRequest(
+        @NotEmpty @Size(max = 100)
+        List<@Valid @NotNull Line> lines,    // 주문 라인(같은 재고가 여러 번 오면 수량을 합산)
+        @Size(max = 255) String reason
+) {
+
+    public record Line(
+            @NotNull Long inventoryId,
+            @Positive long quantity
+    ) {
+
+    }
+}
@@ -0,0 +1,13 @@
+package com.book.dolphin.product.application.dto.request;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * @param ttlSeconds 예약 유지 시간(초). 없으면 {@code dolphin.inventory.reservation.default-ttl-ms}
+ */
+public record ReserveRequest(
+        @Positive long quantity,
+        @Size(max = 255) String reason,
+        @Positive Long ttlSeconds
+) {}
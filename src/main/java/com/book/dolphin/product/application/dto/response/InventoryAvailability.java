@@ -0,0 +1,38 @@
+package com.book.dolphin.product.application.dto.response;
+
+import com.book.dolphin.product.domain.repository.InventoryRepository.AvailabilityRow;
+import com.book.dolphin.product.infrastructure.inventory.InventorySnapshot;
+
+/**
+ * 재고 가용성 배지용 요약(장바구니/목록에서 여러 옵션을 한 번에 조회).
+ *
+ * <p>{@link InventoryResponse}와 달리 상품/버전/수정시각을 싣지 않는다.</p>
+ */
+public record InventoryAvailability(
+        Long inventoryId,
+        Long variantId,
+        String skuCode,
+        long available,
+        boolean backorderable
+) {
+
+    public static InventoryAvailability of(AvailabilityRow row) {
+        return new InventoryAvailability(
+                row.getInventoryId(),
+                row.getVariantId(),
+                row.getSkuCode(),
+                Math.max(row.getOnHand() - row.getAllocated() - row.getSafetyStock(), 0L),
+                row.isBackorderable()
+        );
+    }
+
+    public static InventoryAvailability of(InventorySnapshot s) {
+        return new InventoryAvailability(
+                s.id(),
+                s.variantId(),
+                s.skuCode(),
+                s.available(),
+                s.backorderable()
+        );
+    }
+}
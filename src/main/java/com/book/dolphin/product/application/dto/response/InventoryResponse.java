@@ -3,6 +3,7 @@ package com.book.dolphin.product.application.dto.response;
 
 import com.book.dolphin.product.domain.entity.Inventory;
 import com.book.dolphin.product.domain.entity.ProductVariant;
+import com.book.dolphin.product.infrastructure.inventory.InventorySnapshot;
 import java.time.LocalDateTime;
 
 
@@ -35,4 +36,20 @@ public record InventoryResponse(
                 inv.getUpdatedAt()
         );
     }
+
+    public static InventoryResponse of(InventorySnapshot s) {
+        return new InventoryResponse(
+                s.id(),
+                s.productId(),
+                s.variantId(),
+                s.skuCode(),
+                s.onHand(),
+                s.allocated(),
+                s.safetyStock(),
+                s.backorderable(),
+                s.available(),
+                s.version(),
+                s.updatedAt()
+        );
+    }
 }
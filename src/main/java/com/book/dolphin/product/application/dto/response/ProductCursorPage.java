@@ -0,0 +1,19 @@
+package com.book.dolphin.product.application.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 페이지.
+ *
+ * @param nextCursor 다음 페이지 요청에 그대로 넘길 값(마지막 페이지면 null)
+ * @param total      includeTotal=true 일 때만 채워진다
+ */
+public record ProductCursorPage(
+        List<ProductListItem> items,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long total
+) {
+
+}
@@ -0,0 +1,37 @@
+package com.book.dolphin.product.application.dto.response;
+
+import java.util.List;
+
+/**
+ * 목록 필터에 대한 전체 결과 수와 패싯별 개수. 각 패싯은 자기 차원의 필터를 뺀 조건으로 센다.
+ *
+ * <p>메모리 비트맵에서 세므로 다른 인스턴스의 최근 변경은 색인 따라잡기 주기만큼 늦게 반영될 수 있다.</p>
+ *
+ * @param total      모든 필터를 적용한 결과 수
+ * @param statuses   상태별 개수
+ * @param categories 선택 카테고리의 자식(없으면 루트)별 개수(하위 포함, 0건 제외)
+ * @param prices     현재가 구간별 개수
+ */
+public record ProductFacetResponse(
+        long total,
+        List<StatusFacet> statuses,
+        List<CategoryFacet> categories,
+        List<PriceFacet> prices
+) {
+
+    public record StatusFacet(String status, long count) {
+
+    }
+
+    public record CategoryFacet(Long categoryId, String name, long count) {
+
+    }
+
+    /**
+     * @param from 하한(원, 포함, 첫 구간은 null)
+     * @param to   상한(원, 미포함, 마지막 구간은 null)
+     */
+    public record PriceFacet(Long from, Long to, long count) {
+
+    }
+}
@@ -2,11 +2,22 @@ package com.book.dolphin.product.application.dto.response;
 
 import java.util.List;
 
+/**
+ * 페이지 번호 기반 목록 페이지.
+ *
+ * @param total      전체 개수(countMode=HAS_NEXT면 null)
+ * @param hasNext    다음 페이지 존재 여부(ESTIMATE면 추정 개수 기준)
+ * @param countMode  total 계산 방식(EXACT / HAS_NEXT / ESTIMATE)
+ * @param totalError total과 실제 개수의 최대 차이(EXACT는 0, HAS_NEXT는 null)
+ */
 public record ProductListPage(
         List<ProductListItem> items,
         int page,
         int size,
-        long total
+        Long total,
+        boolean hasNext,
+        String countMode,
+        Long totalError
 ) {
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.book.dolphin.product.application.dto.response;
+
+import com.book.dolphin.product.domain.entity.InventoryReservation;
+import com.book.dolphin.product.domain.entity.InventoryReservation.ReservationStatus;
+import java.time.LocalDateTime;
+
+/**
+ * @param inventory 예약 처리 직후의 재고 상태
+ */
+public record ReservationResponse(
+        Long reservationId,
+        Long inventoryId,
+        long quantity,
+        ReservationStatus status,
+        LocalDateTime expiresAt,
+        InventoryResponse inventory
+) {
+
+    public static ReservationResponse of(InventoryReservation r, ReservationStatus status,
+            InventoryResponse inventory) {
+        return new ReservationResponse(
+                r.getId(),
+                inventory.id(),
+                r.getQuantity(),
+                status,
+                r.getExpiresAt(),
+                inventory
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.book.dolphin.product.application.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 알림(캐시/색인/가격 전환 스케줄 갱신용). 커밋 후 리스너에서 소비한다.
+ *
+ * @param productId      변경된 상품
+ * @param cause          변경 원인
+ * @param priceRefreshAt 변경 후 다음 가격 전환 시각(없으면 null)
+ */
+public record ProductChangedEvent(
+        Long productId,
+        Cause cause,
+        LocalDateTime priceRefreshAt
+) {
+
+    public enum Cause {
+        CREATED,
+        /**
+         * 현재가 변경(가격 설정 또는 할인 기간 경계 도달)
+         */
+        PRICE,
+        STATUS
+    }
+}
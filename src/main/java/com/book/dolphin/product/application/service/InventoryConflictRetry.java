@@ -0,0 +1,134 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.domain.repository.InventoryRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryRetryProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 변경의 낙관적 락 충돌 재시도.
+ *
+ * <ul>
+ *   <li>시도마다 {@link InventoryService}의 트랜잭션 메서드를 새로 호출한다(새 트랜잭션, 최신 버전으로 다시 읽음).</li>
+ *   <li>대기: 상한이 시도마다 두 배(최대 {@code maxBackoffMs})인 full jitter. 같은 행을 노린 요청들이 다시 부딪히지 않게 흩는다.</li>
+ *   <li>소진: {@link ProductErrorCode#INVENTORY_CONFLICT}(409)</li>
+ *   <li>지표: {@code inventory.optimistic.conflicts}(sku, outcome=retried|exhausted). 핫 SKU를 찾는 용도.</li>
+ * </ul>
+ *
+ * @implNote 호출 측은 트랜잭션 밖이어야 한다(바깥 트랜잭션에 참여하면 재시도해도 같은 영속성 컨텍스트를 본다).
+ * SKU 태그 종류는 {@code maxTaggedSkus}로 제한한다.
+ */
+@Slf4j
+@Component
+class InventoryConflictRetry {
+
+    static final String CONFLICT_METRIC = "inventory.optimistic.conflicts";
+    static final String OTHER_SKU = "other";
+
+    private final InventoryRetryProperties properties;
+    private final InventoryRepository inventoryRepository;
+    private final MeterRegistry meterRegistry;
+
+    // SKU는 재고 생성 후 바뀌지 않으므로 충돌 경로의 조회를 재사용한다
+    private final Cache<Long, String> skuById = Caffeine.newBuilder().maximumSize(10_000).build();
+    private final Set<String> taggedSkus = ConcurrentHashMap.newKeySet();
+    // 태그 조합이 maxTaggedSkus × 2로 묶이므로 카운터를 한 번만 등록해 재사용한다
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    InventoryConflictRetry(InventoryRetryProperties properties,
+            InventoryRepository inventoryRepository, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.inventoryRepository = inventoryRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param inventoryId 대상 재고(다건이면 {@code null}, 충돌한 재고는 예외에서 꺼낸다)
+     * @param attempt     트랜잭션 메서드 호출 한 번
+     */
+    <T> T execute(Long inventoryId, Supplier<T> attempt) {
+        int maxAttempts = Math.max(1, properties.maxAttempts());
+        for (int n = 1; ; n++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                Long conflicted = conflictedId(e, inventoryId);
+                boolean exhausted = n >= maxAttempts;
+                record(conflicted, exhausted);
+                if (exhausted) {
+                    log.warn("재고 낙관적 락 재시도 소진: inventoryId={}, attempts={}", conflicted, n);
+                    throw new ProductException(ProductErrorCode.INVENTORY_CONFLICT, conflicted);
+                }
+                if (!backoff(n)) {
+                    throw new ProductException(ProductErrorCode.INVENTORY_CONFLICT, conflicted);
+                }
+            }
+        }
+    }
+
+    private static Long conflictedId(OptimisticLockingFailureException e, Long fallback) {
+        if (e instanceof ObjectOptimisticLockingFailureException o
+                && o.getIdentifier() instanceof Long id) {
+            return id;
+        }
+        return fallback;
+    }
+
+    private void record(Long inventoryId, boolean exhausted) {
+        counters.computeIfAbsent(
+                new CounterKey(skuTag(inventoryId), exhausted ? "exhausted" : "retried"),
+                k -> Counter.builder(CONFLICT_METRIC)
+                        .tag("sku", k.sku())
+                        .tag("outcome", k.outcome())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private String skuTag(Long inventoryId) {
+        if (inventoryId == null) {
+            return OTHER_SKU;
+        }
+        String sku = skuById.get(inventoryId,
+                id -> inventoryRepository.findSkuCodeById(id).orElse(OTHER_SKU));
+        if (taggedSkus.contains(sku)) {
+            return sku;
+        }
+        if (taggedSkus.size() < properties.maxTaggedSkus() && taggedSkus.add(sku)) {
+            return sku;
+        }
+        return OTHER_SKU;
+    }
+
+    // 0 ~ min(max, initial * 2^(n-1)) 사이 무작위 대기. 인터럽트되면 false
+    private boolean backoff(int attempt) {
+        long cap = Math.min(properties.maxBackoffMs(),
+                properties.initialBackoffMs() << Math.min(attempt - 1, 20));
+        if (cap <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record CounterKey(String sku, String outcome) {
+
+    }
+}
@@ -0,0 +1,230 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.product.application.dto.request.BulkAllocateRequest;
+import com.book.dolphin.product.application.dto.response.InventoryAvailability;
+import com.book.dolphin.product.application.dto.response.InventoryResponse;
+import com.book.dolphin.product.application.dto.response.ReservationResponse;
+import com.book.dolphin.product.domain.entity.InventoryReservation;
+import com.book.dolphin.product.domain.entity.InventoryReservation.ReservationStatus;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.infrastructure.inventory.InventoryConditionalWriter;
+import com.book.dolphin.product.infrastructure.inventory.InventoryCounterEngine;
+import com.book.dolphin.product.infrastructure.inventory.InventorySnapshot;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 재고 변경 요청의 진입점.
+ *
+ * <p>설정된 쓰기 방식({@code dolphin.inventory.write-mode})에 따라 처리 경로를 고른다.
+ * <ul>
+ *   <li>JPA(기본): {@link InventoryService}의 트랜잭션 메서드 호출. 낙관적 락 충돌은
+ *   {@link InventoryConflictRetry}가 새 트랜잭션으로 재시도한다.</li>
+ *   <li>IN_MEMORY: {@link InventoryCounterEngine}이 즉시 응답(트랜잭션/커넥션 없이)</li>
+ *   <li>CONDITIONAL: {@link InventoryConditionalWriter}의 조건부 UPDATE 한 번(+ 원장 INSERT)</li>
+ * </ul>
+ * </p>
+ *
+ * @implNote 이 클래스는 트랜잭션을 열지 않는다. 인메모리 경로에서 커넥션을 점유하지 않기 위함이다.
+ */
+@RequiredArgsConstructor
+@Service
+public class InventoryFacade {
+
+    private final InventoryService inventoryService;
+    private final InventoryCounterEngine counterEngine;
+    private final InventoryReservationService reservationService;
+    private final InventoryConflictRetry conflictRetry;
+    private final InventoryConditionalWriter conditionalWriter;
+
+    public InventoryResponse inbound(Long inventoryId, long qty, String reason) {
+        validatePositive(qty);
+        if (counterEngine.isEnabled()) {
+            return InventoryResponse.of(counterEngine.inbound(inventoryId, qty, reason));
+        }
+        if (conditionalWriter.isEnabled()) {
+            return InventoryResponse.of(conditionalWriter.inbound(inventoryId, qty, reason));
+        }
+        return conflictRetry.execute(inventoryId,
+                () -> inventoryService.inbound(inventoryId, qty, reason));
+    }
+
+    public InventoryResponse allocate(Long inventoryId, long qty, String reason) {
+        validatePositive(qty);
+        if (counterEngine.isEnabled()) {
+            return InventoryResponse.of(counterEngine.allocate(inventoryId, qty, reason));
+        }
+        if (conditionalWriter.isEnabled()) {
+            return InventoryResponse.of(conditionalWriter.allocate(inventoryId, qty, reason));
+        }
+        return conflictRetry.execute(inventoryId,
+                () -> inventoryService.allocate(inventoryId, qty, reason));
+    }
+
+    /**
+     * 주문 라인 다건 할당(전부 성공 또는 전부 실패). 같은 재고 라인은 수량을 합산한다.
+     */
+    public List<InventoryResponse> allocateAll(List<BulkAllocateRequest.Line> lines,
+            String reason) {
+        SortedMap<Long, Long> quantities = new TreeMap<>();
+        for (BulkAllocateRequest.Line line : lines) {
+            validatePositive(line.quantity());
+            quantities.merge(line.inventoryId(), line.quantity(), Math::addExact);
+        }
+        if (counterEngine.isEnabled()) {
+            return counterEngine.allocateAll(quantities, reason).stream()
+                    .map(InventoryResponse::of)
+                    .toList();
+        }
+        if (conditionalWriter.isEnabled()) {
+            return conditionalWriter.allocateAll(quantities, reason).stream()
+                    .map(InventoryResponse::of)
+                    .toList();
+        }
+        return conflictRetry.execute(null,
+                () -> inventoryService.allocateAll(quantities, reason));
+    }
+
+    public InventoryResponse deallocate(Long inventoryId, long qty, String reason) {
+        validatePositive(qty);
+        if (counterEngine.isEnabled()) {
+            return InventoryResponse.of(counterEngine.deallocate(inventoryId, qty, reason));
+        }
+        if (conditionalWriter.isEnabled()) {
+            return InventoryResponse.of(conditionalWriter.deallocate(inventoryId, qty, reason));
+        }
+        return conflictRetry.execute(inventoryId,
+                () -> inventoryService.deallocate(inventoryId, qty, reason));
+    }
+
+    public InventoryResponse ship(Long inventoryId, long qty, String reason) {
+        validatePositive(qty);
+        if (counterEngine.isEnabled()) {
+            return InventoryResponse.of(counterEngine.ship(inventoryId, qty, reason));
+        }
+        if (conditionalWriter.isEnabled()) {
+            return InventoryResponse.of(conditionalWriter.ship(inventoryId, qty, reason));
+        }
+        return conflictRetry.execute(inventoryId,
+                () -> inventoryService.ship(inventoryId, qty, reason));
+    }
+
+    /**
+     * 만료 시각이 있는 할당. 인메모리 모드에서는 카운터에서 먼저 할당하고, 예약 기록이 실패하면 할당을 되돌린다.
+     */
+    public ReservationResponse reserve(Long inventoryId, long qty, String reason,
+            Long ttlSeconds) {
+        validatePositive(qty);
+        LocalDateTime expiresAt = reservationService.expiresAt(ttlSeconds);
+        if (!counterEngine.isEnabled()) {
+            return conflictRetry.execute(inventoryId,
+                    () -> reservationService.reserve(inventoryId, qty, reason, expiresAt));
+        }
+        InventorySnapshot allocated = counterEngine.allocate(inventoryId, qty, reason);
+        try {
+            return reservationService.record(InventoryResponse.of(allocated), qty, reason,
+                    expiresAt);
+        } catch (RuntimeException e) {
+            counterEngine.deallocate(inventoryId, qty, "예약 기록 실패 보상");
+            throw e;
+        }
+    }
+
+    public ReservationResponse releaseReservation(Long reservationId) {
+        if (!counterEngine.isEnabled()) {
+            return conflictRetry.execute(null, () -> reservationService.release(reservationId));
+        }
+        String reason = InventoryReservationService.releaseReason(reservationId);
+        return closeWithCounter(reservationId, ReservationStatus.RELEASED,
+                r -> counterEngine.deallocate(r.getInventory().getId(), r.getQuantity(), reason),
+                r -> counterEngine.allocate(r.getInventory().getId(), r.getQuantity(),
+                        "예약 해제 실패 보상"));
+    }
+
+    public ReservationResponse confirmReservation(Long reservationId) {
+        if (!counterEngine.isEnabled()) {
+            return conflictRetry.execute(null, () -> reservationService.confirm(reservationId));
+        }
+        String reason = InventoryReservationService.confirmReason(reservationId);
+        return closeWithCounter(reservationId, ReservationStatus.CONFIRMED,
+                r -> counterEngine.ship(r.getInventory().getId(), r.getQuantity(), reason),
+                r -> { // 출고를 되돌리는 연산이 없으므로 입고 후 다시 할당한다
+                    counterEngine.inbound(r.getInventory().getId(), r.getQuantity(),
+                            "예약 확정 실패 보상");
+                    counterEngine.allocate(r.getInventory().getId(), r.getQuantity(),
+                            "예약 확정 실패 보상");
+                });
+    }
+
+    /**
+     * 인메모리 모드의 예약 종료. 카운터 반영은 예약 행 잠금을 쥔 종료 트랜잭션 안에서 하므로, 반영이 실패하면 예약도
+     * ACTIVE로 남는다. 반영 후 커밋이 실패하면 {@code compensate}로 카운터를 되돌린다.
+     */
+    private ReservationResponse closeWithCounter(Long reservationId, ReservationStatus to,
+            Function<InventoryReservation, InventorySnapshot> apply,
+            Consumer<InventoryReservation> compensate) {
+        AtomicReference<InventoryReservation> applied = new AtomicReference<>();
+        try {
+            return reservationService.close(reservationId, to, r -> {
+                InventorySnapshot s = apply.apply(r);
+                applied.set(r);
+                return InventoryResponse.of(s);
+            });
+        } catch (RuntimeException e) {
+            if (applied.get() != null) {
+                try {
+                    compensate.accept(applied.get());
+                } catch (RuntimeException ex) {
+                    e.addSuppressed(ex);
+                }
+            }
+            throw e;
+        }
+    }
+
+    // 인메모리 모드에서는 아직 플러시되지 않은 값이 최신이므로 카운터를 우선한다.
+    public InventoryResponse getById(Long inventoryId) {
+        if (counterEngine.isEnabled()) {
+            return counterEngine.peek(inventoryId)
+                    .map(InventoryResponse::of)
+                    .orElseGet(() -> inventoryService.getById(inventoryId));
+        }
+        return inventoryService.getById(inventoryId);
+    }
+
+    public InventoryResponse getByKey(Long variantId, String skuCode) {
+        InventoryResponse fromDb = inventoryService.getByKey(variantId, skuCode);
+        if (counterEngine.isEnabled()) {
+            return counterEngine.peek(fromDb.id()).map(InventoryResponse::of).orElse(fromDb);
+        }
+        return fromDb;
+    }
+
+    // 인메모리 모드에서는 이미 로딩된 카운터 값으로 덮어쓴다(로딩되지 않은 재고는 DB 값이 최신).
+    public List<InventoryAvailability> getAvailability(List<Long> variantIds,
+            List<String> skuCodes) {
+        List<InventoryAvailability> fromDb = inventoryService.getAvailability(variantIds, skuCodes);
+        if (!counterEngine.isEnabled()) {
+            return fromDb;
+        }
+        return fromDb.stream()
+                .map(a -> counterEngine.peek(a.inventoryId())
+                        .map(InventoryAvailability::of)
+                        .orElse(a))
+                .toList();
+    }
+
+    private static void validatePositive(long qty) {
+        if (qty <= 0) {
+            throw new ProductException(ProductErrorCode.INVALID_QUANTITY_ONLY_POSITIVE, qty);
+        }
+    }
+}
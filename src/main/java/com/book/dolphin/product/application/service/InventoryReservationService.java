@@ -0,0 +1,125 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.product.application.dto.response.InventoryResponse;
+import com.book.dolphin.product.application.dto.response.ReservationResponse;
+import com.book.dolphin.product.domain.entity.InventoryReservation;
+import com.book.dolphin.product.domain.entity.InventoryReservation.ReservationStatus;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.domain.repository.InventoryRepository;
+import com.book.dolphin.product.domain.repository.InventoryReservationRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryConditionalWriter;
+import com.book.dolphin.product.infrastructure.inventory.InventoryReservationProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 만료 시각이 있는 재고 할당(예약).
+ *
+ * <ul>
+ *   <li>예약: 할당 + 예약 기록을 한 트랜잭션으로</li>
+ *   <li>확정/해제: 예약을 ACTIVE에서 조건부로 종료한 뒤 출고/할당 해제</li>
+ *   <li>만료: {@code InventoryReservationSweeper}가 배치로 처리</li>
+ * </ul>
+ *
+ * <p>인메모리 카운터 모드의 경로 선택은 {@link InventoryFacade}가 한다.
+ * 조건부 UPDATE 모드에서는 재고 반영을 {@link InventoryConditionalWriter}가 같은 트랜잭션에서 한다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class InventoryReservationService {
+
+    private final InventoryService inventoryService;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final InventoryReservationProperties properties;
+    private final InventoryConditionalWriter conditionalWriter;
+
+    /**
+     * 요청 TTL(초)을 검증해 만료 시각을 계산한다. 없으면 기본 TTL.
+     */
+    public LocalDateTime expiresAt(Long ttlSeconds) {
+        long maxSeconds = properties.maxTtlMs() / 1000;
+        if (ttlSeconds != null && (ttlSeconds <= 0 || ttlSeconds > maxSeconds)) {
+            throw new ProductException(ProductErrorCode.INVALID_RESERVATION_TTL, maxSeconds,
+                    ttlSeconds);
+        }
+        Duration ttl = ttlSeconds == null ? Duration.ofMillis(properties.defaultTtlMs())
+                : Duration.ofSeconds(ttlSeconds);
+        return LocalDateTime.now().plus(ttl);
+    }
+
+    @Transactional
+    public ReservationResponse reserve(Long inventoryId, long qty, String reason,
+            LocalDateTime expiresAt) {
+        InventoryResponse allocated = conditionalWriter.isEnabled()
+                ? InventoryResponse.of(conditionalWriter.allocate(inventoryId, qty, reason))
+                : inventoryService.allocate(inventoryId, qty, reason);
+        return record(allocated, qty, reason, expiresAt);
+    }
+
+    /**
+     * 이미 할당된 재고(인메모리 카운터)에 대한 예약만 기록한다.
+     */
+    @Transactional
+    public ReservationResponse record(InventoryResponse allocated, long qty, String reason,
+            LocalDateTime expiresAt) {
+        InventoryReservation reservation = reservationRepository.save(InventoryReservation.hold(
+                inventoryRepository.getReferenceById(allocated.id()), qty, reason, expiresAt));
+        return ReservationResponse.of(reservation, ReservationStatus.ACTIVE, allocated);
+    }
+
+    @Transactional
+    public ReservationResponse release(Long reservationId) {
+        String reason = releaseReason(reservationId);
+        return close(reservationId, ReservationStatus.RELEASED, r -> conditionalWriter.isEnabled()
+                ? InventoryResponse.of(conditionalWriter.deallocate(
+                        r.getInventory().getId(), r.getQuantity(), reason))
+                : inventoryService.deallocate(r.getInventory().getId(), r.getQuantity(), reason));
+    }
+
+    @Transactional
+    public ReservationResponse confirm(Long reservationId) {
+        String reason = confirmReason(reservationId);
+        return close(reservationId, ReservationStatus.CONFIRMED, r -> conditionalWriter.isEnabled()
+                ? InventoryResponse.of(conditionalWriter.ship(
+                        r.getInventory().getId(), r.getQuantity(), reason))
+                : inventoryService.ship(r.getInventory().getId(), r.getQuantity(), reason));
+    }
+
+    /**
+     * 예약을 ACTIVE에서 {@code to}로 종료하고, 예약 행 잠금을 쥔 채 같은 트랜잭션에서 {@code apply}로 재고를 반영한다.
+     * 반영이 실패하면 종료도 롤백되어 예약은 ACTIVE로 남는다.
+     */
+    @Transactional
+    public ReservationResponse close(Long reservationId, ReservationStatus to,
+            Function<InventoryReservation, InventoryResponse> apply) {
+        InventoryReservation r = close(reservationId, to);
+        return ReservationResponse.of(r, to, apply.apply(r));
+    }
+
+    /**
+     * 예약을 ACTIVE에서 {@code to}로 종료한다(재고 반영 없음). 이미 종료된 예약이면 409.
+     */
+    private InventoryReservation close(Long reservationId, ReservationStatus to) {
+        InventoryReservation r = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND_RESERVATION,
+                        reservationId));
+        if (reservationRepository.close(reservationId, to) == 0) {
+            throw new ProductException(ProductErrorCode.RESERVATION_NOT_ACTIVE, reservationId);
+        }
+        return r;
+    }
+
+    static String releaseReason(Long reservationId) {
+        return "예약 해제 #" + reservationId;
+    }
+
+    static String confirmReason(Long reservationId) {
+        return "예약 확정 #" + reservationId;
+    }
+}
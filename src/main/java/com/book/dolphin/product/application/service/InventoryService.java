@@ -1,15 +1,24 @@
 package com.book.dolphin.product.application.service;
 
+import com.book.dolphin.product.application.dto.response.InventoryAvailability;
 import com.book.dolphin.product.application.dto.response.InventoryResponse;
 import com.book.dolphin.product.domain.entity.Inventory;
-import com.book.dolphin.product.domain.entity.InventoryLedger;
 import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
 import com.book.dolphin.product.domain.entity.ProductVariant;
 import com.book.dolphin.product.domain.exception.ProductErrorCode;
 import com.book.dolphin.product.domain.exception.ProductException;
-import com.book.dolphin.product.domain.repository.InventoryLedgerRepository;
 import com.book.dolphin.product.domain.repository.InventoryRepository;
+import com.book.dolphin.product.domain.repository.InventoryRepository.AvailabilityRow;
 import com.book.dolphin.product.domain.repository.ProductVariantRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerAppender;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,9 +27,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class InventoryService {
 
+    /**
+     * 가용성 일괄 조회 1회당 최대 키 수(variantId + skuCode). IN 목록 길이를 제한한다.
+     */
+    static final int MAX_AVAILABILITY_KEYS = 500;
+
     private final InventoryRepository inventoryRepository;
-    private final InventoryLedgerRepository ledgerRepository;
     private final ProductVariantRepository variantRepository;
+    private final InventoryLedgerAppender ledgerAppender;
 
     // 초기화: variantId만 받는다. skuCode는 variant에서 가져와 캐싱한다.
     @Transactional
@@ -49,9 +63,7 @@ public class InventoryService {
         }
         Inventory inv = get(inventoryId);
         inv.increaseOnHand(qty);
-        ledgerRepository.save(InventoryLedger.builder()
-                .inventory(inv).eventType(LedgerEventType.INBOUND).quantity(+qty).reason(reason)
-                .build());
+        ledgerAppender.append(inv, LedgerEventType.INBOUND, +qty, reason);
         return InventoryResponse.of(inv);
     }
 
@@ -62,12 +74,43 @@ public class InventoryService {
         }
         Inventory inv = get(inventoryId);
         inv.allocate(qty);
-        ledgerRepository.save(InventoryLedger.builder()
-                .inventory(inv).eventType(LedgerEventType.ALLOCATE).quantity(+qty).reason(reason)
-                .build());
+        ledgerAppender.append(inv, LedgerEventType.ALLOCATE, +qty, reason);
         return InventoryResponse.of(inv);
     }
 
+    /**
+     * 다건 할당(전부 성공 또는 전부 실패).
+     *
+     * <p>재고는 PK 오름차순으로 한 번에 조회하고, 원장은 배치 한 번으로 적재한다.
+     * 한 라인이라도 실패하면 예외로 트랜잭션 전체가 롤백된다.</p>
+     *
+     * @param quantities 재고 ID → 할당 수량(중복 라인은 호출 측에서 합산, 키 오름차순)
+     */
+    @Transactional
+    public List<InventoryResponse> allocateAll(SortedMap<Long, Long> quantities, String reason) {
+        List<Inventory> inventories = inventoryRepository.findAllWithVariantOrderById(
+                quantities.keySet());
+        if (inventories.size() != quantities.size()) {
+            Long missing = quantities.keySet().stream()
+                    .filter(id -> inventories.stream().noneMatch(inv -> inv.getId().equals(id)))
+                    .findFirst()
+                    .orElse(null);
+            throw new ProductException(ProductErrorCode.NOT_FOUND_INVENTORY, missing);
+        }
+
+        List<InventoryResponse> responses = new ArrayList<>(inventories.size());
+        for (Inventory inv : inventories) {
+            long qty = quantities.get(inv.getId());
+            if (qty <= 0) {
+                throw new ProductException(ProductErrorCode.INVALID_QUANTITY_ONLY_POSITIVE, qty);
+            }
+            inv.allocate(qty);
+            ledgerAppender.append(inv, LedgerEventType.ALLOCATE, +qty, reason);
+            responses.add(InventoryResponse.of(inv));
+        }
+        return responses;
+    }
+
     @Transactional
     public InventoryResponse deallocate(Long inventoryId, long qty, String reason) {
         if (qty <= 0) {
@@ -75,9 +118,7 @@ public class InventoryService {
         }
         Inventory inv = get(inventoryId);
         inv.deallocate(qty);
-        ledgerRepository.save(InventoryLedger.builder()
-                .inventory(inv).eventType(LedgerEventType.DEALLOCATE).quantity(-qty).reason(reason)
-                .build());
+        ledgerAppender.append(inv, LedgerEventType.DEALLOCATE, -qty, reason);
         return InventoryResponse.of(inv);
     }
 
@@ -90,9 +131,7 @@ public class InventoryService {
         // 할당 → 출고 순서
         inv.deallocate(qty);
         inv.decreaseOnHand(qty);
-        ledgerRepository.save(InventoryLedger.builder()
-                .inventory(inv).eventType(LedgerEventType.SHIP).quantity(-qty).reason(reason)
-                .build());
+        ledgerAppender.append(inv, LedgerEventType.SHIP, -qty, reason);
         return InventoryResponse.of(inv);
     }
 
@@ -123,4 +162,60 @@ public class InventoryService {
                         () -> new ProductException(ProductErrorCode.NOT_FOUND_INVENTORY, skuCode));
         return InventoryResponse.of(inv);
     }
+
+    /**
+     * 가용성 일괄 조회(장바구니/목록 재고 배지).
+     *
+     * <p>variantId 목록과 SKU 목록을 각각 {@code IN} 쿼리 한 번으로 읽고, 엔티티 대신 필요한 컬럼만 프로젝션한다.
+     * 같은 재고가 두 키로 모두 걸리면 한 번만 담고, 재고가 없는 키는 결과에서 빠진다.
+     * SKU가 여러 재고에 걸리면 단건 조회와 같이 ID가 가장 작은 재고를 쓴다.</p>
+     *
+     * @param variantIds 변형 ID 목록(0 이하/null 무시)
+     * @param skuCodes   SKU 목록(공백 무시)
+     * @return 재고별 가용 수량/백오더 여부(variantId 결과 → SKU 결과 순)
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryAvailability> getAvailability(List<Long> variantIds,
+            List<String> skuCodes) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (variantIds != null) {
+            for (Long id : variantIds) {
+                if (id != null && id > 0) {
+                    ids.add(id);
+                }
+            }
+        }
+        Set<String> skus = new LinkedHashSet<>();
+        if (skuCodes != null) {
+            for (String sku : skuCodes) {
+                if (sku != null && !sku.isBlank()) {
+                    skus.add(sku.strip());
+                }
+            }
+        }
+        if (ids.isEmpty() && skus.isEmpty()) {
+            throw new ProductException(ProductErrorCode.AT_LEAST_ONE_VARIANTID_OR_SKU_CODE);
+        }
+        int requested = ids.size() + skus.size();
+        if (requested > MAX_AVAILABILITY_KEYS) {
+            throw new ProductException(ProductErrorCode.TOO_MANY_AVAILABILITY_KEYS,
+                    MAX_AVAILABILITY_KEYS, requested);
+        }
+
+        Map<Long, InventoryAvailability> out = new LinkedHashMap<>(requested * 2);
+        if (!ids.isEmpty()) {
+            for (AvailabilityRow row : inventoryRepository.findAvailabilityByVariantIdIn(ids)) {
+                out.putIfAbsent(row.getInventoryId(), InventoryAvailability.of(row));
+            }
+        }
+        if (!skus.isEmpty()) {
+            Set<String> seen = new HashSet<>(skus.size() * 2);
+            for (AvailabilityRow row : inventoryRepository.findAvailabilityBySkuCodeIn(skus)) {
+                if (seen.add(row.getSkuCode())) { // ID 오름차순이므로 SKU별 첫 행이 대표
+                    out.putIfAbsent(row.getInventoryId(), InventoryAvailability.of(row));
+                }
+            }
+        }
+        return List.copyOf(out.values());
+    }
 }
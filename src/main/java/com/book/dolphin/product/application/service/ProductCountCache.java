@@ -0,0 +1,97 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.category.application.event.CategoryChangedEvent;
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 목록 필터별 전체 개수 캐시.
+ *
+ * <ul>
+ *   <li>버전: 이 인스턴스에서 상품 쓰기가 커밋될 때마다 1씩 오른다. 항목에는 세기 직전의 버전을 기록한다.</li>
+ *   <li>정확(EXACT): 캐시를 읽지 않고 항상 센다. 버전은 인스턴스마다 따로라 다른 인스턴스의 쓰기를 모르므로,
+ *       캐시로는 정확하다고 보장할 수 없다. 센 값은 추정 모드를 위해 항목으로 남긴다.</li>
+ *   <li>추정(ESTIMATE): 상품 한 건의 변경은 어떤 필터의 개수도 최대 1만 바꾸므로, 항목 이후 쓰기 수가 곧 오차 상한이다.
+ *       상한이 {@code estimateMaxError} 이내면 그대로 쓴다. 여러 인스턴스로 배포하면 다른 인스턴스의 쓰기만큼
+ *       실제 오차가 더 클 수 있다.</li>
+ *   <li>카테고리 변경(이동/삭제)은 하위 포함 필터 결과를 한꺼번에 바꾸므로 전부 비운다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+class ProductCountCache {
+
+    private final ProductCountProperties properties;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 정확한 개수(항상 센다).
+     */
+    long exact(Key key, LongSupplier counter) {
+        return count(key, counter).count();
+    }
+
+    /**
+     * 오차 상한 이내의 개수.
+     */
+    Estimate estimate(Key key, LongSupplier counter) {
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            long stale = version.get() - cached.version();
+            if (stale <= properties.estimateMaxError()) {
+                return new Estimate(cached.count(), stale);
+            }
+        }
+        return new Estimate(count(key, counter).count(), 0L);
+    }
+
+    // 세기 전에 버전을 읽어 두어야, 세는 동안 커밋된 쓰기가 있으면 다음 조회에서 다시 센다
+    private Entry count(Key key, LongSupplier counter) {
+        long v = version.get();
+        Entry fresh = new Entry(counter.getAsLong(), v);
+        if (entries.size() >= properties.maxEntries()) {
+            entries.clear();
+        }
+        entries.put(key, fresh);
+        return fresh;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onProductChanged(ProductChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onCategoryChanged(CategoryChangedEvent event) {
+        // 변경 전에 센 항목이 늦게 들어와도 추정 모드에서 쓰이지 않도록 오차 상한을 넘겨 올린다
+        version.addAndGet(properties.estimateMaxError() + 1);
+        entries.clear();
+    }
+
+    /**
+     * 정규화한 목록 필터(빈 문자열은 null로 접힌 값).
+     */
+    record Key(String keyword, Long categoryId, boolean includeSubcategories, String status,
+               Long priceMin, Long priceMax) {
+
+    }
+
+    /**
+     * @param maxError 실제 개수와의 최대 차이(0이면 정확)
+     */
+    record Estimate(long count, long maxError) {
+
+    }
+
+    private record Entry(long count, long version) {
+
+    }
+}
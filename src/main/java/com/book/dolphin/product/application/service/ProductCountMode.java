@@ -0,0 +1,33 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import java.util.Locale;
+
+/**
+ * 목록 전체 개수(total) 계산 방식.
+ *
+ * <ul>
+ *   <li>{@link #EXACT}: 매번 DB에서 센다(기본). 캐시하지 않으므로 다른 인스턴스의 쓰기도 바로 반영된다.</li>
+ *   <li>{@link #HAS_NEXT}: 개수를 세지 않고 limit + 1 건을 읽어 다음 페이지 유무만 알려 준다.</li>
+ *   <li>{@link #ESTIMATE}: 캐시된 개수가 오차 상한 이내로만 낡았으면 다시 세지 않고 쓴다.
+ *       오차 상한은 이 인스턴스가 본 쓰기 기준이다.</li>
+ * </ul>
+ */
+enum ProductCountMode {
+    EXACT, HAS_NEXT, ESTIMATE;
+
+    /**
+     * 요청 값을 대소문자 구분 없이 읽는다. 없으면 {@link #EXACT}, 모르는 값이면 400.
+     */
+    static ProductCountMode from(String mode) {
+        if (mode == null) {
+            return EXACT;
+        }
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ProductException(ProductErrorCode.INVALID_COUNT_MODE, mode);
+        }
+    }
+}
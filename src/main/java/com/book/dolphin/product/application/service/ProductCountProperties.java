@@ -0,0 +1,19 @@
+package com.book.dolphin.product.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 목록 개수 캐시 설정({@code dolphin.product.count.*}).
+ *
+ * @param maxEntries       캐시할 필터 조합 수 상한(넘으면 비우고 다시 채운다)
+ * @param estimateMaxError ESTIMATE 모드에서 허용하는 최대 오차(건). 캐시 이후 상품 쓰기 수가 이 값을 넘으면 다시 센다.
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.product.count")
+public record ProductCountProperties(
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("100") long estimateMaxError
+) {
+
+}
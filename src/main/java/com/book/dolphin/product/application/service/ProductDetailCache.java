@@ -0,0 +1,95 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.category.application.event.CategoryChangedEvent;
+import com.book.dolphin.product.application.dto.response.ProductResponse;
+import com.book.dolphin.product.application.dto.response.ProductResponse.CategoryBrief;
+import com.book.dolphin.product.application.dto.response.ProductResponse.MediaBrief;
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 상세 응답({@link ProductResponse}) read-through 캐시.
+ *
+ * <ul>
+ *   <li>축출: Caffeine(W-TinyLFU). 응답의 추정 크기로 무게를 매겨 총량을 {@code maxWeightBytes}로 제한한다.</li>
+ *   <li>적재: 미스일 때만 읽기 전용 트랜잭션을 열어 읽는다(히트는 DB 커넥션을 잡지 않는다).</li>
+ *   <li>무효화: 상품 변경 커밋 후({@link ProductChangedEvent}) 해당 상품을, 카테고리 변경 커밋 후에는 전체를 비운다
+ *       (응답에 카테고리 이름이 들어 있다). 적재 중인 키를 무효화하면 적재가 끝난 뒤 지우므로 낡은 값이 남지 않는다.</li>
+ *   <li>지표: {@code cache.gets{cache=product.detail,result=hit|miss}}, {@code cache.evictions},
+ *       {@code cache.size} 등(Micrometer).</li>
+ * </ul>
+ */
+@Component
+public class ProductDetailCache {
+
+    private final ProductDetailCacheProperties properties;
+    private final TransactionTemplate readOnlyTx;
+    private final Cache<Long, ProductResponse> cache;
+
+    ProductDetailCache(ProductDetailCacheProperties properties,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxWeightBytes())
+                .weigher((Long id, ProductResponse r) -> weigh(r))
+                .expireAfterWrite(Duration.ofMillis(properties.expireAfterWriteMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product.detail");
+    }
+
+    /**
+     * 캐시된 응답을 돌려주고, 없으면 읽기 전용 트랜잭션 안에서 {@code loader}로 만들어 넣는다.
+     */
+    ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+        if (!properties.enabled()) {
+            return readOnlyTx.execute(status -> loader.apply(productId));
+        }
+        return cache.get(productId, id -> readOnlyTx.execute(status -> loader.apply(id)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onProductChanged(ProductChangedEvent event) {
+        cache.invalidate(event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onCategoryChanged(CategoryChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    // 문자열 UTF-16 길이 + 객체 헤더 정도의 대략값(정밀할 필요는 없고 큰 본문이 자리를 더 차지하게 하는 용도)
+    static int weigh(ProductResponse r) {
+        long bytes = 96L + chars(r.name()) + chars(r.content()) + chars(r.status());
+        for (CategoryBrief c : r.categories()) {
+            bytes += 48L + chars(c.name());
+        }
+        bytes += mediaBytes(r.representatives()) + mediaBytes(r.contents());
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long mediaBytes(List<MediaBrief> media) {
+        long bytes = 0L;
+        for (MediaBrief m : media) {
+            bytes += 48L + chars(m.url()) + chars(m.altText());
+        }
+        return bytes;
+    }
+
+    private static long chars(String s) {
+        return s == null ? 0L : 40L + 2L * s.length();
+    }
+}
@@ -0,0 +1,21 @@
+package com.book.dolphin.product.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 상세 응답 캐시 설정({@code dolphin.product.detail-cache.*}).
+ *
+ * @param enabled            false면 매 요청 DB에서 읽는다
+ * @param maxWeightBytes     캐시에 담을 응답의 추정 크기 합 상한(바이트)
+ * @param expireAfterWriteMs 무효화를 놓쳤을 때를 대비한 최대 보관 시간(ms)
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.product.detail-cache")
+public record ProductDetailCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("67108864") long maxWeightBytes,
+        @DefaultValue("600000") long expireAfterWriteMs
+) {
+
+}
@@ -0,0 +1,59 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서(마지막으로 내려준 행의 정렬 키).
+ *
+ * <p>클라이언트에는 불투명한 문자열(base64url)로만 노출한다. 내부 형식: {@code 정렬|가격|상품ID}</p>
+ *
+ * @param sort  커서를 만든 정렬(다른 정렬로 재사용 불가)
+ * @param price 마지막 행의 가격(RECENT는 사용하지 않음)
+ * @param id    마지막 행의 상품 ID
+ */
+record ProductListCursor(Sort sort, long price, long id) {
+
+    enum Sort {
+        RECENT, PRICE_ASC, PRICE_DESC;
+
+        static Sort from(String sort) {
+            if ("PRICE_ASC".equals(sort)) {
+                return PRICE_ASC;
+            }
+            if ("PRICE_DESC".equals(sort)) {
+                return PRICE_DESC;
+            }
+            return RECENT;
+        }
+    }
+
+    String encode() {
+        String raw = sort.name() + "|" + price + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 {@code null}(첫 페이지)
+     */
+    static ProductListCursor decode(String cursor, Sort expected) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            ProductListCursor decoded = new ProductListCursor(
+                    Sort.valueOf(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            if (decoded.sort() != expected) {
+                throw new ProductException(ProductErrorCode.INVALID_LIST_CURSOR);
+            }
+            return decoded;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new ProductException(ProductErrorCode.INVALID_LIST_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.book.dolphin.product.application.service;
+
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.book.dolphin.product.application.event.ProductChangedEvent.Cause;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.book.dolphin.product.domain.repository.ProductRepository.PriceRefreshRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비정규화된 현재가({@code products.current_price}) 갱신.
+ *
+ * <p>다시 계산한 상품마다 {@link ProductChangedEvent}(PRICE)를 발행한다. 커밋 후 리스너가 캐시를 비우고
+ * 다음 전환 시각을 스케줄러에 등록한다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class ProductPriceRefreshService {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 전환 시각이 지난 상품을 다시 계산한다(놓친 경계 보정용).
+     *
+     * @return 이번에 다시 계산한 상품 수(배치 크기와 같으면 남은 대상이 더 있을 수 있다)
+     */
+    @Transactional
+    public int refreshDue(LocalDateTime now, int batchSize) {
+        List<Long> ids = productRepository.findPriceRefreshDueIds(now,
+                PageRequest.of(0, batchSize));
+        return refresh(ids, now);
+    }
+
+    /**
+     * 지정한 상품들을 {@code now} 기준으로 다시 계산한다(경계 도달 시 스케줄러가 호출).
+     */
+    @Transactional
+    public int refresh(Collection<Long> productIds, LocalDateTime now) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        List<Product> products = productRepository.findAllWithPricesByIdIn(productIds);
+        for (Product p : products) {
+            p.refreshCurrentPrice(now);
+            eventPublisher.publishEvent(
+                    new ProductChangedEvent(p.getId(), Cause.PRICE, p.getPriceRefreshAt()));
+        }
+        return products.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PriceRefreshRow> findUpcoming(LocalDateTime from, LocalDateTime until) {
+        return productRepository.findPriceRefreshBetween(from, until);
+    }
+}
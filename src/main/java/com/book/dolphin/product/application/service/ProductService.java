@@ -1,12 +1,21 @@
 package com.book.dolphin.product.application.service;
 
+import com.book.dolphin.category.application.tree.CategoryTreeCache;
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
 import com.book.dolphin.category.domain.entity.Category;
 import com.book.dolphin.category.domain.entity.CategoryStatus;
 import com.book.dolphin.category.domain.exception.CategoryErrorCode;
 import com.book.dolphin.category.domain.exception.CategoryException;
 import com.book.dolphin.category.domain.repository.CategoryRepository;
 import com.book.dolphin.product.application.dto.request.ProductCreateRequest;
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.book.dolphin.product.application.event.ProductChangedEvent.Cause;
 import com.book.dolphin.product.application.dto.request.ProductCreateRequest.CategoryAssign;
+import com.book.dolphin.product.application.dto.response.ProductCursorPage;
+import com.book.dolphin.product.application.dto.response.ProductFacetResponse;
+import com.book.dolphin.product.application.dto.response.ProductFacetResponse.CategoryFacet;
+import com.book.dolphin.product.application.dto.response.ProductFacetResponse.PriceFacet;
+import com.book.dolphin.product.application.dto.response.ProductFacetResponse.StatusFacet;
 import com.book.dolphin.product.application.dto.response.ProductListItem;
 import com.book.dolphin.product.application.dto.response.ProductListPage;
 import com.book.dolphin.product.application.dto.response.ProductResponse;
@@ -20,6 +29,10 @@ import com.book.dolphin.product.domain.exception.ProductErrorCode;
 import com.book.dolphin.product.domain.exception.ProductException;
 import com.book.dolphin.product.domain.repository.ProductRepository;
 import com.book.dolphin.product.domain.repository.ProductRepository.ProductListRow;
+import com.book.dolphin.product.infrastructure.facet.FacetCounts;
+import com.book.dolphin.product.infrastructure.facet.FacetQuery;
+import com.book.dolphin.product.infrastructure.facet.ProductFacetIndex;
+import com.book.dolphin.product.infrastructure.search.ProductSearchIndex;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -28,8 +41,10 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +56,18 @@ public class ProductService {
 
     private final CategoryRepository categoryRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ProductSearchIndex searchIndex;
+
+    private final ProductFacetIndex facetIndex;
+
+    private final CategoryTreeCache categoryTreeCache;
+
+    private final ProductCountCache countCache;
+
+    private final ProductDetailCache detailCache;
+
     @Transactional
     public ProductResponse create(ProductCreateRequest request) {
         // 1) Product 생성 (sku 제거)
@@ -60,6 +87,7 @@ public class ProductService {
 
         // 6) 저장
         Product saved = productRepository.save(product);
+        publishChanged(saved, Cause.CREATED);
 
         // 7) 응답
         return toResponse(saved);
@@ -137,14 +165,12 @@ public class ProductService {
     }
 
     private ProductResponse toResponse(Product p) {
-        Long currentWon = p.currentPrice().map(m -> m.getAmount().longValue()).orElse(null);
-
         return new ProductResponse(
                 p.getId(),
                 p.getName(),
                 p.getContent(),
                 p.getProductStatus().name(),
-                currentWon,
+                p.getCurrentPriceWon(), // 가격 변경/할인 경계마다 갱신되는 비정규화 값
                 p.getCategories().stream()
                         .sorted(Comparator.comparingInt(ProductCategory::getSortKey))
                         .map(pc -> new ProductResponse.CategoryBrief(
@@ -152,7 +178,7 @@ public class ProductService {
                                 pc.getCategory().getName(),
                                 pc.isPrimary(),
                                 pc.getSortKey()
-                        )).collect(Collectors.toList()),
+                        )).toList(),
                 p.getMediaList().stream()
                         .filter(m -> m.getType() == MediaType.REPRESENTATIVE)
                         .sorted(Comparator.comparingInt(ProductMedia::getSortKey))
@@ -245,35 +271,74 @@ public class ProductService {
         }
     }
 
-    // 1) 상세 조회
-    @Transactional(readOnly = true)
+    // 1) 상세 조회(캐시 미스일 때만 읽기 전용 트랜잭션으로 DB 조회)
     public ProductResponse getOne(Long id) {
-        Product p = productRepository.findDetailById(id)
-                .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND_PRODUCT, id));
-        return toResponse(p);
+        return detailCache.get(id, key -> {
+            Product p = productRepository.findDetailById(key)
+                    .orElseThrow(
+                            () -> new ProductException(ProductErrorCode.NOT_FOUND_PRODUCT, key));
+            return toResponse(p);
+        });
     }
 
-    // 2) 목록/검색/정렬/페이지
+    // 2) 목록/검색/정렬/페이지. total은 countMode(EXACT/HAS_NEXT/ESTIMATE)에 따라 센다.
     @Transactional(readOnly = true)
-    public ProductListPage list(String keyword, Long categoryId, String status, String sort,
-            int page, int size) {
+    public ProductListPage list(String keyword, Long categoryId, boolean includeSubcategories,
+            String status, Long priceMin, Long priceMax, String sort, int page, int size,
+            String countMode) {
         int limit = Math.max(1, Math.min(size, 100));
         int offset = Math.max(0, page) * limit;
+        ProductCountMode mode = ProductCountMode.from(emptyToNull(countMode));
+
+        String kw = emptyToNull(keyword);
+        String st = emptyToNull(status);
+        KeywordFilter kf = keywordFilter(kw, st);
+        if (kf.matchesNothing()) {
+            return new ProductListPage(List.of(), page, limit,
+                    mode == ProductCountMode.HAS_NEXT ? null : 0L, false, mode.name(),
+                    mode == ProductCountMode.HAS_NEXT ? null : 0L);
+        }
+        int depth = categoryDepth(includeSubcategories);
 
         List<ProductListRow> rows = productRepository.findListSimple(
-                emptyToNull(keyword),
+                kf.like(),
+                kf.likeContent(),
+                kf.useIds(),
+                kf.ids(),
                 categoryId,
-                emptyToNull(status),
+                depth,
+                st,
+                priceMin,
+                priceMax,
                 emptyToNull(sort),
-                limit,
+                mode == ProductCountMode.HAS_NEXT ? limit + 1 : limit,
                 offset
         );
 
-        long total = productRepository.countListSimple(
-                emptyToNull(keyword),
-                categoryId,
-                emptyToNull(status)
-        );
+        Long total;
+        Long totalError;
+        boolean hasNext;
+        if (mode == ProductCountMode.HAS_NEXT) {
+            hasNext = rows.size() > limit;
+            rows = hasNext ? rows.subList(0, limit) : rows;
+            total = null;
+            totalError = null;
+        } else {
+            ProductCountCache.Key key = new ProductCountCache.Key(kw, categoryId,
+                    includeSubcategories, st, priceMin, priceMax);
+            LongSupplier counter = () -> productRepository.countListSimple(kf.like(),
+                    kf.likeContent(), kf.useIds(), kf.ids(), categoryId, depth, st, priceMin,
+                    priceMax);
+            if (mode == ProductCountMode.ESTIMATE) {
+                ProductCountCache.Estimate estimate = countCache.estimate(key, counter);
+                total = estimate.count();
+                totalError = estimate.maxError();
+            } else {
+                total = countCache.exact(key, counter);
+                totalError = 0L;
+            }
+            hasNext = offset + rows.size() < total;
+        }
 
         List<ProductListItem> items = rows.stream().map(r ->
                 new ProductListItem(
@@ -285,7 +350,134 @@ public class ProductService {
                 )
         ).toList();
 
-        return new ProductListPage(items, page, limit, total);
+        return new ProductListPage(items, page, limit, total, hasNext, mode.name(), totalError);
+    }
+
+    // 2-1) 목록 - 커서(키셋) 페이지. total은 요청할 때만 센다.
+    @Transactional(readOnly = true)
+    public ProductCursorPage listByCursor(String keyword, Long categoryId,
+            boolean includeSubcategories, String status, Long priceMin, Long priceMax, String sort,
+            String cursor, int size, boolean includeTotal) {
+        int limit = Math.max(1, Math.min(size, 100));
+        ProductListCursor.Sort order = ProductListCursor.Sort.from(emptyToNull(sort));
+        ProductListCursor after = ProductListCursor.decode(cursor, order);
+        Long lastId = after == null ? null : after.id();
+        Long lastPrice = after == null ? null : after.price();
+
+        String st = emptyToNull(status);
+        KeywordFilter kf = keywordFilter(emptyToNull(keyword), st);
+        if (kf.matchesNothing()) {
+            return new ProductCursorPage(List.of(), limit, false, null, includeTotal ? 0L : null);
+        }
+
+        String kw = kf.like();
+        boolean likeContent = kf.likeContent();
+        boolean useIds = kf.useIds();
+        List<Long> ids = kf.ids();
+        int depth = categoryDepth(includeSubcategories);
+        List<ProductListRow> rows = switch (order) {
+            case RECENT -> productRepository.findListRecentAfter(kw, likeContent, useIds, ids,
+                    categoryId, depth, st, priceMin, priceMax, lastId, limit + 1);
+            case PRICE_ASC -> productRepository.findListPriceAscAfter(kw, likeContent, useIds, ids,
+                    categoryId, depth, st, priceMin, priceMax, lastPrice, lastId, limit + 1);
+            case PRICE_DESC -> productRepository.findListPriceDescAfter(kw, likeContent, useIds,
+                    ids, categoryId, depth, st, priceMin, priceMax, lastPrice, lastId, limit + 1);
+        };
+
+        boolean hasNext = rows.size() > limit;
+        List<ProductListRow> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ProductListRow last = pageRows.get(pageRows.size() - 1);
+            long price = last.getCurrentPrice() == null ? 0L : last.getCurrentPrice();
+            nextCursor = new ProductListCursor(order, price, last.getId()).encode();
+        }
+
+        Long total = includeTotal
+                ? countCache.exact(
+                new ProductCountCache.Key(emptyToNull(keyword), categoryId, includeSubcategories,
+                        st, priceMin, priceMax),
+                () -> productRepository.countListSimple(kw, likeContent, useIds, ids, categoryId,
+                        depth, st, priceMin, priceMax))
+                : null;
+
+        List<ProductListItem> items = pageRows.stream().map(r ->
+                new ProductListItem(
+                        r.getId(),
+                        r.getName(),
+                        r.getStatus(),
+                        r.getCurrentPrice(),
+                        r.getRepImageUrl()
+                )
+        ).toList();
+
+        return new ProductCursorPage(items, limit, hasNext, nextCursor, total);
+    }
+
+    // 2-2) 목록 패싯: 같은 필터로 전체 결과 수 + 상태/카테고리/가격 구간별 개수를 한 번에 센다(DB 조회 없음)
+    public ProductFacetResponse facets(String keyword, Long categoryId,
+            boolean includeSubcategories, String status, Long priceMin, Long priceMax) {
+        String kw = emptyToNull(keyword);
+        List<Long> ids = null;
+        if (kw != null) {
+            ids = searchIndex.findAllIds(kw)
+                    .orElseThrow(() -> new ProductException(ProductErrorCode.FACETS_NOT_READY));
+        }
+        CategoryTreeSnapshot tree = categoryTreeCache.current();
+        FacetCounts counts = facetIndex.count(
+                        new FacetQuery(ids, categoryId, includeSubcategories, emptyToNull(status),
+                                priceMin, priceMax), tree)
+                .orElseThrow(() -> new ProductException(ProductErrorCode.FACETS_NOT_READY));
+
+        return new ProductFacetResponse(
+                counts.total(),
+                counts.statuses().entrySet().stream()
+                        .map(e -> new StatusFacet(e.getKey().name(), e.getValue()))
+                        .toList(),
+                counts.categories().stream()
+                        .map(c -> new CategoryFacet(c.categoryId(),
+                                tree.name(tree.indexOf(c.categoryId())), c.count()))
+                        .toList(),
+                counts.buckets().stream()
+                        .map(b -> new PriceFacet(b.from(), b.to(), b.count()))
+                        .toList()
+        );
+    }
+
+    // 카테고리 필터 깊이(클로저 depth): 하위 포함이면 제한 없음, 아니면 직접 연결(0)만
+    private int categoryDepth(boolean includeSubcategories) {
+        return includeSubcategories ? Integer.MAX_VALUE : 0;
+    }
+
+    // 키워드 → 검색 색인 ID 목록(색인 준비 + 결과가 상한 이내일 때) 또는 LIKE 필터
+    // 색인 결과가 0건이면 DB를 읽지 않는다. 다른 인스턴스에서 막 바뀐 상품은 색인 따라잡기 주기만큼 늦게 잡힌다.
+    private KeywordFilter keywordFilter(String keyword, String status) {
+        if (keyword == null) {
+            return KeywordFilter.NONE;
+        }
+        return searchIndex.findIds(keyword, status)
+                .map(ids -> new KeywordFilter(null, false, true, ids))
+                .orElseGet(() -> new KeywordFilter(ProductSearchIndex.likeKeyword(keyword),
+                        searchIndex.coversContent(), false, KeywordFilter.NO_IDS));
+    }
+
+    /**
+     * 목록 쿼리의 키워드 조건.
+     *
+     * @param like        LIKE 필터로 쓸 키워드(정규화/이스케이프된 값, 색인을 쓰면 null)
+     * @param likeContent true면 LIKE 필터가 본문도 찾는다(색인과 같은 필드)
+     * @param useIds      true면 {@code ids}로만 좁힌다
+     * @param ids         색인 결과 상품 ID(색인을 쓰지 않으면 빈 IN 절 방지용 더미)
+     */
+    private record KeywordFilter(String like, boolean likeContent, boolean useIds,
+                                 List<Long> ids) {
+
+        static final List<Long> NO_IDS = List.of(-1L);
+        static final KeywordFilter NONE = new KeywordFilter(null, false, false, NO_IDS);
+
+        boolean matchesNothing() {
+            return useIds && ids.isEmpty();
+        }
     }
 
     // 3) 상태 전환
@@ -294,6 +486,7 @@ public class ProductService {
         Product p = productRepository.findForStatusChange(id)
                 .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND_PRODUCT, id));
         p.publish(); // 카테고리 ACTIVE 검증 내부 수행
+        publishChanged(p, Cause.STATUS);
         return toResponse(p);
     }
 
@@ -302,9 +495,16 @@ public class ProductService {
         Product p = productRepository.findById(id)
                 .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND_PRODUCT, id));
         p.archive();
+        publishChanged(p, Cause.STATUS);
         return toResponse(p);
     }
 
+    // 커밋 후 리스너(캐시/가격 전환 스케줄 등)에 알린다
+    private void publishChanged(Product p, Cause cause) {
+        eventPublisher.publishEvent(
+                new ProductChangedEvent(p.getId(), cause, p.getPriceRefreshAt()));
+    }
+
     private String emptyToNull(String s) {
         return (s == null || s.isBlank()) ? null : s;
     }
@@ -50,7 +50,8 @@ public class VariantService {
                 .attributesJson(request.attributesJson())
                 .build();
         try {
-            ProductVariant saved = productVariantRepository.save(variant);
+            // 시퀀스 ID는 INSERT를 커밋 시점으로 미루므로, 유니크 위반을 여기서 잡기 위해 즉시 flush
+            ProductVariant saved = productVariantRepository.saveAndFlush(variant);
             return VariantResponse.of(saved);
         } catch (
                 DataIntegrityViolationException ex) {
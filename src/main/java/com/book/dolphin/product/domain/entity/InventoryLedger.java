@@ -11,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -27,7 +28,8 @@ import lombok.NoArgsConstructor;
 public class InventoryLedger {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_ledger_seq")
+    @SequenceGenerator(name = "inventory_ledger_seq", sequenceName = "inventory_ledger_seq", allocationSize = 100)
     @Column(name = "inventory_ledger_id")
     private Long id;
 
@@ -0,0 +1,99 @@
+package com.book.dolphin.product.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 만료 시각이 있는 재고 할당(장바구니/결제 대기).
+ *
+ * <p>예약을 만들 때 재고를 할당하고, 확정(출고)/해제/만료 중 하나로 한 번만 끝난다.
+ * 상태 전이는 {@code status = ACTIVE} 조건부 UPDATE로만 하므로 만료 스위퍼와 사용자 요청이 겹쳐도
+ * 할당이 두 번 풀리지 않는다.</p>
+ *
+ * @implNote 만료 스캔은 {@code (status, expires_at)} 인덱스 범위를 만료 시각 순으로 배치 조회한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "inventory_reservations", indexes = {
+        @Index(name = "idx_reservation_expiry", columnList = "status, expires_at"),
+        @Index(name = "idx_reservation_inventory", columnList = "inventory_id")
+})
+@Entity
+public class InventoryReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_reservation_seq")
+    @SequenceGenerator(name = "inventory_reservation_seq", sequenceName = "inventory_reservation_seq", allocationSize = 100)
+    @Column(name = "reservation_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "reason", length = 255)
+    private String reason;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 팩토리(재고 할당은 호출 측이 같은 트랜잭션에서 수행)
+     */
+    public static InventoryReservation hold(Inventory inventory, long quantity, String reason,
+            LocalDateTime expiresAt) {
+        InventoryReservation r = new InventoryReservation();
+        r.inventory = Objects.requireNonNull(inventory);
+        r.quantity = quantity;
+        r.status = ReservationStatus.ACTIVE;
+        r.reason = reason;
+        r.expiresAt = Objects.requireNonNull(expiresAt);
+        r.createdAt = LocalDateTime.now();
+        return r;
+    }
+
+    public enum ReservationStatus {
+        /**
+         * 할당 유지 중(만료 대상)
+         */
+        ACTIVE,
+        /**
+         * 결제 성공으로 출고됨
+         */
+        CONFIRMED,
+        /**
+         * 사용자가 취소해 할당 해제됨
+         */
+        RELEASED,
+        /**
+         * TTL이 지나 스위퍼가 할당 해제함
+         */
+        EXPIRED
+    }
+}
@@ -15,8 +15,15 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -37,14 +44,31 @@ import org.hibernate.annotations.FetchMode;
 @Table(
         name = "products",
         indexes = {
-                @Index(name = "idx_products_status", columnList = "product_status")
+                @Index(name = "idx_products_status", columnList = "product_status"),
+                // 가격 정렬/범위 필터(키셋: 가격, id)
+                @Index(name = "idx_products_price", columnList = "current_price, product_id"),
+                @Index(name = "idx_products_status_price",
+                        columnList = "product_status, current_price, product_id"),
+                @Index(name = "idx_products_price_refresh", columnList = "price_refresh_at"),
+                // 메모리 색인 따라잡기(다른 인스턴스의 변경)
+                @Index(name = "idx_products_updated", columnList = "updated_at")
         }
 )
+@NamedEntityGraph(
+        // 상세 조회: 카테고리 연결 + 카테고리를 함께 읽는다. 미디어는 SUBSELECT로 한 번 더 읽는다
+        // (컬렉션 두 개를 한 쿼리로 fetch 하면 카테고리 수 × 미디어 수 곱집합 행이 나온다)
+        name = Product.DETAIL_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "categories", subgraph = "category"),
+        subgraphs = @NamedSubgraph(name = "category", attributeNodes = @NamedAttributeNode("category"))
+)
 @Entity
 public class Product {
 
+    public static final String DETAIL_GRAPH = "Product.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 100)
     @Column(name = "product_id", nullable = false, updatable = false)
     private Long id;
 
@@ -61,6 +85,27 @@ public class Product {
     @Column(name = "product_status", nullable = false, length = 30)
     private ProductStatus productStatus = ProductStatus.DRAFT;
 
+    /**
+     * 현재 판매가(원). 가격 변경 시와 할인 기간 경계마다 갱신되는 비정규화 값(목록 정렬/필터용)
+     */
+    @Column(name = "current_price", nullable = false)
+    @Comment("현재 판매가(원, 비정규화)")
+    private long currentPriceWon;
+
+    /**
+     * 다음 가격 전환 시각(할인 시작/종료). 이 시각이 지나면 {@link #refreshCurrentPrice}로 다시 계산한다.
+     */
+    @Column(name = "price_refresh_at")
+    @Comment("다음 가격 전환 시각")
+    private LocalDateTime priceRefreshAt;
+
+    /**
+     * 마지막 변경 시각. 메모리 색인이 다른 인스턴스의 변경을 따라잡는 기준이다.
+     */
+    @Column(name = "updated_at", nullable = false)
+    @Comment("마지막 변경 시각")
+    private LocalDateTime updatedAt;
+
     /**
      * 배리언트
      */
@@ -96,6 +141,12 @@ public class Product {
         this.content = Objects.requireNonNullElse(content, "");
     }
 
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // 카테고리 연결
     public void addCategory(Category category, boolean primary, int sortKey) {
         // 대표 카테고리는 한 개만 허용
@@ -105,10 +156,13 @@ public class Product {
 
         ProductCategory pc = new ProductCategory(this, category, primary, sortKey);
         categories.add(pc);
+        touch(); // 연결 행만 바뀌면 상품 행이 갱신되지 않으므로 직접 올린다
     }
 
     public void removeCategory(Long categoryId) {
-        categories.removeIf(pc -> pc.getCategory().getId().equals(categoryId));
+        if (categories.removeIf(pc -> pc.getCategory().getId().equals(categoryId))) {
+            touch();
+        }
     }
 
     // 미디어(이미지)
@@ -152,6 +206,7 @@ public class Product {
         prices.stream().filter(p -> p.getType() == PriceType.LIST && p.isActive())
                 .forEach(ProductPrice::deactivate);
         prices.add(ProductPrice.listPrice(this, amount));
+        refreshCurrentPrice(LocalDateTime.now());
     }
 
     public void setSalePrice(Money amount, DateRange period) {
@@ -163,15 +218,57 @@ public class Product {
             throw new ProductException(ProductErrorCode.DUPLICATE_SALE_PERIOD);
         }
         prices.add(ProductPrice.salePrice(this, amount, period));
+        refreshCurrentPrice(LocalDateTime.now());
     }
 
     public Optional<Money> currentPrice() {
-        // 우선순위: 유효한 SALE > LIST
-        return prices.stream()
-                .filter(ProductPrice::isEffectiveNow)
-                .sorted(Comparator.comparing(ProductPrice::getType)) // SALE가 LIST보다 앞서도록 enum 순서 설계
-                .map(ProductPrice::getAmount)
-                .findFirst();
+        return priceAt(LocalDateTime.now());
+    }
+
+    /**
+     * {@code now} 시점의 판매가. 우선순위: 유효한 SALE(시작이 가장 늦은 것, 같으면 나중에 등록된 것) > LIST
+     */
+    public Optional<Money> priceAt(LocalDateTime now) {
+        ProductPrice best = null;
+        for (ProductPrice p : prices) {
+            if (p.isEffectiveAt(now) && (best == null || !outranks(best, p))) {
+                best = p;
+            }
+        }
+        return Optional.ofNullable(best).map(ProductPrice::getAmount);
+    }
+
+    // a가 b(뒤에 등록된 가격)보다 우선하는지. 목록 쿼리의 정렬 규칙과 동일하다.
+    private static boolean outranks(ProductPrice a, ProductPrice b) {
+        if (a.getType() != b.getType()) {
+            return a.getType() == PriceType.SALE;
+        }
+        if (a.getType() == PriceType.LIST) {
+            return false;
+        }
+        LocalDateTime af = a.getValidFrom();
+        LocalDateTime bf = b.getValidFrom();
+        if (af == null || bf == null) {
+            return af != null && bf == null; // 시작 미지정은 가장 낮은 우선순위
+        }
+        return af.isAfter(bf);
+    }
+
+    /**
+     * 비정규화된 현재가와 다음 전환 시각을 {@code now} 기준으로 다시 계산한다.
+     *
+     * @return 현재가가 바뀌었으면 true
+     */
+    public boolean refreshCurrentPrice(LocalDateTime now) {
+        long price = priceAt(now).map(m -> m.getAmount().longValue()).orElse(0L);
+        this.priceRefreshAt = prices.stream()
+                .map(p -> p.nextTransitionAfter(now))
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        boolean changed = price != currentPriceWon;
+        this.currentPriceWon = price;
+        return changed;
     }
 
     // 상태/내용 변경
@@ -11,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -28,7 +29,8 @@ import lombok.NoArgsConstructor;
 public class ProductMedia {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_media_seq")
+    @SequenceGenerator(name = "product_media_seq", sequenceName = "product_media_seq", allocationSize = 100)
     @Column(name = "product_media_id")
     private Long id;
 
@@ -12,8 +12,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -32,7 +34,8 @@ import lombok.NoArgsConstructor;
 public class ProductPrice {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_price_seq")
+    @SequenceGenerator(name = "product_price_seq", sequenceName = "product_price_seq", allocationSize = 100)
     @Column(name = "product_price_id")
     private Long id;
 
@@ -78,18 +81,38 @@ public class ProductPrice {
     }
 
     public boolean isEffectiveNow() {
+        return isEffectiveAt(LocalDateTime.now());
+    }
+
+    public boolean isEffectiveAt(LocalDateTime now) {
         if (!active) {
             return false;
         }
-        LocalDateTime now = LocalDateTime.now();
-        boolean afterStart = (validFrom == null) || !now.isBefore(validFrom);
-        boolean beforeEnd = (validUntil == null) || !now.isAfter(validUntil);
         if (type == PriceType.LIST) {
-            return active; // 상시가
+            return true; // 상시가
         }
+        boolean afterStart = (validFrom == null) || !now.isBefore(validFrom);
+        boolean beforeEnd = (validUntil == null) || !now.isAfter(validUntil);
         return afterStart && beforeEnd;
     }
 
+    /**
+     * {@code now} 이후 이 가격의 유효 여부가 바뀌는 가장 가까운 시각(할인 시작 또는 종료 직후). 없으면 null.
+     */
+    public LocalDateTime nextTransitionAfter(LocalDateTime now) {
+        if (!active || type == PriceType.LIST) {
+            return null;
+        }
+        if (validFrom != null && validFrom.isAfter(now)) {
+            return validFrom;
+        }
+        if (validUntil != null && !validUntil.isBefore(now)) {
+            // valid_until은 포함 구간이므로 그 직후(DATETIME(6) 정밀도)에 종료된다
+            return validUntil.plus(1, ChronoUnit.MICROS);
+        }
+        return null;
+    }
+
     public boolean overlaps(DateRange r) {
         if (r == null) {
             return false;
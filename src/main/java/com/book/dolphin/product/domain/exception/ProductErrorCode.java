@@ -24,6 +24,9 @@ public enum ProductErrorCode implements ErrorCode {
     NOT_FOUND_PRODUCT(HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다."),
     ALREADY_EXISTS_INVENTORY(HttpStatus.CONFLICT,
             "이미 존재하는 재고입니다. variantId=%s"),
+    INVENTORY_CONFLICT(HttpStatus.CONFLICT, "재고가 동시에 변경되어 처리하지 못했습니다. 잠시 후 다시 시도하세요: %s"),
+    INVENTORY_COUNTER_QUARANTINED(HttpStatus.SERVICE_UNAVAILABLE,
+            "재고 변경분을 DB에 반영하지 못해 이 재고의 변경을 막았습니다. 운영자 확인이 필요합니다: %s"),
     INVENTORY_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족하여 할당할 수 없습니다. 요청 수량: %s"),
     INCORRECT_DEALLOCATION_QUANTITY(HttpStatus.BAD_REQUEST, "잘못된 할당 해제 수량입니다. 할당 해제 수량: %s"),
     QUANTITY_IN_STOCK_MINIMUM_ONE(HttpStatus.BAD_REQUEST, "입고 수량은 최소 1이상이어야만 합니다: %s"),
@@ -34,6 +37,13 @@ public enum ProductErrorCode implements ErrorCode {
     DUPLICATE_VARIANT_SKU(HttpStatus.BAD_REQUEST, "동일한 SKU를 갖는 배리언트가 존재합니다."),
     INVALID_VARIANT_ID(HttpStatus.BAD_REQUEST, "유효하지 않은 variantId입니다: %s"),
     NOT_FOUND_VARIANT(HttpStatus.NOT_FOUND, "변형(Variant)을 찾을 수 없습니다: %s"),
+    INVALID_LIST_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 목록 커서입니다. 첫 페이지부터 다시 조회하세요."),
+    FACETS_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "패싯 집계를 준비 중입니다. 잠시 후 다시 시도하세요."),
+    INVALID_COUNT_MODE(HttpStatus.BAD_REQUEST, "지원하지 않는 countMode입니다(EXACT / HAS_NEXT / ESTIMATE): %s"),
+    TOO_MANY_AVAILABILITY_KEYS(HttpStatus.BAD_REQUEST, "가용성 일괄 조회는 최대 %s건까지 가능합니다. 요청=%s"),
+    NOT_FOUND_RESERVATION(HttpStatus.NOT_FOUND, "재고 예약을 찾을 수 없습니다: %s"),
+    RESERVATION_NOT_ACTIVE(HttpStatus.CONFLICT, "이미 확정/해제/만료된 예약입니다: %s"),
+    INVALID_RESERVATION_TTL(HttpStatus.BAD_REQUEST, "예약 유지 시간은 1초 이상 %s초 이하여야 합니다: %s"),
     AT_LEAST_ONE_VARIANTID_OR_SKU_CODE(HttpStatus.BAD_REQUEST, "variantId 또는 skuCode 중 하나는 반드시 필요합니다."), MEDIA_ID_NULL(
             HttpStatus.BAD_REQUEST, "미디어 ID가 NULL 입니다.");
 
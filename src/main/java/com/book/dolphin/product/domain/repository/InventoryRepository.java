@@ -1,8 +1,12 @@
 package com.book.dolphin.product.domain.repository;
 
 import com.book.dolphin.product.domain.entity.Inventory;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
@@ -11,4 +15,50 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     Optional<Inventory> findByVariantId(Long variantId);
 
     Optional<Inventory> findFirstBySkuCodeOrderByIdAsc(String skuCode);
+
+    // 충돌 지표 태그용(충돌 경로에서만 호출)
+    @Query("select i.skuCode from Inventory i where i.id = :id")
+    Optional<String> findSkuCodeById(@Param("id") Long id);
+
+    // 다건 할당용: 한 번에 조회 + PK 오름차순(갱신 순서를 고정해 교착 방지)
+    @Query("""
+            select i from Inventory i
+              join fetch i.variant v
+            where i.id in :ids
+            order by i.id asc
+            """)
+    List<Inventory> findAllWithVariantOrderById(Collection<Long> ids);
+
+    // 가용성 일괄 조회: 엔티티/연관 로딩 없이 필요한 컬럼만(variant_id는 FK 컬럼이라 조인하지 않는다)
+    @Query("""
+            select i.id as inventoryId, i.variant.id as variantId, i.skuCode as skuCode,
+                   i.onHand as onHand, i.allocated as allocated, i.safetyStock as safetyStock,
+                   i.backorderable as backorderable
+            from Inventory i
+            where i.variant.id in :variantIds
+            """)
+    List<AvailabilityRow> findAvailabilityByVariantIdIn(
+            @Param("variantIds") Collection<Long> variantIds);
+
+    // SKU는 유일하지 않으므로 ID 오름차순(단건 조회와 같이 첫 건을 대표로 쓴다)
+    @Query("""
+            select i.id as inventoryId, i.variant.id as variantId, i.skuCode as skuCode,
+                   i.onHand as onHand, i.allocated as allocated, i.safetyStock as safetyStock,
+                   i.backorderable as backorderable
+            from Inventory i
+            where i.skuCode in :skuCodes
+            order by i.id asc
+            """)
+    List<AvailabilityRow> findAvailabilityBySkuCodeIn(
+            @Param("skuCodes") Collection<String> skuCodes);
+
+    interface AvailabilityRow {
+        Long getInventoryId();
+        Long getVariantId();
+        String getSkuCode();
+        long getOnHand();
+        long getAllocated();
+        long getSafetyStock();
+        boolean isBackorderable();
+    }
 }
@@ -0,0 +1,21 @@
+package com.book.dolphin.product.domain.repository;
+
+import com.book.dolphin.product.domain.entity.InventoryReservation;
+import com.book.dolphin.product.domain.entity.InventoryReservation.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, Long> {
+
+    // ACTIVE일 때만 종료 상태로 옮긴다(0건이면 이미 확정/해제/만료됨). 행 잠금으로 스위퍼와 직렬화된다.
+    @Modifying
+    @Query("""
+            update InventoryReservation r
+               set r.status = :to
+             where r.id = :id
+               and r.status = com.book.dolphin.product.domain.entity.InventoryReservation.ReservationStatus.ACTIVE
+            """)
+    int close(@Param("id") Long id, @Param("to") ReservationStatus to);
+}
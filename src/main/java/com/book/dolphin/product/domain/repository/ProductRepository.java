@@ -1,15 +1,22 @@
 package com.book.dolphin.product.domain.repository;
 
 import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    // 1) 상세: 카테고리/미디어/가격까지 한 번에 가져오기 (JPQL + fetch join)
+    // 1) 상세: 카테고리 연결 + 카테고리는 엔티티 그래프로 함께, 미디어는 SUBSELECT 한 번 → 쿼리 2개 고정
+    //    (가격 이력은 응답에 쓰지 않는다. 현재가는 products.current_price)
+    @EntityGraph(Product.DETAIL_GRAPH)
     @Query("select p from Product p where p.id = :id")
     Optional<Product> findDetailById(@Param("id") Long id);
 
@@ -25,37 +32,63 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 3) 목록/검색/정렬/페이지 (네이티브, 최대한 단순한 서브쿼리만 사용)
     //
-    // - current_price: 유효한 SALE가 우선, 없으면 LIST가
+    // - 키워드: 검색 색인이 준비되어 있으면 keyword = null, useIds = true 로 색인 결과 ID만 읽는다.
+    //           색인을 쓰지 않을 때는 useIds = false, ids 는 빈 IN 절 방지용 더미 값.
+    //           LIKE 키워드는 ProductSearchIndex.likeKeyword 로 색인과 같게 정규화(소문자)하고 '!'로 이스케이프한
+    //           값이다. likeContent = true 면 색인처럼 본문도 찾는다.
+    // - 카테고리: 클로저(ancestor_id, depth)로 하위 카테고리를 펼친 뒤 product_categories 를
+    //             idx_pc_category_sort(category_id, ...) 로 읽는다. categoryDepth = 0 이면 직접 연결만.
+    // - current_price: products에 비정규화된 현재가(가격 변경/할인 경계마다 갱신)
     // - 대표이미지: sort_key ASC, id ASC 우선 1장
     // - 정렬: PRICE_ASC / PRICE_DESC / RECENT(기본)
     @Query(
-            value = """
+            value = LIST_COLUMNS_SQL + LIST_FILTER_SQL + """
+        ORDER BY
+          CASE WHEN :sort = 'PRICE_ASC'  THEN p.current_price END ASC,
+          CASE WHEN :sort = 'PRICE_DESC' THEN p.current_price END DESC,
+          CASE WHEN :sort IS NULL OR :sort = 'RECENT' THEN p.product_id END DESC
+        LIMIT :limit OFFSET :offset
+        """,
+            nativeQuery = true
+    )
+    List<ProductListRow> findListSimple(
+            @Param("keyword") String keyword,
+            @Param("likeContent") boolean likeContent,
+            @Param("useIds") boolean useIds,
+            @Param("ids") Collection<Long> ids,
+            @Param("categoryId") Long categoryId,
+            @Param("categoryDepth") int categoryDepth,
+            @Param("status") String status,
+            @Param("priceMin") Long priceMin,
+            @Param("priceMax") Long priceMax,
+            @Param("sort") String sort,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
+
+    // (선택) 페이징 total 용 간단 count (필요하면 사용)
+    @Query(
+            value = "SELECT COUNT(*) FROM products p " + LIST_FILTER_SQL,
+            nativeQuery = true
+    )
+    long countListSimple(
+            @Param("keyword") String keyword,
+            @Param("likeContent") boolean likeContent,
+            @Param("useIds") boolean useIds,
+            @Param("ids") Collection<Long> ids,
+            @Param("categoryId") Long categoryId,
+            @Param("categoryDepth") int categoryDepth,
+            @Param("status") String status,
+            @Param("priceMin") Long priceMin,
+            @Param("priceMax") Long priceMax
+    );
+
+    String LIST_COLUMNS_SQL = """
         SELECT
           p.product_id                AS id,
           p.name                      AS name,
           p.product_status            AS status,
-          COALESCE(
-            (
-              SELECT pr.amount
-              FROM product_prices pr
-              WHERE pr.product_id = p.product_id
-                AND pr.type = 'SALE'
-                AND pr.active = 1
-                AND (pr.valid_from IS NULL OR pr.valid_from <= NOW())
-                AND (pr.valid_until IS NULL OR pr.valid_until >= NOW())
-              ORDER BY pr.valid_from DESC, pr.product_price_id DESC
-              LIMIT 1
-            ),
-            (
-              SELECT pr.amount
-              FROM product_prices pr
-              WHERE pr.product_id = p.product_id
-                AND pr.type = 'LIST'
-                AND pr.active = 1
-              ORDER BY pr.product_price_id DESC
-              LIMIT 1
-            )
-          )                           AS currentPrice,
+          p.current_price             AS currentPrice,
           (
             SELECT pm.url
             FROM product_media pm
@@ -65,51 +98,226 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             LIMIT 1
           )                           AS repImageUrl
         FROM products p
+        """;
+
+    String LIST_FILTER_SQL = """
         WHERE (:status IS NULL OR p.product_status = :status)
-          AND (:keyword IS NULL OR p.name LIKE CONCAT('%', :keyword, '%'))
-          AND (:categoryId IS NULL OR EXISTS (
-                SELECT 1 FROM product_categories pc
-                WHERE pc.product_id = p.product_id
-                  AND pc.category_id = :categoryId
+          AND (:keyword IS NULL
+               OR LOWER(p.name) LIKE CONCAT('%', :keyword, '%') ESCAPE '!'
+               OR (:likeContent = TRUE
+                   AND LOWER(p.content) LIKE CONCAT('%', :keyword, '%') ESCAPE '!'))
+          AND (:useIds = FALSE OR p.product_id IN (:ids))
+          AND (:priceMin IS NULL OR p.current_price >= :priceMin)
+          AND (:priceMax IS NULL OR p.current_price <= :priceMax)
+          AND (:categoryId IS NULL OR p.product_id IN (
+                SELECT pc.product_id
+                FROM category_closures cc
+                  JOIN product_categories pc ON pc.category_id = cc.descendant_id
+                WHERE cc.ancestor_id = :categoryId
+                  AND cc.depth <= :categoryDepth
           ))
-        ORDER BY
-          CASE WHEN :sort = 'PRICE_ASC'  THEN currentPrice END ASC,
-          CASE WHEN :sort = 'PRICE_DESC' THEN currentPrice END DESC,
-          CASE WHEN :sort IS NULL OR :sort = 'RECENT' THEN p.product_id END DESC
-        LIMIT :limit OFFSET :offset
+        """;
+
+    // 4) 목록 - 커서(키셋) 페이지
+    //
+    // - OFFSET 대신 "마지막으로 본 정렬 키 이후"만 읽는다 → 깊은 페이지도 첫 페이지와 비용이 같다.
+    // - 정렬 키: RECENT = product_id DESC / PRICE_* = (current_price, product_id) → 인덱스 순서 그대로 읽는다.
+    // - 다음 페이지 존재 여부 판단을 위해 호출 측은 limit = size + 1 로 조회한다.
+    @Query(
+            value = LIST_COLUMNS_SQL + LIST_FILTER_SQL + """
+          AND (:lastId IS NULL OR p.product_id < :lastId)
+        ORDER BY p.product_id DESC
+        LIMIT :limit
         """,
             nativeQuery = true
     )
-    List<ProductListRow> findListSimple(
+    List<ProductListRow> findListRecentAfter(
             @Param("keyword") String keyword,
+            @Param("likeContent") boolean likeContent,
+            @Param("useIds") boolean useIds,
+            @Param("ids") Collection<Long> ids,
             @Param("categoryId") Long categoryId,
+            @Param("categoryDepth") int categoryDepth,
             @Param("status") String status,
-            @Param("sort") String sort,
-            @Param("limit") int limit,
-            @Param("offset") int offset
+            @Param("priceMin") Long priceMin,
+            @Param("priceMax") Long priceMax,
+            @Param("lastId") Long lastId,
+            @Param("limit") int limit
     );
 
-    // (선택) 페이징 total 용 간단 count (필요하면 사용)
     @Query(
-            value = """
-        SELECT COUNT(*)
-        FROM products p
-        WHERE (:status IS NULL OR p.product_status = :status)
-          AND (:keyword IS NULL OR p.name LIKE CONCAT('%', :keyword, '%'))
-          AND (:categoryId IS NULL OR EXISTS (
-                SELECT 1 FROM product_categories pc
-                WHERE pc.product_id = p.product_id
-                  AND pc.category_id = :categoryId
-          ))
+            value = LIST_COLUMNS_SQL + LIST_FILTER_SQL + """
+          AND (:lastId IS NULL
+               OR p.current_price > :lastPrice
+               OR (p.current_price = :lastPrice AND p.product_id > :lastId))
+        ORDER BY p.current_price ASC, p.product_id ASC
+        LIMIT :limit
         """,
             nativeQuery = true
     )
-    long countListSimple(
+    List<ProductListRow> findListPriceAscAfter(
             @Param("keyword") String keyword,
+            @Param("likeContent") boolean likeContent,
+            @Param("useIds") boolean useIds,
+            @Param("ids") Collection<Long> ids,
             @Param("categoryId") Long categoryId,
-            @Param("status") String status
+            @Param("categoryDepth") int categoryDepth,
+            @Param("status") String status,
+            @Param("priceMin") Long priceMin,
+            @Param("priceMax") Long priceMax,
+            @Param("lastPrice") Long lastPrice,
+            @Param("lastId") Long lastId,
+            @Param("limit") int limit
     );
 
+    @Query(
+            value = LIST_COLUMNS_SQL + LIST_FILTER_SQL + """
+          AND (:lastId IS NULL
+               OR p.current_price < :lastPrice
+               OR (p.current_price = :lastPrice AND p.product_id < :lastId))
+        ORDER BY p.current_price DESC, p.product_id DESC
+        LIMIT :limit
+        """,
+            nativeQuery = true
+    )
+    List<ProductListRow> findListPriceDescAfter(
+            @Param("keyword") String keyword,
+            @Param("likeContent") boolean likeContent,
+            @Param("useIds") boolean useIds,
+            @Param("ids") Collection<Long> ids,
+            @Param("categoryId") Long categoryId,
+            @Param("categoryDepth") int categoryDepth,
+            @Param("status") String status,
+            @Param("priceMin") Long priceMin,
+            @Param("priceMax") Long priceMax,
+            @Param("lastPrice") Long lastPrice,
+            @Param("lastId") Long lastId,
+            @Param("limit") int limit
+    );
+
+    // 5) 가격 전환 대상(할인 시작/종료 시각이 지난 상품)
+    @Query("""
+        select p.id from Product p
+        where p.priceRefreshAt <= :now
+        order by p.priceRefreshAt asc
+        """)
+    List<Long> findPriceRefreshDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 곧 다가올 가격 전환(메모리 큐 적재용)
+    @Query("""
+        select p.id as id, p.priceRefreshAt as priceRefreshAt from Product p
+        where p.priceRefreshAt > :from and p.priceRefreshAt <= :until
+        """)
+    List<PriceRefreshRow> findPriceRefreshBetween(@Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until);
+
+    @Query("""
+        select distinct p from Product p
+          left join fetch p.prices
+        where p.id in :ids
+        """)
+    List<Product> findAllWithPricesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 6) 검색 색인 적재용(ID 순 키셋). 본문은 색인 설정이 켜져 있을 때만 읽는다.
+    @Query("""
+        select p.id as id, p.name as name, p.productStatus as status, '' as content
+        from Product p
+        where p.id > :afterId
+        order by p.id asc
+        """)
+    List<SearchDocRow> findSearchDocsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        select p.id as id, p.name as name, p.productStatus as status, p.content as content
+        from Product p
+        where p.id > :afterId
+        order by p.id asc
+        """)
+    List<SearchDocRow> findSearchDocsWithContentAfter(@Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("""
+        select p.id as id, p.name as name, p.productStatus as status, p.content as content
+        from Product p
+        where p.id in :ids
+        """)
+    List<SearchDocRow> findSearchDocsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 색인 따라잡기: since 이후 변경된 상품(ID 순 키셋)
+    @Query("""
+        select p.id as id, p.name as name, p.productStatus as status, '' as content
+        from Product p
+        where p.updatedAt >= :since and p.id > :afterId
+        order by p.id asc
+        """)
+    List<SearchDocRow> findSearchDocsChangedSince(@Param("since") LocalDateTime since,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        select p.id as id, p.name as name, p.productStatus as status, p.content as content
+        from Product p
+        where p.updatedAt >= :since and p.id > :afterId
+        order by p.id asc
+        """)
+    List<SearchDocRow> findSearchDocsWithContentChangedSince(@Param("since") LocalDateTime since,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    // 7) 패싯 비트맵 적재용(ID 순 키셋)
+    @Query("""
+        select p.id as id, p.productStatus as status, p.currentPriceWon as currentPrice
+        from Product p
+        where p.id > :afterId
+        order by p.id asc
+        """)
+    List<FacetDocRow> findFacetDocsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        select p.id as id, p.productStatus as status, p.currentPriceWon as currentPrice
+        from Product p
+        where p.updatedAt >= :since and p.id > :afterId
+        order by p.id asc
+        """)
+    List<FacetDocRow> findFacetDocsChangedSince(@Param("since") LocalDateTime since,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        select p.id as id, p.productStatus as status, p.currentPriceWon as currentPrice
+        from Product p
+        where p.id in :ids
+        """)
+    List<FacetDocRow> findFacetDocsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select pc.product.id as productId, pc.category.id as categoryId
+        from ProductCategory pc
+        where pc.product.id in :productIds
+        """)
+    List<ProductCategoryLinkRow> findCategoryLinksByProductIdIn(
+            @Param("productIds") Collection<Long> productIds);
+
+    interface FacetDocRow {
+        Long getId();
+        ProductStatus getStatus();
+        Long getCurrentPrice();
+    }
+
+    interface ProductCategoryLinkRow {
+        Long getProductId();
+        Long getCategoryId();
+    }
+
+    interface SearchDocRow {
+        Long getId();
+        String getName();
+        ProductStatus getStatus();
+        String getContent();
+    }
+
+    interface PriceRefreshRow {
+        Long getId();
+        LocalDateTime getPriceRefreshAt();
+    }
+
     // 목록 결과용 프로젝션(인터페이스 기반)
     interface ProductListRow {
         Long getId();
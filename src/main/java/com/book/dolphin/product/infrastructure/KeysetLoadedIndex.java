@@ -0,0 +1,146 @@
+package com.book.dolphin.product.infrastructure;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 시작 시 전용 스레드가 상품을 ID 순 키셋으로 읽어 채우는 메모리 색인의 공통 수명주기.
+ *
+ * <ul>
+ *   <li>적재: {@link #fetchAfter}로 배치를 읽어 {@link #loadBatch}에 넘긴다. 배치가 {@link #loadBatchSize}보다
+ *       작으면 끝으로 보고 {@link #isReady()}를 켠다.</li>
+ *   <li>갱신: 하위 클래스가 커밋 후 이벤트로 직접 반영한다. {@link #loadBatch}는 이미 들어온 상품을 덮지 않아야
+ *       적재 중 변경을 잃지 않는다.</li>
+ *   <li>따라잡기: 이벤트는 이 JVM의 커밋에만 오고, 반영에 실패하면 사라진다. {@link #catchUp}이 주기적으로
+ *       마지막 동기화 이후 {@code updated_at}이 바뀐 행을 다시 읽어 덮어쓴다({@link ProductIndexCatchUp}).</li>
+ *   <li>실패: 적재가 중간에 실패하면 준비되지 않은 상태로 남고, 호출 측은 DB 조회로 대신한다.</li>
+ * </ul>
+ *
+ * <p>{@code updated_at}은 쓰는 인스턴스의 시계로 커밋 전에 찍힌다. 그래서 따라잡기는 마지막 동기화 시작 시각에서
+ * {@code overlap}만큼 앞당긴 시각부터 읽는다(시계 차이, 늦게 커밋된 트랜잭션). 같은 행을 여러 번 읽어도 덮어쓰기라 무방하다.
+ * 이벤트 반영과 엇갈려 조금 낡은 행으로 덮어도, 그 행은 다음 따라잡기 범위에 다시 들어와 바로잡힌다.</p>
+ *
+ * @param <R> 적재에 쓰는 행 타입
+ */
+public abstract class KeysetLoadedIndex<R> implements SmartLifecycle {
+
+    private final String loaderName;
+
+    private Thread loader;
+    private volatile boolean running;
+    private volatile boolean ready;
+    private volatile LocalDateTime syncedFrom;
+
+    protected KeysetLoadedIndex(String loaderName) {
+        this.loaderName = loaderName;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    protected abstract boolean enabled();
+
+    protected abstract int loadBatchSize();
+
+    /**
+     * {@code lastId}보다 큰 ID의 행을 ID 오름차순으로 최대 {@code limit}건 읽는다.
+     */
+    protected abstract List<R> fetchAfter(long lastId, int limit);
+
+    protected abstract long idOf(R row);
+
+    /**
+     * 읽은 배치를 색인에 넣는다. 이미 들어온 상품은 건너뛴다.
+     */
+    protected abstract void loadBatch(List<R> rows);
+
+    /**
+     * {@code since} 이후 변경됐고 ID가 {@code lastId}보다 큰 행을 ID 오름차순으로 최대 {@code limit}건 읽는다.
+     */
+    protected abstract List<R> fetchChangedAfter(LocalDateTime since, long lastId, int limit);
+
+    /**
+     * 따라잡기로 읽은 행을 색인에 덮어쓴다.
+     */
+    protected abstract void applyChanged(List<R> rows);
+
+    protected abstract void onLoaded(long elapsedMs);
+
+    protected abstract void onLoadFailed(long lastId, RuntimeException e);
+
+    /**
+     * 마지막 동기화 이후 변경된 행을 색인에 반영한다. 적재가 끝나기 전에는 아무것도 하지 않는다.
+     *
+     * @param overlap 마지막 동기화 시각보다 앞당겨 읽을 시간
+     * @return 반영한 행 수
+     */
+    public int catchUp(Duration overlap) {
+        if (!ready || !running) {
+            return 0;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = syncedFrom.minus(overlap);
+        int batchSize = loadBatchSize();
+        int applied = 0;
+        long lastId = 0L;
+        List<R> rows;
+        do {
+            rows = fetchChangedAfter(since, lastId, batchSize);
+            if (!rows.isEmpty()) {
+                applyChanged(rows);
+                applied += rows.size();
+                lastId = idOf(rows.get(rows.size() - 1));
+            }
+        } while (rows.size() == batchSize && running);
+        syncedFrom = started; // 실패하면(예외) 그대로 두고 다음 주기에 같은 범위부터 다시 읽는다
+        return applied;
+    }
+
+    private void load() {
+        long started = System.nanoTime();
+        LocalDateTime loadStarted = LocalDateTime.now();
+        long lastId = 0L;
+        int batchSize = loadBatchSize();
+        try {
+            while (running) {
+                List<R> rows = fetchAfter(lastId, batchSize);
+                if (!rows.isEmpty()) {
+                    loadBatch(rows);
+                    lastId = idOf(rows.get(rows.size() - 1));
+                }
+                if (rows.size() < batchSize) {
+                    syncedFrom = loadStarted;
+                    ready = true;
+                    onLoaded((System.nanoTime() - started) / 1_000_000);
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            onLoadFailed(lastId, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled()) {
+            loader = Thread.ofPlatform().name(loaderName).daemon(true).start(this::load);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (loader != null) {
+            loader.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
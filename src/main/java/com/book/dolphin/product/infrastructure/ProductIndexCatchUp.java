@@ -0,0 +1,37 @@
+package com.book.dolphin.product.infrastructure;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 메모리 색인이 놓친 변경(다른 인스턴스의 쓰기, 반영 실패한 이벤트)을 주기적으로 따라잡는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class ProductIndexCatchUp {
+
+    private final List<KeysetLoadedIndex<?>> indexes;
+    private final ProductIndexProperties properties;
+
+    @Scheduled(fixedDelayString = "${dolphin.product.index.catch-up-interval-ms:30000}")
+    void catchUp() {
+        Duration overlap = Duration.ofMillis(properties.catchUpOverlapMs());
+        for (KeysetLoadedIndex<?> index : indexes) {
+            try {
+                int applied = index.catchUp(overlap);
+                if (applied > 0) {
+                    log.debug("상품 색인 따라잡기: index={}, rows={}",
+                            index.getClass().getSimpleName(), applied);
+                }
+            } catch (RuntimeException e) {
+                log.warn("상품 색인 따라잡기 실패, 다음 주기에 다시 시도: index={}",
+                        index.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
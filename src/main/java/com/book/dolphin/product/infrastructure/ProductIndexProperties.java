@@ -0,0 +1,20 @@
+package com.book.dolphin.product.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 메모리 색인(검색/패싯) 따라잡기 설정({@code dolphin.product.index.*}).
+ *
+ * @param catchUpIntervalMs 따라잡기 주기(ms). 다른 인스턴스의 변경은 최대 이만큼 늦게 보인다
+ * @param catchUpOverlapMs  마지막 동기화 시각보다 앞당겨 읽을 시간(ms). 인스턴스 간 시계 차이와 가장 긴 쓰기
+ *                          트랜잭션보다 커야 한다
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.product.index")
+public record ProductIndexProperties(
+        @DefaultValue("30000") long catchUpIntervalMs,
+        @DefaultValue("120000") long catchUpOverlapMs
+) {
+
+}
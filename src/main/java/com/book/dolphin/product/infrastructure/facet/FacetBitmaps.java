@@ -0,0 +1,317 @@
+package com.book.dolphin.product.infrastructure.facet;
+
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
+import com.book.dolphin.product.domain.entity.ProductStatus;
+import com.book.dolphin.product.infrastructure.facet.FacetCounts.BucketCount;
+import com.book.dolphin.product.infrastructure.facet.FacetCounts.CategoryCount;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 패싯 값별 상품 비트맵(상태/직접 연결 카테고리/가격 구간).
+ *
+ * <ul>
+ *   <li>상품마다 증가하는 dense 서수(ordinal)를 발급하고, 비트맵은 서수 위의 {@link BitSet}이다.</li>
+ *   <li>갱신: 상품 한 건의 이전 값 비트를 지우고 새 값 비트를 켠다(상품 수와 무관한 O(카테고리 수)).</li>
+ *   <li>집계: 필터 비트맵끼리 AND 한 뒤 패싯 값 비트맵과의 교집합 크기를 센다. 각 패싯은 자기 차원의 필터를
+ *       빼고 센다(다른 값을 골랐을 때의 결과 수).</li>
+ * </ul>
+ *
+ * <p>카테고리 비트맵은 직접 연결 기준으로 두고, 하위 포함 집계는 질의 시점의 트리 스냅샷으로 펼쳐 OR 한다.
+ * 그래서 카테고리 이동이 있어도 상품 비트맵은 다시 만들 필요가 없다.</p>
+ */
+final class FacetBitmaps {
+
+    private final long[] bucketBounds; // 오름차순 경계. 구간 i = [bounds[i-1], bounds[i])
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordByProduct = new HashMap<>();
+    private long[] productIds = new long[1024];
+    private ProductStatus[] statuses = new ProductStatus[1024];
+    private long[] prices = new long[1024];
+    private long[][] categoriesOf = new long[1024][];
+    private int nextOrd;
+
+    private final BitSet live = new BitSet();
+    private final Map<ProductStatus, BitSet> byStatus = new EnumMap<>(ProductStatus.class);
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private final BitSet[] byBucket;
+
+    FacetBitmaps(long[] bucketBounds) {
+        this.bucketBounds = bucketBounds.clone();
+        Arrays.sort(this.bucketBounds);
+        this.byBucket = new BitSet[this.bucketBounds.length + 1];
+        for (int i = 0; i < byBucket.length; i++) {
+            byBucket[i] = new BitSet();
+        }
+        for (ProductStatus s : ProductStatus.values()) {
+            byStatus.put(s, new BitSet());
+        }
+    }
+
+    /**
+     * 상품의 패싯 값을 넣거나 바꾼다.
+     */
+    void put(long productId, ProductStatus status, long price, long[] categoryIds) {
+        lock.writeLock().lock();
+        try {
+            set(productId, status, price, categoryIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 없는 상품만 넣는다. 확인과 넣기를 같은 쓰기 락 안에서 하므로, 초기 적재가 그 사이에 이벤트로 들어온
+     * 최신 값을 덮지 않는다. 이벤트로 지워진 상품도 서수가 남아 있으므로 되살리지 않는다.
+     *
+     * @return 넣었으면 true
+     */
+    boolean putIfAbsent(long productId, ProductStatus status, long price, long[] categoryIds) {
+        lock.writeLock().lock();
+        try {
+            if (ordByProduct.containsKey(productId)) {
+                return false;
+            }
+            set(productId, status, price, categoryIds);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void set(long productId, ProductStatus status, long price, long[] categoryIds) {
+        Integer ord = ordByProduct.get(productId);
+        if (ord == null) {
+            ord = newOrd(productId);
+        } else {
+            clearBits(ord);
+        }
+        statuses[ord] = status;
+        prices[ord] = price;
+        categoriesOf[ord] = categoryIds.clone();
+        live.set(ord);
+        byStatus.get(status).set(ord);
+        byBucket[bucketOf(price)].set(ord);
+        for (long c : categoryIds) {
+            byCategory.computeIfAbsent(c, k -> new BitSet()).set(ord);
+        }
+    }
+
+    boolean contains(long productId) {
+        lock.readLock().lock();
+        try {
+            Integer ord = ordByProduct.get(productId);
+            return ord != null && live.get(ord);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer ord = ordByProduct.get(productId);
+            if (ord != null && live.get(ord)) {
+                clearBits(ord);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건에 대한 전체 결과 수와 패싯별 개수를 센다.
+     *
+     * @param tree 카테고리 하위 펼치기/카테고리 패싯 대상(선택 카테고리의 자식, 없으면 루트)에 쓸 스냅샷
+     */
+    FacetCounts count(FacetQuery query, CategoryTreeSnapshot tree) {
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            if (query.productIds() != null) {
+                base.and(ordsOf(query.productIds()));
+            }
+            BitSet statusBits = query.status() == null ? null : statusBits(query.status());
+            BitSet categoryBits = query.categoryId() == null ? null
+                    : categoryBits(query.categoryId(), query.includeSubcategories(), tree);
+            BitSet priceBits = query.priceMin() == null && query.priceMax() == null ? null
+                    : priceBits(query.priceMin(), query.priceMax());
+
+            long total = and(base, statusBits, categoryBits, priceBits).cardinality();
+
+            // 상태 패싯: 상태 필터를 뺀 결과 기준
+            BitSet withoutStatus = and(base, categoryBits, priceBits);
+            Map<ProductStatus, Long> statusCounts = new EnumMap<>(ProductStatus.class);
+            for (ProductStatus s : ProductStatus.values()) {
+                statusCounts.put(s, andCardinality(withoutStatus, byStatus.get(s)));
+            }
+
+            // 가격 구간 패싯: 가격 필터를 뺀 결과 기준
+            BitSet withoutPrice = and(base, statusBits, categoryBits);
+            List<BucketCount> buckets = new ArrayList<>(byBucket.length);
+            for (int i = 0; i < byBucket.length; i++) {
+                Long from = i == 0 ? null : bucketBounds[i - 1];
+                Long to = i == bucketBounds.length ? null : bucketBounds[i];
+                buckets.add(new BucketCount(from, to, andCardinality(withoutPrice, byBucket[i])));
+            }
+
+            // 카테고리 패싯: 카테고리 필터를 뺀 결과를 선택 카테고리의 자식(없으면 루트) 하위 트리별로
+            BitSet withoutCategory = and(base, statusBits, priceBits);
+            List<CategoryCount> categories = new ArrayList<>();
+            int parent = query.categoryId() == null ? -1 : tree.indexOf(query.categoryId());
+            if (query.categoryId() == null || parent >= 0) {
+                int n = parent < 0 ? tree.rootCount() : tree.childCount(parent);
+                for (int k = 0; k < n; k++) {
+                    int idx = parent < 0 ? tree.root(k) : tree.child(parent, k);
+                    long cnt = andCardinality(withoutCategory, subtreeBits(idx, tree));
+                    if (cnt > 0) {
+                        categories.add(new CategoryCount(tree.id(idx), cnt));
+                    }
+                }
+            }
+            return new FacetCounts(total, statusCounts, categories, buckets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 내부 =====
+
+    private int newOrd(long productId) {
+        int ord = nextOrd++;
+        if (ord == productIds.length) {
+            int cap = ord + (ord >> 1);
+            productIds = Arrays.copyOf(productIds, cap);
+            statuses = Arrays.copyOf(statuses, cap);
+            prices = Arrays.copyOf(prices, cap);
+            categoriesOf = Arrays.copyOf(categoriesOf, cap);
+        }
+        productIds[ord] = productId;
+        ordByProduct.put(productId, ord);
+        return ord;
+    }
+
+    private void clearBits(int ord) {
+        live.clear(ord);
+        byStatus.get(statuses[ord]).clear(ord);
+        byBucket[bucketOf(prices[ord])].clear(ord);
+        for (long c : categoriesOf[ord]) {
+            BitSet bits = byCategory.get(c);
+            if (bits != null) {
+                bits.clear(ord);
+            }
+        }
+    }
+
+    private int bucketOf(long price) {
+        int i = Arrays.binarySearch(bucketBounds, price);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    private BitSet ordsOf(Collection<Long> ids) {
+        BitSet bits = new BitSet();
+        for (Long id : ids) {
+            Integer ord = ordByProduct.get(id);
+            if (ord != null) {
+                bits.set(ord);
+            }
+        }
+        return bits;
+    }
+
+    // 목록 SQL과 같게 상태 이름 비교(대소문자 무시). 없는 상태면 빈 비트맵
+    private BitSet statusBits(String status) {
+        for (ProductStatus s : ProductStatus.values()) {
+            if (s.name().equalsIgnoreCase(status)) {
+                return byStatus.get(s);
+            }
+        }
+        return new BitSet();
+    }
+
+    private BitSet categoryBits(Long categoryId, boolean includeSubcategories,
+            CategoryTreeSnapshot tree) {
+        int idx = tree.indexOf(categoryId);
+        if (!includeSubcategories || idx < 0) {
+            BitSet direct = byCategory.get(categoryId);
+            return direct == null ? new BitSet() : direct;
+        }
+        return subtreeBits(idx, tree);
+    }
+
+    private BitSet subtreeBits(int idx, CategoryTreeSnapshot tree) {
+        BitSet bits = new BitSet();
+        int[] stack = new int[Math.max(16, tree.size())];
+        int top = 0;
+        stack[top++] = idx;
+        while (top > 0) {
+            int cur = stack[--top];
+            BitSet direct = byCategory.get(tree.id(cur));
+            if (direct != null) {
+                bits.or(direct);
+            }
+            for (int k = 0; k < tree.childCount(cur) && top < stack.length; k++) {
+                stack[top++] = tree.child(cur, k);
+            }
+        }
+        return bits;
+    }
+
+    // 구간 전체가 범위 안이면 구간 비트맵을 그대로 OR, 걸치는 구간만 상품 가격을 확인한다
+    private BitSet priceBits(Long min, Long max) {
+        long lo = min == null ? Long.MIN_VALUE : min;
+        long hi = max == null ? Long.MAX_VALUE : max;
+        BitSet bits = new BitSet();
+        for (int i = 0; i < byBucket.length; i++) {
+            long from = i == 0 ? Long.MIN_VALUE : bucketBounds[i - 1];
+            long to = i == bucketBounds.length ? Long.MAX_VALUE : bucketBounds[i] - 1; // 포함
+            if (to < lo || from > hi) {
+                continue;
+            }
+            if (from >= lo && to <= hi) {
+                bits.or(byBucket[i]);
+                continue;
+            }
+            BitSet bucket = byBucket[i];
+            for (int ord = bucket.nextSetBit(0); ord >= 0; ord = bucket.nextSetBit(ord + 1)) {
+                if (prices[ord] >= lo && prices[ord] <= hi) {
+                    bits.set(ord);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static BitSet and(BitSet base, BitSet... filters) {
+        BitSet out = (BitSet) base.clone();
+        for (BitSet f : filters) {
+            if (f != null) {
+                out.and(f);
+            }
+        }
+        return out;
+    }
+
+    private static long andCardinality(BitSet a, BitSet b) {
+        BitSet out = (BitSet) a.clone();
+        out.and(b);
+        return out.cardinality();
+    }
+}
@@ -0,0 +1,33 @@
+package com.book.dolphin.product.infrastructure.facet;
+
+import com.book.dolphin.product.domain.entity.ProductStatus;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 집계 결과. 각 패싯은 자기 차원의 필터를 뺀 나머지 조건으로 센 값이다.
+ *
+ * @param total      모든 필터를 적용한 결과 수
+ * @param statuses   상태별 개수
+ * @param categories 선택 카테고리의 자식(없으면 루트)별 하위 포함 개수(0은 제외, 트리 순서)
+ * @param buckets    현재가 구간별 개수
+ */
+public record FacetCounts(
+        long total,
+        Map<ProductStatus, Long> statuses,
+        List<CategoryCount> categories,
+        List<BucketCount> buckets
+) {
+
+    public record CategoryCount(long categoryId, long count) {
+
+    }
+
+    /**
+     * @param from 하한(포함, 첫 구간은 null)
+     * @param to   상한(미포함, 마지막 구간은 null)
+     */
+    public record BucketCount(Long from, Long to, long count) {
+
+    }
+}
@@ -0,0 +1,24 @@
+package com.book.dolphin.product.infrastructure.facet;
+
+import java.util.Collection;
+
+/**
+ * 패싯 집계 필터(목록 조회 조건과 같은 의미).
+ *
+ * @param productIds           키워드 검색 결과 상품 ID(키워드가 없으면 null)
+ * @param categoryId           카테고리 필터(null이면 전체)
+ * @param includeSubcategories 하위 카테고리 상품 포함 여부
+ * @param status               상태 필터(null이면 전체)
+ * @param priceMin             현재가 하한(포함, null이면 없음)
+ * @param priceMax             현재가 상한(포함, null이면 없음)
+ */
+public record FacetQuery(
+        Collection<Long> productIds,
+        Long categoryId,
+        boolean includeSubcategories,
+        String status,
+        Long priceMin,
+        Long priceMax
+) {
+
+}
@@ -0,0 +1,150 @@
+package com.book.dolphin.product.infrastructure.facet;
+
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.book.dolphin.product.domain.repository.ProductRepository.FacetDocRow;
+import com.book.dolphin.product.domain.repository.ProductRepository.ProductCategoryLinkRow;
+import com.book.dolphin.product.infrastructure.KeysetLoadedIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 목록 패싯(상태/카테고리/가격 구간) 집계용 메모리 비트맵({@link FacetBitmaps}).
+ *
+ * <ul>
+ *   <li>적재: 시작 시 전용 스레드가 상품과 카테고리 연결을 ID 순 키셋으로 읽어 채운다.</li>
+ *   <li>갱신: 상품 변경 커밋 후({@link ProductChangedEvent}) 해당 상품만 다시 읽어 비트를 바꾼다.
+ *       초기 적재는 이미 들어온 상품을 덮지 않는다. 다른 인스턴스의 변경과 반영에 실패한 이벤트는 검색 색인과 같은
+ *       따라잡기로 채운다. 그래서 개수는 최대 {@code dolphin.product.index.catch-up-interval-ms}만큼 늦을 수 있다.</li>
+ *   <li>집계: 한 번의 호출로 전체 결과 수와 모든 패싯 개수를 비트맵 교집합으로 센다(DB 조회 없음).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex extends KeysetLoadedIndex<FacetDocRow> {
+
+    private final ProductRepository productRepository;
+    private final ProductFacetProperties properties;
+    private final FacetBitmaps bitmaps;
+
+    ProductFacetIndex(ProductRepository productRepository, ProductFacetProperties properties) {
+        super("product-facet-loader");
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.bitmaps = new FacetBitmaps(
+                properties.priceBounds().stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * @return 적재가 끝나지 않았으면 empty
+     */
+    public Optional<FacetCounts> count(FacetQuery query, CategoryTreeSnapshot tree) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(bitmaps.count(query, tree));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onProductChanged(ProductChangedEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            List<FacetDocRow> rows = productRepository.findFacetDocsByIdIn(
+                    List.of(event.productId()));
+            if (rows.isEmpty()) {
+                bitmaps.remove(event.productId());
+                return;
+            }
+            Map<Long, long[]> links = categoryLinks(List.of(event.productId()));
+            FacetDocRow row = rows.get(0);
+            bitmaps.put(row.getId(), row.getStatus(), priceOf(row),
+                    links.getOrDefault(row.getId(), new long[0]));
+        } catch (RuntimeException e) {
+            log.warn("상품 패싯 비트맵 갱신 실패: productId={}", event.productId(), e);
+        }
+    }
+
+    private static long priceOf(FacetDocRow row) {
+        return row.getCurrentPrice() == null ? 0L : row.getCurrentPrice();
+    }
+
+    private Map<Long, long[]> categoryLinks(List<Long> productIds) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (ProductCategoryLinkRow link : productRepository.findCategoryLinksByProductIdIn(
+                productIds)) {
+            grouped.computeIfAbsent(link.getProductId(), k -> new ArrayList<>())
+                    .add(link.getCategoryId());
+        }
+        Map<Long, long[]> out = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((id, cats) ->
+                out.put(id, cats.stream().mapToLong(Long::longValue).toArray()));
+        return out;
+    }
+
+    @Override
+    protected boolean enabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    protected int loadBatchSize() {
+        return properties.loadBatchSize();
+    }
+
+    @Override
+    protected List<FacetDocRow> fetchAfter(long lastId, int limit) {
+        return productRepository.findFacetDocsAfter(lastId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    protected long idOf(FacetDocRow row) {
+        return row.getId();
+    }
+
+    @Override
+    protected void loadBatch(List<FacetDocRow> rows) {
+        Map<Long, long[]> links = categoryLinks(rows.stream().map(FacetDocRow::getId).toList());
+        for (FacetDocRow row : rows) {
+            // 이벤트로 먼저 들어온 최신 값 유지
+            bitmaps.putIfAbsent(row.getId(), row.getStatus(), priceOf(row),
+                    links.getOrDefault(row.getId(), new long[0]));
+        }
+    }
+
+    @Override
+    protected List<FacetDocRow> fetchChangedAfter(LocalDateTime since, long lastId, int limit) {
+        return productRepository.findFacetDocsChangedSince(since, lastId,
+                PageRequest.of(0, limit));
+    }
+
+    @Override
+    protected void applyChanged(List<FacetDocRow> rows) {
+        Map<Long, long[]> links = categoryLinks(rows.stream().map(FacetDocRow::getId).toList());
+        for (FacetDocRow row : rows) {
+            bitmaps.put(row.getId(), row.getStatus(), priceOf(row),
+                    links.getOrDefault(row.getId(), new long[0]));
+        }
+    }
+
+    @Override
+    protected void onLoaded(long elapsedMs) {
+        log.info("상품 패싯 비트맵 적재 완료: products={}, {}ms", bitmaps.size(), elapsedMs);
+    }
+
+    @Override
+    protected void onLoadFailed(long lastId, RuntimeException e) {
+        log.error("상품 패싯 비트맵 적재 실패: lastId={}", lastId, e);
+    }
+}
@@ -0,0 +1,22 @@
+package com.book.dolphin.product.infrastructure.facet;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 목록 패싯 집계 설정({@code dolphin.product.facet.*}).
+ *
+ * @param enabled       false면 비트맵을 만들지 않는다(패싯 API는 503)
+ * @param priceBounds   현재가 구간 경계(원, 오름차순). n개 경계 → n+1개 구간
+ * @param loadBatchSize 시작 시 초기 적재 배치 크기
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.product.facet")
+public record ProductFacetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"10000", "30000", "50000", "100000"}) List<Long> priceBounds,
+        @DefaultValue("1000") int loadBatchSize
+) {
+
+}
@@ -0,0 +1,216 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 조건부 UPDATE 재고 쓰기({@code dolphin.inventory.write-mode=conditional}일 때만 사용).
+ *
+ * <p>엔티티를 읽고 Java에서 검사한 뒤 버전 검사 UPDATE를 내는 대신, 가용 조건을 WHERE에 둔 상대값 UPDATE 한 번으로
+ * 검사와 반영을 끝내므로 버전 충돌 재시도가 없다. UPDATE가 잡은 행 잠금은 커밋까지 유지되므로, 그 아래에서 도는
+ * 문장 수를 줄이는 것이 이 경로의 핵심이다.</p>
+ *
+ * <p>원장은 {@link InventoryLedgerAppender}로 넘겨 {@code dolphin.inventory.ledger.write-mode}를 따른다.
+ * 잠금 구간의 왕복은 두 모드 모두 UPDATE + 1회다.</p>
+ * <ul>
+ *   <li>SYNC: 같은 트랜잭션에서 원장을 JDBC 배치로 넣고, 응답용 재조회는 커밋 뒤(잠금 밖)로 미룬다.
+ *       그래서 응답은 이 변경을 포함한 커밋 직후 값이고, 그 사이 다른 요청의 변경이 섞일 수 있다.</li>
+ *   <li>ASYNC: 저널 원장에 갱신 후 버전이 필요해 같은 트랜잭션에서 다시 읽는다. 원장 INSERT는 잠금 구간에 없다.</li>
+ * </ul>
+ *
+ * <p>문장 수 자체(UPDATE, 원장, 재조회)는 줄지 않았다. MySQL에는 {@code UPDATE ... RETURNING}이 없고, 갱신 전 값을
+ * 모르니 델타만으로 응답을 만들 수도 없다. 줄어든 것은 잠금을 쥔 채 기다리는 왕복 수다.</p>
+ *
+ * <ul>
+ *   <li>갱신 0건: 재고를 다시 읽어 원인(없음/재고 부족/수량 초과)에 맞는 예외를 던진다(실패 경로에서만).</li>
+ *   <li>{@code version}도 올려 JPA 경로(다른 배포/운영 툴)와 섞여도 낙관적 락이 유지된다.</li>
+ * </ul>
+ *
+ * @implNote 호출 측 트랜잭션이 있으면 참여한다(예약 기록과 한 트랜잭션으로 묶기 위함). 이때 SYNC의 재조회도
+ * 바깥 트랜잭션 안에서 돌므로 잠금 구간이 줄지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class InventoryConditionalWriter {
+
+    private static final String ALLOCATE_SQL = """
+            UPDATE inventories
+            SET allocated = allocated + ?, version = version + 1, updated_at = ?
+            WHERE inventory_id = ?
+              AND (backorderable = TRUE OR on_hand - allocated - safety_stock >= ?)
+            """;
+
+    private static final String DEALLOCATE_SQL = """
+            UPDATE inventories
+            SET allocated = allocated - ?, version = version + 1, updated_at = ?
+            WHERE inventory_id = ? AND allocated >= ?
+            """;
+
+    private static final String SHIP_SQL = """
+            UPDATE inventories
+            SET allocated = allocated - ?, on_hand = on_hand - ?,
+                version = version + 1, updated_at = ?
+            WHERE inventory_id = ? AND allocated >= ? AND on_hand >= ?
+            """;
+
+    private static final String INBOUND_SQL = """
+            UPDATE inventories
+            SET on_hand = on_hand + ?, version = version + 1, updated_at = ?
+            WHERE inventory_id = ?
+            """;
+
+    // 다건 응답용(IN 목록 자리표시자는 호출 시 채운다)
+    private static final String SELECT_MANY_SQL = """
+            SELECT i.inventory_id, v.product_id, i.variant_id, i.sku_code, i.on_hand, i.allocated,
+                   i.safety_stock, i.backorderable, i.version, i.updated_at
+            FROM inventories i
+              JOIN product_variants v ON v.variant_id = i.variant_id
+            WHERE i.inventory_id IN (%s)
+            ORDER BY i.inventory_id
+            """;
+
+    private final InventoryProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryLedgerAppender ledgerAppender;
+
+    public boolean isEnabled() {
+        return properties.conditional();
+    }
+
+    public InventorySnapshot allocate(Long inventoryId, long qty, String reason) {
+        return write(inventoryId, LedgerEventType.ALLOCATE, +qty, reason,
+                ts -> update(inventoryId, current -> outOfStock(qty),
+                        ALLOCATE_SQL, qty, ts, inventoryId, qty));
+    }
+
+    public InventorySnapshot deallocate(Long inventoryId, long qty, String reason) {
+        return write(inventoryId, LedgerEventType.DEALLOCATE, -qty, reason,
+                ts -> update(inventoryId, current -> new ProductException(
+                                ProductErrorCode.INCORRECT_DEALLOCATION_QUANTITY, qty),
+                        DEALLOCATE_SQL, qty, ts, inventoryId, qty));
+    }
+
+    // 할당 → 출고 순서(JPA 경로와 같은 검사 순서로 예외를 고른다)
+    public InventorySnapshot ship(Long inventoryId, long qty, String reason) {
+        return write(inventoryId, LedgerEventType.SHIP, -qty, reason,
+                ts -> update(inventoryId, current -> current.allocated() < qty
+                                ? new ProductException(
+                                        ProductErrorCode.INCORRECT_DEALLOCATION_QUANTITY, qty)
+                                : new ProductException(
+                                        ProductErrorCode.DEDUCT_MORE_THAN_AMOUNT, qty),
+                        SHIP_SQL, qty, qty, ts, inventoryId, qty, qty));
+    }
+
+    public InventorySnapshot inbound(Long inventoryId, long qty, String reason) {
+        // 상대값 증가는 행이 있으면 항상 성공한다(0건은 재고 없음뿐)
+        return write(inventoryId, LedgerEventType.INBOUND, +qty, reason,
+                ts -> update(inventoryId, current -> new ProductException(
+                                ProductErrorCode.NOT_FOUND_INVENTORY, inventoryId),
+                        INBOUND_SQL, qty, ts, inventoryId));
+    }
+
+    /**
+     * 다건 할당(전부 성공 또는 전부 실패). 재고 ID 오름차순으로 갱신해 다건 요청끼리 교착되지 않는다.
+     *
+     * @param quantities 재고 ID → 할당 수량(중복 라인은 합산된 상태)
+     */
+    public List<InventorySnapshot> allocateAll(SortedMap<Long, Long> quantities, String reason) {
+        List<Long> inventoryIds = List.copyOf(quantities.keySet());
+        List<InventorySnapshot> updated = inTransaction(now -> {
+            Timestamp ts = Timestamp.valueOf(now);
+            List<InventoryLedgerRow> ledger = new ArrayList<>(quantities.size());
+            for (Map.Entry<Long, Long> e : quantities.entrySet()) {
+                long qty = e.getValue();
+                update(e.getKey(), current -> outOfStock(qty),
+                        ALLOCATE_SQL, qty, ts, e.getKey(), qty);
+                ledger.add(new InventoryLedgerRow(e.getKey(), LedgerEventType.ALLOCATE, +qty,
+                        reason, now));
+            }
+            if (!ledgerAppender.needsVersions()) {
+                ledgerAppender.appendRows(ledger, null);
+                return null;
+            }
+            // 응답용으로 읽은 행의 버전을 원장에 남긴다(재고 ID 오름차순 = 원장 순서)
+            List<InventorySnapshot> read = readAll(inventoryIds);
+            ledgerAppender.appendRows(ledger,
+                    read.stream().map(InventorySnapshot::version).toList());
+            return read;
+        });
+        return updated != null ? updated : readAll(inventoryIds);
+    }
+
+    private <T> T inTransaction(Function<LocalDateTime, T> work) {
+        return transactionTemplate.execute(status -> work.apply(LocalDateTime.now()));
+    }
+
+    /**
+     * 조건부 UPDATE. 0건이면 현재 행으로 원인을 가려 예외를 던진다(트랜잭션 롤백).
+     */
+    private void update(Long inventoryId, Function<InventorySnapshot, ProductException> rejection,
+            String sql, Object... args) {
+        if (jdbcTemplate.update(sql, args) == 1) {
+            return;
+        }
+        InventorySnapshot current = read(inventoryId).orElseThrow(
+                () -> new ProductException(ProductErrorCode.NOT_FOUND_INVENTORY, inventoryId));
+        throw rejection.apply(current);
+    }
+
+    /**
+     * 단건 변경: 조건부 UPDATE와 원장 적재를 한 트랜잭션에서 하고 갱신 후 행을 돌려준다. 원장에 버전이 필요 없으면
+     * 재조회는 커밋 뒤에 한다.
+     */
+    private InventorySnapshot write(Long inventoryId, LedgerEventType type, long quantity,
+            String reason, Consumer<Timestamp> update) {
+        InventorySnapshot updated = inTransaction(now -> {
+            update.accept(Timestamp.valueOf(now));
+            List<InventoryLedgerRow> ledger =
+                    List.of(new InventoryLedgerRow(inventoryId, type, quantity, reason, now));
+            if (!ledgerAppender.needsVersions()) {
+                ledgerAppender.appendRows(ledger, null);
+                return null;
+            }
+            InventorySnapshot read = readExisting(inventoryId);
+            ledgerAppender.appendRows(ledger, List.of(read.version()));
+            return read;
+        });
+        return updated != null ? updated : readExisting(inventoryId);
+    }
+
+    private InventorySnapshot readExisting(Long inventoryId) {
+        return read(inventoryId).orElseThrow(
+                () -> new ProductException(ProductErrorCode.NOT_FOUND_INVENTORY, inventoryId));
+    }
+
+    private Optional<InventorySnapshot> read(Long inventoryId) {
+        return jdbcTemplate.query(InventoryCounterStore.SELECT_SQL,
+                InventoryCounterStore.SNAPSHOT_MAPPER, inventoryId).stream().findFirst();
+    }
+
+    private List<InventorySnapshot> readAll(List<Long> inventoryIds) {
+        String sql = SELECT_MANY_SQL.formatted(
+                String.join(",", Collections.nCopies(inventoryIds.size(), "?")));
+        return jdbcTemplate.query(sql, InventoryCounterStore.SNAPSHOT_MAPPER,
+                inventoryIds.toArray());
+    }
+
+    private static ProductException outOfStock(long qty) {
+        return new ProductException(ProductErrorCode.INVENTORY_OUT_OF_STOCK, qty);
+    }
+}
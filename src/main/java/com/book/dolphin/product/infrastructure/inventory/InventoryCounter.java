@@ -0,0 +1,237 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Segment;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 1건의 인메모리 카운터.
+ *
+ * <p>검증 규칙은 {@link com.book.dolphin.product.domain.entity.Inventory}와 동일하다.
+ * 스레드 안전하지 않으며, 반드시 {@link InventoryCounterEngine}의 스트라이프 락 안에서만 접근한다.</p>
+ *
+ * <p>변경은 두 단계로 반영된다. 도메인 메서드가 값을 바꾸고 원장 한 줄을 돌려주면, 엔진이 그 원장을 저널에 기록한 뒤
+ * {@link #track}으로 플러시 대상에 올린다. 저널 기록이 실패하면 {@link #revert}로 되돌린다.</p>
+ */
+final class InventoryCounter {
+
+    private final long id;
+    private final Long productId;
+    private final Long variantId;
+    private final String skuCode;
+
+    // 외부 쓰기를 감지해 DB 값으로 다시 맞출 때(rebase) 바뀔 수 있다
+    private long safetyStock;
+    private boolean backorderable;
+    private long onHand;
+    private long allocated;
+    private long version;
+    private LocalDateTime updatedAt;
+
+    // 아직 DB에 반영되지 않은 변경분
+    private long pendingOnHand;
+    private long pendingAllocated;
+    private List<Pending> pendingLedger = new ArrayList<>();
+
+    // 연속 플러시 실패 횟수와 격리 여부(격리되면 새 변경을 받지 않는다)
+    private int flushFailures;
+    private boolean quarantined;
+
+    InventoryCounter(InventorySnapshot loaded) {
+        this.id = loaded.id();
+        this.productId = loaded.productId();
+        this.variantId = loaded.variantId();
+        this.skuCode = loaded.skuCode();
+        this.safetyStock = loaded.safetyStock();
+        this.backorderable = loaded.backorderable();
+        this.onHand = loaded.onHand();
+        this.allocated = loaded.allocated();
+        this.version = loaded.version();
+        this.updatedAt = loaded.updatedAt();
+    }
+
+    // ===== 도메인 로직 (Inventory와 동일 규칙) =====
+    boolean canAllocate(long qty) {
+        if (qty <= 0) {
+            return false;
+        }
+        if (backorderable) {
+            return true;
+        }
+        return Math.max(onHand - allocated - safetyStock, 0L) >= qty;
+    }
+
+    InventoryLedgerRow allocate(long qty, String reason, LocalDateTime now) {
+        if (!canAllocate(qty)) {
+            throw new ProductException(ProductErrorCode.INVENTORY_OUT_OF_STOCK, qty);
+        }
+        return apply(LedgerEventType.ALLOCATE, +qty, reason, now);
+    }
+
+    InventoryLedgerRow deallocate(long qty, String reason, LocalDateTime now) {
+        checkDeallocatable(qty);
+        return apply(LedgerEventType.DEALLOCATE, -qty, reason, now);
+    }
+
+    InventoryLedgerRow inbound(long qty, String reason, LocalDateTime now) {
+        if (qty <= 0) {
+            throw new ProductException(ProductErrorCode.QUANTITY_IN_STOCK_MINIMUM_ONE, qty);
+        }
+        return apply(LedgerEventType.INBOUND, +qty, reason, now);
+    }
+
+    InventoryLedgerRow ship(long qty, String reason, LocalDateTime now) {
+        // 할당 → 출고 순서. 둘 다 검증한 뒤에 반영해야 중간 실패 시 상태가 어긋나지 않는다.
+        checkDeallocatable(qty);
+        if (qty > onHand) {
+            throw new ProductException(ProductErrorCode.DEDUCT_MORE_THAN_AMOUNT, qty);
+        }
+        return apply(LedgerEventType.SHIP, -qty, reason, now);
+    }
+
+    private void checkDeallocatable(long qty) {
+        if (qty <= 0 || qty > allocated) {
+            throw new ProductException(ProductErrorCode.INCORRECT_DEALLOCATION_QUANTITY, qty);
+        }
+    }
+
+    private InventoryLedgerRow apply(LedgerEventType type, long signedQty, String reason,
+            LocalDateTime now) {
+        InventoryLedgerRow row = new InventoryLedgerRow(id, type, signedQty, reason, now);
+        onHand += row.onHandDelta();
+        allocated += row.allocatedDelta();
+        pendingOnHand += row.onHandDelta();
+        pendingAllocated += row.allocatedDelta();
+        updatedAt = now;
+        return row;
+    }
+
+    /**
+     * 저널에 기록하지 못한 변경을 되돌린다({@link #track} 전에만 호출).
+     */
+    void revert(InventoryLedgerRow row) {
+        onHand -= row.onHandDelta();
+        allocated -= row.allocatedDelta();
+        pendingOnHand -= row.onHandDelta();
+        pendingAllocated -= row.allocatedDelta();
+    }
+
+    /**
+     * 저널에 기록된 변경을 플러시 대상에 올린다.
+     */
+    void track(long ledgerId, InventoryLedgerRow row, Segment segment) {
+        pendingLedger.add(new Pending(ledgerId, row, segment));
+    }
+
+    // ===== 플러시 =====
+
+    /**
+     * 미반영 변경분을 떼어내고 카운터의 pending 상태를 비운다.
+     */
+    Delta drain() {
+        Delta delta = new Delta(id, pendingOnHand, pendingAllocated, version, pendingLedger);
+        pendingOnHand = 0L;
+        pendingAllocated = 0L;
+        pendingLedger = new ArrayList<>();
+        return delta;
+    }
+
+    /**
+     * 플러시 실패 시 떼어낸 변경분을 되돌린다. 원장 순서를 유지하기 위해 앞쪽에 붙인다.
+     */
+    void restore(Delta delta) {
+        pendingOnHand += delta.onHandDelta();
+        pendingAllocated += delta.allocatedDelta();
+        List<Pending> merged = new ArrayList<>(delta.pending().size() + pendingLedger.size());
+        merged.addAll(delta.pending());
+        merged.addAll(pendingLedger);
+        pendingLedger = merged;
+    }
+
+    /**
+     * DB 행이 한 번 갱신될 때마다 {@code version}이 1 증가하는 것을 따라간다.
+     */
+    void flushed() {
+        version++;
+        flushFailures = 0;
+    }
+
+    /**
+     * 다른 쓰기 경로가 바꾼 DB 행을 기준으로 다시 맞춘다. 아직 반영되지 않은 변경분은 그 위에 얹는다.
+     */
+    void rebase(InventorySnapshot row) {
+        onHand = row.onHand() + pendingOnHand;
+        allocated = row.allocated() + pendingAllocated;
+        safetyStock = row.safetyStock();
+        backorderable = row.backorderable();
+        version = row.version();
+        if (pendingLedger.isEmpty()) {
+            updatedAt = row.updatedAt();
+        }
+    }
+
+    int recordFlushFailure() {
+        return ++flushFailures;
+    }
+
+    void quarantine() {
+        quarantined = true;
+    }
+
+    boolean isQuarantined() {
+        return quarantined;
+    }
+
+    long version() {
+        return version;
+    }
+
+    boolean hasPending() {
+        return !pendingLedger.isEmpty();
+    }
+
+    InventorySnapshot snapshot() {
+        return new InventorySnapshot(id, productId, variantId, skuCode, onHand, allocated,
+                safetyStock, backorderable, version, updatedAt);
+    }
+
+    /**
+     * 저널에 기록되었고 아직 DB에 반영되지 않은 원장 한 줄.
+     *
+     * @param ledgerId 미리 할당한 원장 ID(복구 시 반영 여부 판별)
+     * @param segment  원장이 기록된 저널 세그먼트(반영되면 해제)
+     */
+    record Pending(long ledgerId, InventoryLedgerRow row, Segment segment) {
+
+    }
+
+    /**
+     * 한 번의 플러시로 DB에 반영할 변경분.
+     *
+     * @param expectedVersion 카운터가 알고 있는 DB 행 버전(다르면 다른 경로가 행을 바꾼 것)
+     */
+    record Delta(
+            long inventoryId,
+            long onHandDelta,
+            long allocatedDelta,
+            long expectedVersion,
+            List<Pending> pending
+    ) {
+
+        boolean isEmpty() {
+            return pending.isEmpty();
+        }
+
+        List<InventoryLedgerRow> ledger() {
+            return pending.stream().map(Pending::row).toList();
+        }
+
+        List<Long> ledgerIds() {
+            return pending.stream().map(Pending::ledgerId).toList();
+        }
+    }
+}
@@ -0,0 +1,515 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.common.persistence.EntityIdAllocator;
+import com.book.dolphin.product.domain.entity.InventoryLedger;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.infrastructure.inventory.InventoryCounter.Delta;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Entry;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Recovered;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Segment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * 인메모리 재고 카운터 엔진({@code dolphin.inventory.write-mode=in-memory}일 때만 사용).
+ *
+ * <p>재고별 카운터를 메모리에 두고 할당/해제/입고/출고를 즉시 응답한다.
+ * 동시성은 재고 ID 해시 기반 <b>락 스트라이핑</b>으로 제어하며, 변경분(델타/원장)은
+ * {@link InventoryCounterFlusher}가 주기적으로 모아 DB에 반영한다.</p>
+ *
+ * <p>응답 전에 변경 한 건마다 원장(미리 할당한 ID 포함)을 로컬 저널에 fsync로 기록한다. 동시에 들어온 변경은
+ * fsync 한 번을 나눠 쓰며(그룹 커밋), 같은 스트라이프의 변경끼리는 fsync 단위로 직렬화된다.
+ * 비정상 종료 후 기동하면 저널에서 DB에 없는 원장을 찾아 재고 행과 함께 반영한 뒤 요청을 받는다.
+ * 따라서 응답한 변경은 플러시 전에 프로세스가 죽어도 유실되지 않는다.</p>
+ *
+ * <p>카운터는 첫 접근 시 DB 행으로 지연 로딩된다. 이 모드는 재고 하나를 이 인스턴스만 쓴다고 가정한다.
+ * 다른 인스턴스나 다른 쓰기 방식이 행을 바꾸면 플러시의 버전 검사나 주기적 버전 대조
+ * ({@code dolphin.inventory.counter-sync-interval-ms})에서 감지해 카운터를 DB 값으로 다시 맞춘다.
+ * 감지 전까지는 낡은 값으로 판단할 수 있다.</p>
+ *
+ * <p>플러시 실패는 DB 장애(연결 불가 등)와 데이터 오류를 나눈다. DB 장애는 다음 주기에 계속 재시도하고, 데이터 오류가
+ * {@code dolphin.inventory.flush-max-failures}번 이어진 재고는 격리한다. 격리된 재고는 새 변경을 503으로 거절하고
+ * 미반영분은 저널에 남아 다음 기동 시 다시 반영을 시도한다
+ * ({@code inventory.counter.quarantined} 게이지로 경보).</p>
+ */
+@Slf4j
+@Component
+public class InventoryCounterEngine implements SmartLifecycle {
+
+    private static final long JOURNAL_SEGMENT_BYTES = 64L << 20;
+
+    private final InventoryProperties properties;
+    private final InventoryCounterStore store;
+    private final EntityIdAllocator idAllocator;
+
+    private final ConcurrentHashMap<Long, InventoryCounter> counters = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    // 이번 주기에 실패한 재고(같은 주기에 다시 시도하지 않도록 주기가 끝날 때 dirty로 되돌린다)
+    private final Set<Long> retryLater = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] stripes;
+    // 플러시와 버전 대조는 한 번에 하나만(카운터 버전이 플러시로만 바뀐다는 전제를 지키기 위함)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter unavailableFailures;
+    private final Counter rejectedFailures;
+    private final Counter rebased;
+    private final AtomicInteger quarantined = new AtomicInteger();
+
+    private InventoryLedgerJournal journal;
+    private volatile boolean running;
+
+    public InventoryCounterEngine(InventoryProperties properties, InventoryCounterStore store,
+            EntityIdAllocator idAllocator, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.idAllocator = idAllocator;
+        int size = Integer.highestOneBit(Math.max(1, properties.stripes() - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.unavailableFailures = Counter.builder("inventory.counter.flush.failures")
+                .tag("reason", "unavailable")
+                .description("DB 장애로 반영하지 못한 재고 델타 수(다음 주기에 재시도)")
+                .register(meterRegistry);
+        this.rejectedFailures = Counter.builder("inventory.counter.flush.failures")
+                .tag("reason", "rejected")
+                .description("데이터 오류로 반영하지 못한 재고 델타 수(연속 실패 시 격리)")
+                .register(meterRegistry);
+        this.rebased = Counter.builder("inventory.counter.rebased")
+                .description("다른 쓰기 경로의 변경을 감지해 DB 값으로 다시 맞춘 카운터 수")
+                .register(meterRegistry);
+        Gauge.builder("inventory.counter.quarantined", quarantined, AtomicInteger::get)
+                .description("플러시가 계속 실패해 변경을 막은 재고 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.inMemory();
+    }
+
+    public InventorySnapshot allocate(Long inventoryId, long qty, String reason) {
+        return mutate(inventoryId, (c, now) -> c.allocate(qty, reason, now));
+    }
+
+    public InventorySnapshot deallocate(Long inventoryId, long qty, String reason) {
+        return mutate(inventoryId, (c, now) -> c.deallocate(qty, reason, now));
+    }
+
+    public InventorySnapshot inbound(Long inventoryId, long qty, String reason) {
+        return mutate(inventoryId, (c, now) -> c.inbound(qty, reason, now));
+    }
+
+    public InventorySnapshot ship(Long inventoryId, long qty, String reason) {
+        return mutate(inventoryId, (c, now) -> c.ship(qty, reason, now));
+    }
+
+    /**
+     * 다건 할당(전부 성공 또는 전부 실패).
+     *
+     * <p>관련 스트라이프를 인덱스 오름차순으로 모두 잡은 뒤 전 라인을 검사하고, 모두 가능할 때만 반영한다.
+     * 잠금 순서가 고정되어 있어 다건 요청끼리 교착되지 않는다. 전 라인의 원장은 저널에 한 번에 기록한다.</p>
+     *
+     * @param quantities 재고 ID → 할당 수량(중복 라인은 합산된 상태)
+     */
+    public List<InventorySnapshot> allocateAll(SortedMap<Long, Long> quantities, String reason) {
+        List<InventoryCounter> targets = new ArrayList<>(quantities.size());
+        for (Long inventoryId : quantities.keySet()) {
+            targets.add(counter(inventoryId)); // 로딩은 락 밖에서
+        }
+        List<Long> ledgerIds = idAllocator.allocate(InventoryLedger.class, quantities.size());
+        int[] order = quantities.keySet().stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        for (int idx : order) {
+            stripes[idx].lock();
+        }
+        try {
+            int i = 0;
+            for (Map.Entry<Long, Long> e : quantities.entrySet()) {
+                InventoryCounter c = targets.get(i++);
+                checkUsable(c, e.getKey());
+                if (!c.canAllocate(e.getValue())) {
+                    throw new ProductException(ProductErrorCode.INVENTORY_OUT_OF_STOCK,
+                            e.getValue());
+                }
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<InventoryLedgerRow> rows = new ArrayList<>(targets.size());
+            i = 0;
+            for (Map.Entry<Long, Long> e : quantities.entrySet()) {
+                rows.add(targets.get(i++).allocate(e.getValue(), reason, now));
+            }
+            Segment segment = journal(targets, ledgerIds, rows);
+
+            List<InventorySnapshot> out = new ArrayList<>(targets.size());
+            i = 0;
+            for (Long inventoryId : quantities.keySet()) {
+                InventoryCounter c = targets.get(i);
+                c.track(ledgerIds.get(i), rows.get(i), segment);
+                dirty.add(inventoryId);
+                out.add(c.snapshot());
+                i++;
+            }
+            return out;
+        } finally {
+            for (int k = order.length - 1; k >= 0; k--) {
+                stripes[order[k]].unlock();
+            }
+        }
+    }
+
+    /**
+     * 현재 카운터 상태. 아직 로딩되지 않은 재고는 비어 있다(호출 측이 DB에서 조회).
+     */
+    public Optional<InventorySnapshot> peek(Long inventoryId) {
+        InventoryCounter c = counters.get(inventoryId);
+        if (c == null) {
+            return Optional.empty();
+        }
+        ReentrantLock lock = stripeOf(inventoryId);
+        lock.lock();
+        try {
+            return Optional.of(c.snapshot());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private InventorySnapshot mutate(Long inventoryId, Mutation mutation) {
+        InventoryCounter c = counter(inventoryId);
+        // 풀이 비었을 때만 DB 왕복이 있으므로 락 밖에서 받는다(검증에 실패하면 버려지는 ID)
+        long ledgerId = idAllocator.allocate(InventoryLedger.class, 1).get(0);
+        ReentrantLock lock = stripeOf(inventoryId);
+        lock.lock();
+        try {
+            checkUsable(c, inventoryId);
+            InventoryLedgerRow row = mutation.apply(c, LocalDateTime.now());
+            Segment segment = journal(List.of(c), List.of(ledgerId), List.of(row));
+            c.track(ledgerId, row, segment);
+            dirty.add(inventoryId);
+            return c.snapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 변경 원장을 저널에 기록한다(fsync 완료까지 대기). 실패하면 카운터 변경을 되돌리고 예외를 그대로 던진다.
+     */
+    private Segment journal(List<InventoryCounter> targets, List<Long> ledgerIds,
+            List<InventoryLedgerRow> rows) {
+        long txId = ledgerIds.get(0);
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            entries.add(new Entry(txId, ledgerIds.get(i), 0L, rows.get(i)));
+        }
+        try {
+            return journal.appendDurably(txId, entries);
+        } catch (RuntimeException e) {
+            for (int i = 0; i < rows.size(); i++) {
+                targets.get(i).revert(rows.get(i));
+            }
+            throw e;
+        }
+    }
+
+    private static void checkUsable(InventoryCounter c, Long inventoryId) {
+        if (c.isQuarantined()) {
+            throw new ProductException(ProductErrorCode.INVENTORY_COUNTER_QUARANTINED,
+                    inventoryId);
+        }
+    }
+
+    private InventoryCounter counter(Long inventoryId) {
+        InventoryCounter c = counters.get(inventoryId);
+        if (c != null) {
+            return c;
+        }
+        // DB 접근은 맵 락 밖에서 수행한다(computeIfAbsent는 같은 버킷의 다른 키까지 막는다).
+        InventorySnapshot loaded = store.load(inventoryId)
+                .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND_INVENTORY,
+                        inventoryId));
+        InventoryCounter fresh = new InventoryCounter(loaded);
+        InventoryCounter raced = counters.putIfAbsent(inventoryId, fresh);
+        return raced == null ? fresh : raced;
+    }
+
+    private ReentrantLock stripeOf(long inventoryId) {
+        return stripes[stripeIndex(inventoryId)];
+    }
+
+    private int stripeIndex(long inventoryId) {
+        long h = inventoryId * 0x9E3779B97F4A7C15L; // 연속 ID가 인접 스트라이프에 몰리지 않도록 섞는다
+        return (int) (h >>> 32) & (stripes.length - 1);
+    }
+
+    // ===== 플러시 =====
+
+    /**
+     * 밀린 변경분을 {@code batchSize}건씩 모두 반영한다. 실패한 재고는 다음 주기에 다시 시도한다.
+     */
+    void flushAll(int batchSize) {
+        flushLock.lock();
+        try {
+            while (!dirty.isEmpty()) {
+                if (flushBatch(batchSize) == 0) {
+                    break; // 실패 또는 빈 델타 → 다음 주기에 재시도
+                }
+            }
+            dirty.addAll(retryLater);
+            retryLater.clear();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 변경분을 최대 {@code batchSize}건 모아 DB에 반영한다. 실패하면 변경분을 카운터에 되돌려 다음 주기에 재시도한다.
+     *
+     * @return 반영한 재고 건수
+     */
+    int flush(int batchSize) {
+        flushLock.lock();
+        try {
+            return flushBatch(batchSize);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushBatch(int batchSize) {
+        List<Delta> deltas = drain(batchSize);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        try {
+            completed(deltas, store.apply(deltas));
+            return deltas.size();
+        } catch (RuntimeException e) {
+            if (deltas.size() == 1 || isDbUnavailable(e)) {
+                failed(deltas, e);
+                return 0;
+            }
+        }
+        // 데이터 오류 한 건 때문에 묶음 전체가 계속 실패하지 않도록 건별로 다시 시도한다
+        int applied = 0;
+        for (Delta d : deltas) {
+            try {
+                completed(List.of(d), store.apply(List.of(d)));
+                applied++;
+            } catch (RuntimeException e) {
+                failed(List.of(d), e);
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 변경된 카운터에서 최대 {@code limit}건의 델타를 떼어낸다.
+     */
+    private List<Delta> drain(int limit) {
+        List<Delta> out = new ArrayList<>(Math.min(limit, dirty.size()));
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext() && out.size() < limit) {
+            Long id = it.next();
+            it.remove();
+            InventoryCounter c = counters.get(id);
+            if (c == null) {
+                continue;
+            }
+            ReentrantLock lock = stripeOf(id);
+            lock.lock();
+            try {
+                Delta d = c.drain();
+                if (!d.isEmpty()) {
+                    out.add(d);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return out;
+    }
+
+    private void completed(List<Delta> deltas, Set<Long> stale) {
+        forEachLocked(deltas, (c, d) -> c.flushed());
+        // DB에 반영되었으므로 저널에서 놓아준다(세그먼트의 원장이 모두 반영되면 파일 삭제)
+        deltas.forEach(d -> d.pending().forEach(p -> p.segment().release(1)));
+        if (!stale.isEmpty()) {
+            rebase(stale);
+        }
+    }
+
+    private void failed(List<Delta> deltas, RuntimeException e) {
+        boolean unavailable = isDbUnavailable(e);
+        (unavailable ? unavailableFailures : rejectedFailures).increment(deltas.size());
+        log.error("재고 카운터 플러시 실패(다음 주기에 재시도): size={}, unavailable={}",
+                deltas.size(), unavailable, e);
+        int maxFailures = Math.max(1, properties.flushMaxFailures());
+        forEachLocked(deltas, (c, d) -> {
+            c.restore(d);
+            if (!unavailable && c.recordFlushFailure() >= maxFailures) {
+                c.quarantine();
+                quarantined.incrementAndGet();
+                log.error("재고 카운터 격리(변경 거절, 미반영분은 저널에 남아 다음 기동 시 복구): inventoryId={}",
+                        d.inventoryId());
+            } else {
+                retryLater.add(d.inventoryId());
+            }
+        });
+    }
+
+    // 연결/트랜잭션을 얻지 못하는 등 DB 자체 문제. 특정 재고의 데이터 문제가 아니므로 격리 횟수에 넣지 않는다.
+    private static boolean isDbUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    boolean hasDirty() {
+        return !dirty.isEmpty() || !retryLater.isEmpty();
+    }
+
+    private void forEachLocked(List<Delta> deltas, BiConsumer<InventoryCounter, Delta> action) {
+        for (Delta d : deltas) {
+            ReentrantLock lock = stripeOf(d.inventoryId());
+            lock.lock();
+            try {
+                action.accept(counters.get(d.inventoryId()), d);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // ===== 외부 쓰기 감지 =====
+
+    /**
+     * 로딩된 카운터의 버전을 DB와 대조해, 다른 쓰기 경로가 바꾼 재고를 DB 값으로 다시 맞춘다.
+     */
+    void syncWithDb() {
+        if (counters.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Map<Long, Long> dbVersions = store.versions(counters.keySet());
+            List<Long> stale = new ArrayList<>();
+            counters.forEach((id, c) -> {
+                Long dbVersion = dbVersions.get(id);
+                ReentrantLock lock = stripeOf(id);
+                lock.lock();
+                try {
+                    if (dbVersion == null || dbVersion != c.version()) {
+                        stale.add(id);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            });
+            if (!stale.isEmpty()) {
+                rebase(stale);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 플러시 락 안에서만 호출: 읽은 DB 행 이후의 변경은 모두 카운터의 미반영분에 있다
+    private void rebase(Collection<Long> inventoryIds) {
+        for (Long id : inventoryIds) {
+            Optional<InventorySnapshot> row = store.load(id);
+            ReentrantLock lock = stripeOf(id);
+            lock.lock();
+            try {
+                InventoryCounter c = counters.get(id);
+                if (c == null) {
+                    continue;
+                }
+                if (row.isPresent()) {
+                    c.rebase(row.get());
+                } else if (!c.hasPending()) {
+                    counters.remove(id); // 행이 지워진 재고
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        rebased.increment(inventoryIds.size());
+        log.info("다른 쓰기 경로의 재고 변경 감지, 카운터를 DB 값으로 맞춤: inventoryIds={}", inventoryIds);
+    }
+
+    // ===== 수명주기 =====
+
+    @Override
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        journal = new InventoryLedgerJournal(Path.of(properties.counterJournalDir()),
+                JOURNAL_SEGMENT_BYTES);
+        Recovered recovered = journal.readAll();
+        if (recovered.entries().isEmpty()
+                || store.replay(recovered.entries(), Math.max(1, properties.flushBatchSize()))) {
+            journal.deleteRecovered(recovered.files());
+        }
+        running = true;
+    }
+
+    // 웹 서버가 멈춘 뒤 남은 변경분을 반영한다. 반영하지 못한 것은 저널에 남아 다음 기동 시 복구된다.
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        log.info("종료 전 재고 카운터 플러시");
+        flushAll(Math.max(1, properties.flushBatchSize()));
+        running = false;
+        journal.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버보다 먼저 시작(저널 복구 후 요청 수신)하고, 웹 서버가 멈춘 뒤에 종료한다.
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @FunctionalInterface
+    private interface Mutation {
+
+        InventoryLedgerRow apply(InventoryCounter counter, LocalDateTime now);
+    }
+}
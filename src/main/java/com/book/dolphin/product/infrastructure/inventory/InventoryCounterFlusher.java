@@ -0,0 +1,35 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 재고 카운터의 변경분을 주기적으로 DB에 반영하고, 다른 쓰기 경로의 변경을 대조한다.
+ *
+ * <p>한 주기 동안 같은 재고에 쌓인 변경은 재고 UPDATE 1건으로 합쳐지고, 원장은 건별로 배치 INSERT 된다.
+ * 종료 시 남은 변경분은 {@link InventoryCounterEngine#stop()}이 반영한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+class InventoryCounterFlusher {
+
+    private final InventoryCounterEngine engine;
+    private final InventoryProperties properties;
+
+    @Scheduled(fixedDelayString = "${dolphin.inventory.flush-interval-ms:200}")
+    void flush() {
+        if (!engine.isEnabled()) {
+            return;
+        }
+        engine.flushAll(Math.max(1, properties.flushBatchSize()));
+    }
+
+    @Scheduled(fixedDelayString = "${dolphin.inventory.counter-sync-interval-ms:5000}")
+    void syncWithDb() {
+        if (!engine.isEnabled()) {
+            return;
+        }
+        engine.syncWithDb();
+    }
+}
@@ -0,0 +1,238 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.infrastructure.inventory.InventoryCounter.Delta;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Entry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인메모리 카운터의 영속화 담당(JDBC).
+ *
+ * <ul>
+ *   <li>로딩: 재고 행을 그대로 읽는다(크래시 복구는 기동 시 {@link #replay}가 저널로 끝낸다).</li>
+ *   <li>플러시: 재고별 델타를 버전 조건 상대값 UPDATE 한 번으로 합치고, 원장은 미리 받은 ID로 배치 INSERT 한다.
+ *   델타와 원장이 한 트랜잭션이므로 원장 ID가 DB에 있으면 그 변경은 행에도 반영된 것이다.</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class InventoryCounterStore {
+
+    static final String SELECT_SQL = """
+            SELECT i.inventory_id, v.product_id, i.variant_id, i.sku_code, i.on_hand, i.allocated,
+                   i.safety_stock, i.backorderable, i.version, i.updated_at
+            FROM inventories i
+              JOIN product_variants v ON v.variant_id = i.variant_id
+            WHERE i.inventory_id = ?
+            """;
+
+    static final RowMapper<InventorySnapshot> SNAPSHOT_MAPPER = (rs, n) -> new InventorySnapshot(
+            rs.getLong("inventory_id"),
+            rs.getLong("product_id"),
+            rs.getLong("variant_id"),
+            rs.getString("sku_code"),
+            rs.getLong("on_hand"),
+            rs.getLong("allocated"),
+            rs.getLong("safety_stock"),
+            rs.getBoolean("backorderable"),
+            rs.getLong("version"),
+            rs.getTimestamp("updated_at").toLocalDateTime());
+
+    private static final int QUERY_CHUNK = 1000;
+
+    // 카운터가 아는 버전과 같을 때만 반영(다르면 다른 쓰기 경로가 행을 바꾼 것)
+    private static final String APPLY_DELTA_SQL = """
+            UPDATE inventories
+            SET on_hand = on_hand + ?, allocated = allocated + ?, version = version + 1, updated_at = ?
+            WHERE inventory_id = ? AND version = ?
+            """;
+
+    // 버전이 어긋난 행과 저널 복구용: 상대값이라 다른 경로의 변경과 순서에 상관없이 합쳐진다
+    private static final String APPLY_DELTA_UNCHECKED_SQL = """
+            UPDATE inventories
+            SET on_hand = on_hand + ?, allocated = allocated + ?, version = version + 1, updated_at = ?
+            WHERE inventory_id = ?
+            """;
+
+    private static final String VERSION_SQL = """
+            SELECT inventory_id, version FROM inventories WHERE inventory_id IN (:ids)
+            """;
+
+    private static final String EXISTING_LEDGER_SQL = """
+            SELECT inventory_ledger_id FROM inventory_ledgers WHERE inventory_ledger_id IN (:ids)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryLedgerJdbcWriter ledgerWriter;
+
+    /**
+     * 재고 행을 읽어 카운터 초기값을 만든다.
+     */
+    Optional<InventorySnapshot> load(long inventoryId) {
+        return jdbcTemplate.query(SELECT_SQL, SNAPSHOT_MAPPER, inventoryId).stream().findFirst();
+    }
+
+    /**
+     * 재고 ID → 현재 DB 버전(없는 재고는 빠진다).
+     */
+    Map<Long, Long> versions(Collection<Long> inventoryIds) {
+        Map<Long, Long> out = new HashMap<>();
+        List<Long> ids = new ArrayList<>(inventoryIds);
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK, ids.size()));
+            namedJdbc.query(VERSION_SQL, Map.of("ids", chunk),
+                    rs -> {
+                        out.put(rs.getLong("inventory_id"), rs.getLong("version"));
+                    });
+        }
+        return out;
+    }
+
+    /**
+     * 여러 재고의 델타를 한 트랜잭션으로 반영한다(재고 UPDATE 배치 + 원장 INSERT 배치).
+     *
+     * <p>버전이 어긋난 행은 같은 트랜잭션에서 버전 조건 없이 상대값으로 반영한다. 이미 응답한 변경을 잃지 않기 위함이며,
+     * 호출 측은 돌려받은 재고의 카운터를 DB 값으로 다시 맞춰야 한다.</p>
+     *
+     * @return 버전이 어긋나 있던 재고 ID
+     * @throws EmptyResultDataAccessException 재고 행이 사라진 경우(트랜잭션 전체 롤백)
+     */
+    Set<Long> apply(List<Delta> deltas) {
+        List<Long> ledgerIds = new ArrayList<>();
+        List<InventoryLedgerRow> ledger = new ArrayList<>();
+        for (Delta d : deltas) {
+            ledgerIds.addAll(d.ledgerIds());
+            ledger.addAll(d.ledger());
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return transactionTemplate.execute(status -> {
+            int[][] counts = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(),
+                    (ps, d) -> {
+                        ps.setLong(1, d.onHandDelta());
+                        ps.setLong(2, d.allocatedDelta());
+                        ps.setTimestamp(3, now);
+                        ps.setLong(4, d.inventoryId());
+                        ps.setLong(5, d.expectedVersion());
+                    });
+            List<Delta> stale = new ArrayList<>();
+            for (int i = 0; i < deltas.size(); i++) {
+                if (counts[0][i] == 0) {
+                    stale.add(deltas.get(i));
+                }
+            }
+            if (!stale.isEmpty()) {
+                applyUnchecked(stale, now);
+            }
+            ledgerWriter.insertAll(ledgerIds, ledger);
+            Set<Long> staleIds = new HashSet<>();
+            stale.forEach(d -> staleIds.add(d.inventoryId()));
+            return staleIds;
+        });
+    }
+
+    /**
+     * 저널에 남은 원장 중 DB에 없는 것을 재고 행과 함께 반영한다(기동 시, 요청을 받기 전).
+     *
+     * <p>원장 ID가 DB에 있으면 그 변경은 이미 행에 반영된 것이므로 건너뛴다. 재고별로 묶어 {@code batchSize}개 재고씩
+     * 한 트랜잭션으로 반영한다.</p>
+     *
+     * @return 모두 반영했으면 true. 실패한 묶음이 있으면 false(저널을 지우지 말고 다음 기동 때 다시 시도)
+     */
+    boolean replay(List<Entry> entries, int batchSize) {
+        Set<Long> existing = existingLedgerIds(entries.stream().map(Entry::ledgerId).toList());
+        Map<Long, List<Entry>> byInventory = new LinkedHashMap<>();
+        for (Entry e : entries) {
+            if (!existing.contains(e.ledgerId())) {
+                byInventory.computeIfAbsent(e.row().inventoryId(), k -> new ArrayList<>()).add(e);
+            }
+        }
+        List<List<Entry>> groups = new ArrayList<>(byInventory.values());
+        boolean complete = true;
+        int replayed = 0;
+        for (int from = 0; from < groups.size(); from += batchSize) {
+            List<List<Entry>> chunk = groups.subList(from,
+                    Math.min(from + batchSize, groups.size()));
+            try {
+                replayChunk(chunk);
+                replayed += chunk.stream().mapToInt(List::size).sum();
+            } catch (RuntimeException e) {
+                complete = false;
+                log.error("재고 카운터 저널 복구 실패(저널 유지, 다음 기동 시 재시도): inventoryIds={}",
+                        chunk.stream().map(g -> g.get(0).row().inventoryId()).toList(), e);
+            }
+        }
+        log.info("재고 카운터 저널 복구: journal={}, replayed={}", entries.size(), replayed);
+        return complete;
+    }
+
+    private void replayChunk(List<List<Entry>> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Delta> deltas = new ArrayList<>(chunk.size());
+        List<Long> ledgerIds = new ArrayList<>();
+        List<InventoryLedgerRow> ledger = new ArrayList<>();
+        for (List<Entry> group : chunk) {
+            long onHand = 0L;
+            long allocated = 0L;
+            for (Entry e : group) {
+                onHand += e.row().onHandDelta();
+                allocated += e.row().allocatedDelta();
+                ledgerIds.add(e.ledgerId());
+                ledger.add(e.row());
+            }
+            deltas.add(new Delta(group.get(0).row().inventoryId(), onHand, allocated, 0L,
+                    List.of()));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            applyUnchecked(deltas, now);
+            ledgerWriter.insertAll(ledgerIds, ledger);
+        });
+    }
+
+    private void applyUnchecked(List<Delta> deltas, Timestamp now) {
+        int[][] counts = jdbcTemplate.batchUpdate(APPLY_DELTA_UNCHECKED_SQL, deltas,
+                deltas.size(), (ps, d) -> {
+                    ps.setLong(1, d.onHandDelta());
+                    ps.setLong(2, d.allocatedDelta());
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, d.inventoryId());
+                });
+        for (int i = 0; i < deltas.size(); i++) {
+            if (counts[0][i] == 0) {
+                throw new EmptyResultDataAccessException(
+                        "재고 행이 없습니다: inventoryId=" + deltas.get(i).inventoryId(), 1);
+            }
+        }
+    }
+
+    private Set<Long> existingLedgerIds(List<Long> ledgerIds) {
+        Set<Long> out = new HashSet<>();
+        for (int from = 0; from < ledgerIds.size(); from += QUERY_CHUNK) {
+            List<Long> chunk = ledgerIds.subList(from,
+                    Math.min(from + QUERY_CHUNK, ledgerIds.size()));
+            out.addAll(namedJdbc.queryForList(EXISTING_LEDGER_SQL, Map.of("ids", chunk),
+                    Long.class));
+        }
+        return out;
+    }
+}
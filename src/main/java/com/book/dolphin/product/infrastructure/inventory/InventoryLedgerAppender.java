@@ -0,0 +1,132 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.domain.entity.Inventory;
+import com.book.dolphin.product.domain.entity.InventoryLedger;
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import com.book.dolphin.product.domain.repository.InventoryLedgerRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerPipeline.Prepared;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 재고 변경에 따른 원장 적재 진입점.
+ *
+ * <ul>
+ *   <li>SYNC(기본): 요청 트랜잭션에서 원장 엔티티를 저장(INSERT는 flush 시 배치로 나간다)</li>
+ *   <li>ASYNC: 트랜잭션에 원장을 모아 두었다가 커밋 직전 저널에 기록하고, 커밋 후 {@link InventoryLedgerPipeline}으로 넘긴다.
+ *   요청 트랜잭션에는 원장 INSERT가 없다.</li>
+ * </ul>
+ *
+ * <p>엔티티 없이 JDBC로 재고 행을 바꾸는 경로({@link InventoryConditionalWriter})는 {@link #appendRows}를 쓴다.
+ * SYNC면 같은 트랜잭션에서 JDBC 배치로 넣고, ASYNC면 엔티티 경로와 같은 저널/대기열을 탄다.</p>
+ *
+ * @implNote ASYNC에서는 원장이 재고 행보다 잠깐(대기열 적재 주기만큼) 늦게 보인다.
+ */
+@RequiredArgsConstructor
+@Component
+public class InventoryLedgerAppender {
+
+    private final InventoryLedgerProperties properties;
+    private final InventoryLedgerRepository ledgerRepository;
+    private final InventoryLedgerPipeline pipeline;
+    private final EntityManager entityManager;
+    private final InventoryLedgerJdbcWriter ledgerWriter;
+
+    /**
+     * @param quantity 부호 포함 수량(ALLOCATE/INBOUND는 +, DEALLOCATE/SHIP은 -)
+     */
+    public void append(Inventory inventory, LedgerEventType eventType, long quantity,
+            String reason) {
+        if (!properties.async()) {
+            ledgerRepository.save(InventoryLedger.builder()
+                    .inventory(inventory).eventType(eventType).quantity(quantity).reason(reason)
+                    .build());
+            return;
+        }
+        txLedger().add(new InventoryLedgerRow(inventory.getId(), eventType, quantity, reason,
+                LocalDateTime.now()), inventory::getVersion);
+    }
+
+    /**
+     * {@link #appendRows}에 갱신 후 버전이 필요한지(ASYNC 저널만 쓴다). 필요 없으면 호출 측은 재조회를 커밋 뒤로 미룰 수 있다.
+     */
+    public boolean needsVersions() {
+        return properties.async();
+    }
+
+    /**
+     * JDBC로 이미 갱신한 재고 행의 원장을 적재한다.
+     *
+     * @param versions 원장마다 갱신 후 재고 행 버전(같은 순서). 행 잠금을 커밋까지 쥐고 있으므로 커밋 시점 값과 같다.
+     *                 {@link #needsVersions()}가 false면 쓰지 않는다({@code null} 가능).
+     */
+    public void appendRows(List<InventoryLedgerRow> rows, List<Long> versions) {
+        if (!properties.async()) {
+            ledgerWriter.insertAll(rows);
+            return;
+        }
+        TxLedger txLedger = txLedger();
+        for (int i = 0; i < rows.size(); i++) {
+            long version = versions.get(i);
+            txLedger.add(rows.get(i), () -> version);
+        }
+    }
+
+    private TxLedger txLedger() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("재고 원장은 트랜잭션 안에서만 적재할 수 있습니다.");
+        }
+        TxLedger txLedger = (TxLedger) TransactionSynchronizationManager.getResource(this);
+        if (txLedger == null) {
+            txLedger = new TxLedger();
+            TransactionSynchronizationManager.bindResource(this, txLedger);
+            TransactionSynchronizationManager.registerSynchronization(txLedger);
+        }
+        return txLedger;
+    }
+
+    /**
+     * 트랜잭션 하나에 쌓인 원장.
+     */
+    private final class TxLedger implements TransactionSynchronization {
+
+        private final List<InventoryLedgerRow> rows = new ArrayList<>();
+        // 커밋 직전에 읽는다(엔티티 경로는 flush 후에야 버전이 오른다)
+        private final List<LongSupplier> versions = new ArrayList<>();
+        private Prepared prepared;
+
+        void add(InventoryLedgerRow row, LongSupplier version) {
+            rows.add(row);
+            versions.add(version);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 재고 UPDATE를 먼저 내보내야 커밋 후 버전(낙관적 락 통과 값)을 저널에 남길 수 있다.
+            entityManager.flush();
+            prepared = pipeline.prepare(rows,
+                    versions.stream().map(LongSupplier::getAsLong).toList());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(
+                    InventoryLedgerAppender.this);
+            if (prepared == null) {
+                return;
+            }
+            if (status == STATUS_COMMITTED) {
+                pipeline.committed(prepared);
+            } else {
+                pipeline.rolledBack(prepared);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.common.persistence.EntityIdAllocator;
+import com.book.dolphin.product.domain.entity.InventoryLedger;
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 원장을 JDBC 배치 INSERT로 적재한다.
+ *
+ * <p>호출 측 트랜잭션에 참여한다(JPA 트랜잭션 매니저가 같은 커넥션을 노출).
+ * ID는 {@link InventoryLedger}에 매핑된 시퀀스에서 미리 받아 채운다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class InventoryLedgerJdbcWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO inventory_ledgers
+                (inventory_ledger_id, inventory_id, event_type, quantity, reason, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+
+    public void insertAll(List<InventoryLedgerRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        insertAll(idAllocator.allocate(InventoryLedger.class, rows.size()), rows);
+    }
+
+    /**
+     * 미리 할당한 ID로 적재한다(비동기 적재/저널 복구 시 같은 원장이 두 번 들어가지 않도록).
+     */
+    public void insertAll(List<Long> ids, List<InventoryLedgerRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Iterator<Long> idIt = ids.iterator();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, idIt.next());
+            ps.setLong(2, row.inventoryId());
+            ps.setString(3, row.eventType().name());
+            ps.setLong(4, row.quantity());
+            ps.setString(5, row.reason());
+            ps.setTimestamp(6, Timestamp.valueOf(row.occurredAt()));
+        });
+    }
+}
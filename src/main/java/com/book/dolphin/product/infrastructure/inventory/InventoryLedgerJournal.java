@@ -0,0 +1,321 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 원장 적재를 위한 로컬 추가 전용 저널.
+ *
+ * <p>레코드(한 줄, 탭 구분):
+ * <ul>
+ *   <li>{@code P txId ledgerId inventoryId eventType quantity version occurredAt reason}: 커밋 직전 기록(fsync)</li>
+ *   <li>{@code C txId}: 커밋 완료 / {@code R txId}: 롤백</li>
+ * </ul>
+ * P는 동시에 들어온 트랜잭션끼리 fsync 한 번을 공유한다(그룹 커밋). C/R은 fsync하지 않는다.</p>
+ *
+ * <p>세그먼트는 크기 한도를 넘으면 교체되며, 교체된 세그먼트의 원장이 모두 DB에 반영되면 삭제된다.</p>
+ *
+ * <p>인메모리 카운터({@link InventoryCounterEngine})도 별도 디렉터리에 같은 형식으로 쓴다. 응답한 변경만 기록되므로
+ * C/R 표시 없이 P만 남기며, 복구 시 DB에 없는 원장은 모두 반영 대상이다.</p>
+ *
+ * @implNote 마지막 줄은 크래시로 잘려 있을 수 있으므로 복구 시 해석할 수 없는 줄은 건너뛴다.
+ */
+@Slf4j
+final class InventoryLedgerJournal implements AutoCloseable {
+
+    private static final String PREFIX = "ledger-";
+    private static final String SUFFIX = ".log";
+
+    private final Path dir;
+    private final long segmentBytes;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private Segment active;
+    private long nextSegmentNo;
+
+    InventoryLedgerJournal(Path dir, long segmentBytes) {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+    }
+
+    // ===== 복구 =====
+
+    /**
+     * 남아 있는 세그먼트를 모두 읽는다. 반영이 끝나면 {@link #deleteRecovered(List)}로 지운다.
+     */
+    Recovered readAll() {
+        try {
+            Files.createDirectories(dir);
+            List<Path> files;
+            try (Stream<Path> s = Files.list(dir)) {
+                files = s.filter(p -> p.getFileName().toString().startsWith(PREFIX))
+                        .sorted()
+                        .toList();
+            }
+            List<Entry> entries = new ArrayList<>();
+            List<Long> committed = new ArrayList<>();
+            List<Long> rolledBack = new ArrayList<>();
+            for (Path file : files) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    parse(line, entries, committed, rolledBack);
+                }
+                nextSegmentNo = Math.max(nextSegmentNo, segmentNo(file) + 1);
+            }
+            return new Recovered(files, entries, committed, rolledBack);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void deleteRecovered(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("복구된 원장 저널 삭제 실패: {}", file, e);
+            }
+        }
+    }
+
+    // ===== 기록 =====
+
+    /**
+     * 트랜잭션 하나의 원장을 기록하고 디스크에 반영될 때까지 기다린다.
+     *
+     * @return 기록된 세그먼트(원장이 DB에 반영되면 {@link Segment#release(int)} 호출)
+     */
+    Segment appendDurably(long txId, List<Entry> entries) {
+        StringBuilder sb = new StringBuilder(entries.size() * 96);
+        for (Entry e : entries) {
+            sb.append('P').append('\t').append(txId)
+                    .append('\t').append(e.ledgerId())
+                    .append('\t').append(e.row().inventoryId())
+                    .append('\t').append(e.row().eventType().name())
+                    .append('\t').append(e.row().quantity())
+                    .append('\t').append(e.version())
+                    .append('\t').append(e.row().occurredAt())
+                    .append('\t').append(encode(e.row().reason()))
+                    .append('\n');
+        }
+        Segment seg;
+        long end;
+        appendLock.lock();
+        try {
+            seg = activeSegment();
+            seg.outstanding.addAndGet(entries.size());
+            end = seg.write(sb.toString());
+        } finally {
+            appendLock.unlock();
+        }
+        sync(seg, end);
+        return seg;
+    }
+
+    void markCommitted(long txId) {
+        mark('C', txId);
+    }
+
+    void markRolledBack(long txId) {
+        mark('R', txId);
+    }
+
+    private void mark(char type, long txId) {
+        appendLock.lock();
+        try {
+            activeSegment().write(type + "\t" + txId + "\n");
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 이미 누군가 end 이후까지 fsync 했으면 바로 반환. 아니면 지금까지 쓰인 전부를 한 번에 fsync.
+    private void sync(Segment seg, long end) {
+        if (seg.synced >= end) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (seg.synced >= end) {
+                return;
+            }
+            long target = seg.written;
+            seg.channel.force(false);
+            seg.synced = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private Segment activeSegment() {
+        if (active != null && active.written < segmentBytes) {
+            return active;
+        }
+        try {
+            if (active != null) {
+                active.channel.force(false);
+                active.synced = active.written;
+                active.retire();
+            }
+            Files.createDirectories(dir);
+            Path file = dir.resolve(PREFIX + String.format("%012d", nextSegmentNo++) + SUFFIX);
+            active = new Segment(file, FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+            return active;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (active != null) {
+                active.retire();
+                active = null;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // ===== 파싱 =====
+
+    private static void parse(String line, List<Entry> entries, List<Long> committed,
+            List<Long> rolledBack) {
+        String[] f = line.split("\t", -1);
+        try {
+            switch (f[0]) {
+                case "P" -> entries.add(new Entry(
+                        Long.parseLong(f[1]),
+                        Long.parseLong(f[2]),
+                        Long.parseLong(f[6]),
+                        new InventoryLedgerRow(
+                                Long.parseLong(f[3]),
+                                LedgerEventType.valueOf(f[4]),
+                                Long.parseLong(f[5]),
+                                decode(f[8]),
+                                LocalDateTime.parse(f[7]))));
+                case "C" -> committed.add(Long.parseLong(f[1]));
+                case "R" -> rolledBack.add(Long.parseLong(f[1]));
+                default -> log.warn("알 수 없는 원장 저널 레코드 무시: {}", line);
+            }
+        } catch (RuntimeException e) {
+            log.warn("손상된 원장 저널 레코드 무시: {}", line);
+        }
+    }
+
+    private static long segmentNo(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return 0L;
+        }
+    }
+
+    private static String encode(String reason) {
+        if (reason == null) {
+            return "";
+        }
+        return "~" + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(reason.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String field) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(field.substring(1)),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 저널 레코드 한 건.
+     *
+     * @param txId     트랜잭션 식별자(트랜잭션 첫 원장 ID)
+     * @param ledgerId 미리 할당한 원장 ID(복구 시 중복 INSERT 판별)
+     * @param version  커밋 후 기대되는 재고 버전(커밋 여부가 불명확할 때 판별)
+     */
+    record Entry(long txId, long ledgerId, long version, InventoryLedgerRow row) {
+
+    }
+
+    record Recovered(List<Path> files, List<Entry> entries, List<Long> committed,
+                     List<Long> rolledBack) {
+
+    }
+
+    /**
+     * 저널 파일 하나. 미반영 원장 수가 0이 되고 교체까지 끝났으면 파일을 지운다.
+     */
+    static final class Segment {
+
+        private final Path file;
+        private final FileChannel channel;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile long written;
+        private volatile long synced;
+        private volatile boolean retired;
+
+        private Segment(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        private long write(String text) {
+            ByteBuffer buf = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            try {
+                while (buf.hasRemaining()) {
+                    written += channel.write(buf);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return written;
+        }
+
+        /**
+         * 원장 {@code n}건이 DB에 반영되었거나(커밋) 버려졌다(롤백).
+         */
+        void release(int n) {
+            if (outstanding.addAndGet(-n) == 0 && retired) {
+                delete();
+            }
+        }
+
+        private void retire() {
+            retired = true;
+            if (outstanding.get() == 0) {
+                delete();
+            }
+        }
+
+        private void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("원장 저널 세그먼트 삭제 실패: {}", file, e);
+            }
+        }
+    }
+}
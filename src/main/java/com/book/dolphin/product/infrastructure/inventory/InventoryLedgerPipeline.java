@@ -0,0 +1,461 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.common.persistence.EntityIdAllocator;
+import com.book.dolphin.product.domain.entity.InventoryLedger;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Entry;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Recovered;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Segment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 원장 적재 파이프라인({@code dolphin.inventory.ledger.write-mode=async}일 때만 동작).
+ *
+ * <ol>
+ *   <li>커밋 직전: 원장 ID를 미리 할당하고 저널에 기록(fsync, 그룹 커밋)</li>
+ *   <li>커밋 후: 대기열(고정 크기)에 넣는다. 가득 차면 호출 스레드가 한 번만 직접 적재(배압)하고,
+ *   실패하면 재시도 없이 보류 목록으로 넘긴다</li>
+ *   <li>적재 스레드: 대기열을 최대 {@code batchSize}건씩 꺼내 한 트랜잭션의 배치 INSERT로 반영.
+ *   {@code writeMaxAttempts}번 실패한 배치는 보류 목록으로 넘기고 다음 배치로 진행한다</li>
+ *   <li>보류 목록: 대기열이 비었을 때 적재 스레드가 간격을 두고 다시 적재한다. 보류 목록마저 가득 차면
+ *   저널에만 남고 다음 기동 시 복구된다</li>
+ * </ol>
+ *
+ * <p>어느 경우든 DB에 반영되지 않은 원장은 저널 세그먼트를 붙잡고 있으므로 유실되지 않는다.
+ * 요청 스레드는 이미 커밋된 뒤이므로 DB 장애 중에도 적재 1회 시도 이상 기다리지 않는다.</p>
+ *
+ * <p>기동 시 남은 저널을 읽어 DB에 없는 원장을 채운 뒤 요청을 받는다(웹 서버보다 먼저 시작, 나중에 종료).</p>
+ *
+ * <p>메트릭: {@code inventory.ledger.queue.depth}(대기열 깊이), {@code inventory.ledger.flush}(배치 적재 지연),
+ * {@code inventory.ledger.flush.batch.size}, {@code inventory.ledger.backpressure}(직접 적재로 빠진 건수),
+ * {@code inventory.ledger.deferred}(적재에 실패해 보류된 건수), {@code inventory.ledger.parked}(보류 목록 깊이),
+ * {@code inventory.ledger.unflushed}(보류 목록에도 못 들어가 다음 기동 복구를 기다리는 건수, 경보 대상)</p>
+ */
+@Slf4j
+@Component
+class InventoryLedgerPipeline implements SmartLifecycle {
+
+    private static final int QUERY_CHUNK = 1000;
+    private static final long INITIAL_BACKOFF_MS = 100;
+    private static final long MAX_BACKOFF_MS = 5_000;
+
+    private static final String EXISTING_LEDGER_SQL = """
+            SELECT inventory_ledger_id FROM inventory_ledgers WHERE inventory_ledger_id IN (:ids)
+            """;
+
+    private static final String INVENTORY_VERSION_SQL = """
+            SELECT inventory_id, version FROM inventories WHERE inventory_id IN (:ids)
+            """;
+
+    private final InventoryLedgerProperties properties;
+    private final InventoryLedgerJdbcWriter ledgerWriter;
+    private final EntityIdAllocator idAllocator;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate requiresNew;
+
+    private final BlockingQueue<Pending> queue;
+    private final BlockingQueue<Pending> parked;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter backpressure;
+    private final Counter deferred;
+    private final Counter unflushed;
+
+    private InventoryLedgerJournal journal;
+    private Thread writer;
+    private volatile boolean running;
+    private long nextParkedRetryAt;
+
+    InventoryLedgerPipeline(InventoryLedgerProperties properties,
+            InventoryLedgerJdbcWriter ledgerWriter,
+            EntityIdAllocator idAllocator,
+            NamedParameterJdbcTemplate jdbc,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ledgerWriter = ledgerWriter;
+        this.idAllocator = idAllocator;
+        this.jdbc = jdbc;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+        this.parked = new LinkedBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+
+        Gauge.builder("inventory.ledger.queue.depth", queue, Collection::size)
+                .description("적재 대기 중인 재고 원장 수")
+                .register(meterRegistry);
+        Gauge.builder("inventory.ledger.parked", parked, Collection::size)
+                .description("적재에 실패해 재시도를 기다리는 재고 원장 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("inventory.ledger.flush")
+                .description("재고 원장 배치 적재 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("inventory.ledger.flush.batch.size")
+                .register(meterRegistry);
+        this.backpressure = Counter.builder("inventory.ledger.backpressure")
+                .description("대기열이 가득 차 호출 스레드가 직접 적재한 원장 수")
+                .register(meterRegistry);
+        this.deferred = Counter.builder("inventory.ledger.deferred")
+                .description("적재에 실패해 보류 목록으로 넘어간 원장 수")
+                .register(meterRegistry);
+        this.unflushed = Counter.builder("inventory.ledger.unflushed")
+                .description("보류 목록이 가득 차 저널에만 남은 원장 수(다음 기동 시 복구)")
+                .register(meterRegistry);
+    }
+
+    // ===== 트랜잭션 경계에서 호출 =====
+
+    /**
+     * 커밋 직전: ID 할당 + 저널 기록(fsync 완료까지 대기). 실패하면 예외로 트랜잭션이 롤백된다.
+     *
+     * @param versions 각 원장에 대응하는 재고의 커밋 후 버전
+     */
+    Prepared prepare(List<InventoryLedgerRow> rows, List<Long> versions) {
+        List<Long> ids = idAllocator.allocate(InventoryLedger.class, rows.size());
+        long txId = ids.get(0);
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            entries.add(new Entry(txId, ids.get(i), versions.get(i), rows.get(i)));
+        }
+        Segment segment = journal.appendDurably(txId, entries);
+        return new Prepared(txId, segment, entries);
+    }
+
+    void committed(Prepared prepared) {
+        try {
+            journal.markCommitted(prepared.txId());
+        } catch (RuntimeException e) {
+            // 표시가 없어도 복구 시 재고 버전으로 커밋 여부를 판별한다
+            log.warn("원장 저널 커밋 표시 실패: txId={}", prepared.txId(), e);
+        }
+        List<Pending> overflow = new ArrayList<>();
+        for (Entry entry : prepared.entries()) {
+            Pending p = new Pending(prepared.segment(), entry);
+            // 한 번 넘치면 나머지는 기다리지 않는다(원장 건수만큼 대기 시간이 쌓이지 않도록)
+            if (!overflow.isEmpty() || !offer(p)) {
+                overflow.add(p);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            // 호출 스레드는 이미 커밋을 마쳤으므로 한 번만 시도하고, 실패하면 적재 스레드에 맡긴다.
+            backpressure.increment(overflow.size());
+            List<Pending> failed = writeWithRetry(overflow, 1);
+            if (!failed.isEmpty()) {
+                defer(failed);
+            }
+        }
+    }
+
+    void rolledBack(Prepared prepared) {
+        try {
+            journal.markRolledBack(prepared.txId());
+        } catch (RuntimeException e) {
+            log.warn("원장 저널 롤백 표시 실패: txId={}", prepared.txId(), e);
+        }
+        prepared.segment().release(prepared.entries().size());
+    }
+
+    private boolean offer(Pending p) {
+        try {
+            return queue.offer(p, properties.enqueueTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ===== 적재 스레드 =====
+
+    private void runWriter() {
+        int batchSize = Math.max(1, properties.batchSize());
+        int maxAttempts = Math.max(1, properties.writeMaxAttempts());
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    retryParked(batchSize);
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                List<Pending> failed = writeWithRetry(batch, maxAttempts);
+                if (!failed.isEmpty()) {
+                    defer(failed);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 보류 목록을 한 배치만 다시 적재한다. 실패하면 되돌려 놓고 최대 대기 간격 뒤에 다시 시도한다.
+     */
+    private void retryParked(int batchSize) {
+        if (parked.isEmpty() || System.currentTimeMillis() < nextParkedRetryAt) {
+            return;
+        }
+        List<Pending> batch = new ArrayList<>(batchSize);
+        parked.drainTo(batch, batchSize);
+        List<Pending> failed = writeWithRetry(batch, 1);
+        if (!failed.isEmpty()) {
+            park(failed);
+            nextParkedRetryAt = System.currentTimeMillis() + MAX_BACKOFF_MS;
+        }
+    }
+
+    private void defer(List<Pending> failed) {
+        deferred.increment(failed.size());
+        park(failed);
+    }
+
+    // 보류 목록에 못 들어간 원장은 세그먼트를 붙잡은 채 저널에만 남는다(다음 기동 시 복구).
+    private void park(List<Pending> failed) {
+        int dropped = 0;
+        for (Pending p : failed) {
+            if (!parked.offer(p)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            unflushed.increment(dropped);
+            log.error("원장 보류 목록 초과, 저널에만 남김(다음 기동 시 복구): size={}", dropped);
+        }
+    }
+
+    /**
+     * 최대 {@code maxAttempts}번 적재를 시도한다. 종료 중이면 더 시도하지 않는다.
+     *
+     * @return 반영하지 못한 원장(비어 있으면 모두 반영). 이 원장들은 아직 저널에만 있다
+     */
+    private List<Pending> writeWithRetry(List<Pending> batch, int maxAttempts) {
+        List<Pending> remaining = batch;
+        long backoffMs = INITIAL_BACKOFF_MS;
+        int attempt = 0;
+        while (true) {
+            try {
+                write(remaining);
+                return List.of();
+            } catch (DuplicateKeyException e) {
+                // 직전 시도가 실제로는 커밋된 경우: 이미 들어간 원장을 빼고 다시 시도
+                Set<Long> existing;
+                try {
+                    existing = existingIds(
+                            remaining.stream().map(p -> p.entry().ledgerId()).toList());
+                } catch (RuntimeException lookupFailure) {
+                    log.error("원장 적재 실패(중복 확인 불가): size={}", remaining.size(),
+                            lookupFailure);
+                    return remaining;
+                }
+                if (existing.isEmpty()) {
+                    log.error("원장 적재 실패(중복 키지만 반영된 원장 없음): size={}",
+                            remaining.size(), e);
+                    return remaining;
+                }
+                release(remaining.stream()
+                        .filter(p -> existing.contains(p.entry().ledgerId()))
+                        .toList());
+                remaining = remaining.stream()
+                        .filter(p -> !existing.contains(p.entry().ledgerId()))
+                        .toList();
+                if (remaining.isEmpty()) {
+                    return List.of();
+                }
+            } catch (RuntimeException e) {
+                attempt++;
+                if (attempt >= maxAttempts || !running) {
+                    log.error("원장 적재 실패, 보류: size={}, attempts={}", remaining.size(),
+                            attempt, e);
+                    return remaining;
+                }
+                log.warn("원장 적재 실패, {}ms 후 재시도: size={}", backoffMs, remaining.size(), e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return remaining;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        List<Long> ids = new ArrayList<>(batch.size());
+        List<InventoryLedgerRow> rows = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            ids.add(p.entry().ledgerId());
+            rows.add(p.entry().row());
+        }
+        flushTimer.record(() -> requiresNew.executeWithoutResult(
+                status -> ledgerWriter.insertAll(ids, rows)));
+        batchSizes.record(batch.size());
+        release(batch);
+    }
+
+    private static void release(List<Pending> written) {
+        Map<Segment, Integer> bySegment = new IdentityHashMap<>();
+        for (Pending p : written) {
+            bySegment.merge(p.segment(), 1, Integer::sum);
+        }
+        bySegment.forEach(Segment::release);
+    }
+
+    // ===== 복구 =====
+
+    /**
+     * 저널에 남은 원장 중 커밋된 트랜잭션의 것만 골라 DB에 없는 것을 채운다.
+     *
+     * <p>커밋/롤백 표시가 없는 트랜잭션(커밋 도중 크래시)은 재고 행의 버전이 기대 버전 이상이고,
+     * 같은 (재고, 버전)을 커밋 표시된 다른 트랜잭션이 차지하지 않았을 때 커밋된 것으로 본다.</p>
+     */
+    private void recover() {
+        Recovered recovered = journal.readAll();
+        if (recovered.entries().isEmpty()) {
+            journal.deleteRecovered(recovered.files());
+            return;
+        }
+        Set<Long> committed = new HashSet<>(recovered.committed());
+        Set<Long> rolledBack = new HashSet<>(recovered.rolledBack());
+
+        Set<String> claimed = new HashSet<>();
+        Set<Long> undecidedInventories = new HashSet<>();
+        for (Entry e : recovered.entries()) {
+            if (committed.contains(e.txId())) {
+                claimed.add(e.row().inventoryId() + ":" + e.version());
+            } else if (!rolledBack.contains(e.txId())) {
+                undecidedInventories.add(e.row().inventoryId());
+            }
+        }
+        Map<Long, Long> versions = inventoryVersions(undecidedInventories);
+
+        List<Entry> candidates = new ArrayList<>();
+        for (Entry e : recovered.entries()) {
+            if (committed.contains(e.txId())) {
+                candidates.add(e);
+            } else if (!rolledBack.contains(e.txId())) {
+                long current = versions.getOrDefault(e.row().inventoryId(), -1L);
+                if (current >= e.version()
+                        && !claimed.contains(e.row().inventoryId() + ":" + e.version())) {
+                    candidates.add(e);
+                }
+            }
+        }
+
+        Set<Long> existing = existingIds(candidates.stream().map(Entry::ledgerId).toList());
+        List<Entry> missing = candidates.stream()
+                .filter(e -> !existing.contains(e.ledgerId()))
+                .toList();
+        int batchSize = Math.max(1, properties.batchSize());
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<Entry> chunk = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            requiresNew.executeWithoutResult(status -> ledgerWriter.insertAll(
+                    chunk.stream().map(Entry::ledgerId).toList(),
+                    chunk.stream().map(Entry::row).toList()));
+        }
+        journal.deleteRecovered(recovered.files());
+        log.info("원장 저널 복구 완료: journal={}, replayed={}", recovered.entries().size(),
+                missing.size());
+    }
+
+    private Set<Long> existingIds(List<Long> ledgerIds) {
+        Set<Long> out = new HashSet<>();
+        for (int from = 0; from < ledgerIds.size(); from += QUERY_CHUNK) {
+            List<Long> chunk = ledgerIds.subList(from,
+                    Math.min(from + QUERY_CHUNK, ledgerIds.size()));
+            out.addAll(jdbc.queryForList(EXISTING_LEDGER_SQL, Map.of("ids", chunk), Long.class));
+        }
+        return out;
+    }
+
+    private Map<Long, Long> inventoryVersions(Set<Long> inventoryIds) {
+        Map<Long, Long> out = new HashMap<>();
+        List<Long> ids = new ArrayList<>(inventoryIds);
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK, ids.size()));
+            jdbc.query(INVENTORY_VERSION_SQL, Map.of("ids", chunk), rs -> {
+                out.put(rs.getLong("inventory_id"), rs.getLong("version"));
+            });
+        }
+        return out;
+    }
+
+    // ===== 수명주기 =====
+
+    @Override
+    public void start() {
+        if (!properties.async()) {
+            return;
+        }
+        journal = new InventoryLedgerJournal(Path.of(properties.journalDir()),
+                properties.segmentBytes());
+        recover();
+        running = true;
+        writer = Thread.ofPlatform().name("inventory-ledger-writer").daemon(true)
+                .start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false; // 적재 스레드는 대기열을 모두 비운 뒤 종료한다
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+        // 남은 대기열/보류 원장은 저널에 있으므로 다음 기동 시 복구된다.
+        log.info("원장 적재 파이프라인 종료: 남은 대기열={}, 보류={}", queue.size(), parked.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버보다 먼저 시작(복구 완료 후 요청 수신)하고, 웹 서버가 멈춘 뒤에 종료한다.
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    record Prepared(long txId, Segment segment, List<Entry> entries) {
+
+    }
+
+    private record Pending(Segment segment, Entry entry) {
+
+    }
+}
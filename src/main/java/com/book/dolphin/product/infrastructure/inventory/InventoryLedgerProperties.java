@@ -0,0 +1,46 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 원장 적재 설정({@code dolphin.inventory.ledger.*}).
+ *
+ * @param writeMode        원장 적재 방식(기본 {@link WriteMode#SYNC})
+ * @param queueCapacity    비동기 적재 대기열/보류 목록 크기(대기열이 가득 차면 호출 스레드가 한 번 직접 적재)
+ * @param batchSize        그룹 커밋 1회당 최대 원장 건수
+ * @param enqueueTimeoutMs 대기열이 가득 찼을 때 기다리는 최대 시간(ms)
+ * @param journalDir       로컬 저널 디렉터리
+ * @param segmentBytes     저널 세그먼트 최대 크기(넘으면 새 세그먼트로 교체)
+ * @param writeMaxAttempts 적재 스레드가 배치 하나를 시도하는 최대 횟수(넘으면 보류 목록으로 넘기고 다음 배치로 진행)
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.inventory.ledger")
+public record InventoryLedgerProperties(
+        @DefaultValue("SYNC") WriteMode writeMode,
+        @DefaultValue("65536") int queueCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("50") long enqueueTimeoutMs,
+        @DefaultValue("data/inventory-ledger-journal") String journalDir,
+        @DefaultValue("67108864") long segmentBytes,
+        @DefaultValue("5") int writeMaxAttempts
+) {
+
+    public boolean async() {
+        return writeMode == WriteMode.ASYNC;
+    }
+
+    /**
+     * 원장 적재 방식.
+     */
+    public enum WriteMode {
+        /**
+         * 요청 트랜잭션 안에서 원장 INSERT(재고 변경과 함께 커밋).
+         */
+        SYNC,
+        /**
+         * 커밋 직전 로컬 저널에 fsync로 기록하고, 커밋 후 대기열을 거쳐 별도 스레드가 배치 INSERT.
+         */
+        ASYNC
+    }
+}
@@ -0,0 +1,40 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC 배치로 적재할 재고 원장 한 줄.
+ *
+ * @param quantity 부호 포함 수량(ALLOCATE/INBOUND는 +, DEALLOCATE/SHIP은 -)
+ */
+public record InventoryLedgerRow(
+        long inventoryId,
+        LedgerEventType eventType,
+        long quantity,
+        String reason,
+        LocalDateTime occurredAt
+) {
+
+    // 아래 두 값은 인메모리 카운터가 만드는 이벤트(INBOUND/ALLOCATE/DEALLOCATE/SHIP) 기준이다.
+
+    /**
+     * 이 원장이 재고 행의 {@code on_hand}에 주는 변화.
+     */
+    public long onHandDelta() {
+        return switch (eventType) {
+            case INBOUND, SHIP -> quantity;
+            default -> 0L;
+        };
+    }
+
+    /**
+     * 이 원장이 재고 행의 {@code allocated}에 주는 변화.
+     */
+    public long allocatedDelta() {
+        return switch (eventType) {
+            case ALLOCATE, DEALLOCATE, SHIP -> quantity;
+            default -> 0L;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 쓰기 경로 설정({@code dolphin.inventory.*}).
+ *
+ * @param writeMode             재고 변경 처리 방식(기본 {@link WriteMode#JPA})
+ * @param stripes               인메모리 카운터 락 스트라이프 수(2의 거듭제곱으로 올림)
+ * @param flushIntervalMs       인메모리 카운터의 DB 플러시 주기(ms)
+ * @param flushBatchSize        플러시 1회당 최대 재고 건수
+ * @param counterJournalDir     인메모리 카운터 변경 저널 디렉터리(응답 전 fsync, 기동 시 복구)
+ * @param counterSyncIntervalMs 로딩된 카운터의 버전을 DB와 대조하는 주기(ms, 다른 쓰기 경로 감지)
+ * @param flushMaxFailures      데이터 오류로 플러시가 연속 실패하면 그 재고를 격리하는 횟수
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.inventory")
+public record InventoryProperties(
+        @DefaultValue("JPA") WriteMode writeMode,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("200") long flushIntervalMs,
+        @DefaultValue("500") int flushBatchSize,
+        @DefaultValue("data/inventory-counter-journal") String counterJournalDir,
+        @DefaultValue("5000") long counterSyncIntervalMs,
+        @DefaultValue("20") int flushMaxFailures
+) {
+
+    public boolean inMemory() {
+        return writeMode == WriteMode.IN_MEMORY;
+    }
+
+    public boolean conditional() {
+        return writeMode == WriteMode.CONDITIONAL;
+    }
+
+    /**
+     * 재고 변경 처리 방식.
+     */
+    public enum WriteMode {
+        /**
+         * 요청 트랜잭션에서 엔티티 조회 → 변경 → {@code @Version} 검사 UPDATE.
+         */
+        JPA,
+        /**
+         * 인메모리 카운터가 즉시 응답(변경마다 로컬 저널 fsync)하고, 델타를 모아 백그라운드에서 DB에 반영.
+         */
+        IN_MEMORY,
+        /**
+         * 엔티티를 읽지 않고 가용 수량 조건을 WHERE에 둔 상대값 UPDATE 한 번(+ 같은 트랜잭션의 원장 INSERT).
+         */
+        CONDITIONAL
+    }
+}
@@ -0,0 +1,23 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 예약(할당 TTL) 설정({@code dolphin.inventory.reservation.*}).
+ *
+ * @param defaultTtlMs    요청에 유지 시간이 없을 때 쓰는 TTL(ms)
+ * @param maxTtlMs        요청으로 지정할 수 있는 최대 TTL(ms)
+ * @param sweepIntervalMs 만료 스윕 주기(ms)
+ * @param sweepBatchSize  스윕 트랜잭션 1회당 최대 만료 건수
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.inventory.reservation")
+public record InventoryReservationProperties(
+        @DefaultValue("900000") long defaultTtlMs,
+        @DefaultValue("86400000") long maxTtlMs,
+        @DefaultValue("1000") long sweepIntervalMs,
+        @DefaultValue("1000") int sweepBatchSize
+) {
+
+}
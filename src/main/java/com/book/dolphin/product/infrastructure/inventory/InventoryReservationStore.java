@@ -0,0 +1,158 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료된 재고 예약을 배치로 정리한다(JDBC).
+ *
+ * <p>{@code (status, expires_at)} 인덱스를 만료 시각 순으로 잘라 읽고 행을 잠근 뒤, 예약 상태 변경 /
+ * 재고별 {@code allocated} 차감 / DEALLOCATE 원장을 모두 배치 문장으로 한 트랜잭션에 반영한다.
+ * 미결 예약 수와 무관하게 배치 하나의 비용은 배치 크기에만 비례한다.</p>
+ *
+ * <ul>
+ *   <li>잠금: {@code FOR UPDATE SKIP LOCKED}로 다른 스위퍼나 사용자 해제/확정이 잡고 있는 예약은 건너뛴다.
+ *       여러 인스턴스가 같은 예약을 두고 기다리거나 두 번 해제하지 않는다.</li>
+ *   <li>차감: {@code allocated >= 수량}일 때만 뺀다. 0건이면 음수로 내려가지 않도록 건너뛰고 로그를 남기며,
+ *       그 재고의 원장도 넣지 않는다.</li>
+ * </ul>
+ *
+ * @implNote 사용자 해제/확정도 같은 예약 행을 먼저 잠그고 재고 행을 나중에 갱신하므로 잠금 순서가 같다.
+ * 재고 행은 ID 오름차순으로 갱신해 스위퍼끼리도 교착되지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class InventoryReservationStore {
+
+    private static final String SELECT_DUE_SQL = """
+            SELECT reservation_id, inventory_id, quantity
+            FROM inventory_reservations
+            WHERE status = 'ACTIVE' AND expires_at <= ?
+            ORDER BY expires_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String EXPIRE_SQL = """
+            UPDATE inventory_reservations SET status = 'EXPIRED' WHERE reservation_id = ?
+            """;
+
+    private static final String RELEASE_ALLOCATED_SQL = """
+            UPDATE inventories
+            SET allocated = allocated - ?, version = version + 1, updated_at = ?
+            WHERE inventory_id = ? AND allocated >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryLedgerJdbcWriter ledgerWriter;
+
+    /**
+     * 만료 시각이 지난 ACTIVE 예약을 최대 {@code limit}건 EXPIRED로 바꾸고, 재고 {@code allocated} 차감과
+     * DEALLOCATE 원장까지 같은 트랜잭션에서 반영한다.
+     *
+     * @return 이번 배치에서 만료시킨 예약
+     */
+    List<Expired> expireDue(LocalDateTime now, int limit) {
+        return transactionTemplate.execute(status -> {
+            List<Expired> due = claimDue(now, limit);
+            if (due.isEmpty()) {
+                return due;
+            }
+            expire(due);
+            releaseAllocated(due, now);
+            return due;
+        });
+    }
+
+    /**
+     * 인메모리 카운터 모드용. 만료 대상을 잠근 채 {@code release}로 카운터에 먼저 반영하고, true를 돌려준 예약만
+     * EXPIRED로 바꾼다. 반영에 실패한 예약은 ACTIVE로 남아 다음 주기에 다시 시도된다.
+     *
+     * @return 이번 배치에서 만료시킨 예약
+     */
+    List<Expired> expireDue(LocalDateTime now, int limit, Predicate<Expired> release) {
+        return transactionTemplate.execute(status -> {
+            List<Expired> released = claimDue(now, limit).stream().filter(release).toList();
+            if (!released.isEmpty()) {
+                expire(released);
+            }
+            return released;
+        });
+    }
+
+    private List<Expired> claimDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(SELECT_DUE_SQL,
+                (rs, n) -> new Expired(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
+                Timestamp.valueOf(now), limit);
+    }
+
+    private void expire(List<Expired> due) {
+        jdbcTemplate.batchUpdate(EXPIRE_SQL, due, due.size(),
+                (ps, e) -> ps.setLong(1, e.reservationId()));
+    }
+
+    private void releaseAllocated(List<Expired> due, LocalDateTime now) {
+        SortedMap<Long, Long> byInventory = new TreeMap<>();
+        for (Expired e : due) {
+            byInventory.merge(e.inventoryId(), e.quantity(), Long::sum);
+        }
+        Timestamp ts = Timestamp.valueOf(now);
+        List<Map.Entry<Long, Long>> updates = new ArrayList<>(byInventory.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(RELEASE_ALLOCATED_SQL, updates, updates.size(),
+                (ps, u) -> {
+                    ps.setLong(1, u.getValue());
+                    ps.setTimestamp(2, ts);
+                    ps.setLong(3, u.getKey());
+                    ps.setLong(4, u.getValue());
+                });
+
+        Set<Long> skipped = new HashSet<>();
+        int i = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                Map.Entry<Long, Long> u = updates.get(i++);
+                if (count == 0) { // SUCCESS_NO_INFO(-2)는 반영된 것으로 본다
+                    skipped.add(u.getKey());
+                    log.warn("만료 예약 할당 차감 건너뜀(재고 없음 또는 할당 수량 부족): inventoryId={}, "
+                            + "quantity={}", u.getKey(), u.getValue());
+                }
+            }
+        }
+        List<InventoryLedgerRow> ledger = new ArrayList<>(due.size());
+        for (Expired e : due) {
+            if (!skipped.contains(e.inventoryId())) {
+                ledger.add(new InventoryLedgerRow(e.inventoryId(), LedgerEventType.DEALLOCATE,
+                        -e.quantity(), e.reason(), now));
+            }
+        }
+        if (!ledger.isEmpty()) {
+            ledgerWriter.insertAll(ledger);
+        }
+    }
+
+    /**
+     * 만료 처리된 예약 한 건.
+     */
+    record Expired(long reservationId, long inventoryId, long quantity) {
+
+        String reason() {
+            return "예약 만료 #" + reservationId;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.infrastructure.inventory.InventoryReservationStore.Expired;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 재고 예약을 주기적으로 해제한다(장바구니 이탈 시 {@code allocated}가 남지 않도록).
+ *
+ * <p>한 주기에 밀린 만료분을 배치 단위 트랜잭션으로 모두 비운다.
+ * 인메모리 카운터 모드에서는 예약 행을 잠근 채 카운터에서 먼저 할당을 해제하고(원장은 카운터 플러시가 적재),
+ * 해제된 예약만 EXPIRED로 바꿔 커밋한다. 카운터 반영이 실패한 예약은 ACTIVE로 남아 다음 주기에 다시 시도되고,
+ * 커밋이 실패하면 이미 해제한 할당을 카운터에 되돌린다.</p>
+ *
+ * @implNote 인메모리 모드에서 카운터 반영(저널 기록) 후 커밋 전에 프로세스가 죽으면, 할당은 해제된 채 예약은
+ * ACTIVE로 남아 다음 주기에 한 번 더 해제된다. 남은 할당이 예약 수량보다 적으면 카운터가 거절하므로 음수로 내려가지는
+ * 않지만, 다른 주문의 할당을 그만큼 풀 수 있다. 상태 커밋 후 카운터 반영 전에 죽어 할당이 남던 이전 순서보다 창이
+ * 짧고(예약 행 잠금 구간), 결과도 원장에 남는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class InventoryReservationSweeper {
+
+    private final InventoryReservationStore store;
+    private final InventoryCounterEngine counterEngine;
+    private final InventoryReservationProperties properties;
+
+    @Scheduled(fixedDelayString = "${dolphin.inventory.reservation.sweep-interval-ms:1000}")
+    void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = Math.max(1, properties.sweepBatchSize());
+        boolean inMemory = counterEngine.isEnabled();
+        int total = 0;
+        int claimed;
+        List<Expired> expired;
+        do { // 배치마다 커밋
+            if (inMemory) {
+                CounterRelease release = new CounterRelease();
+                try {
+                    expired = store.expireDue(now, batchSize, release);
+                } catch (RuntimeException e) {
+                    release.revert();
+                    throw e;
+                }
+                claimed = release.claimed;
+            } else {
+                expired = store.expireDue(now, batchSize);
+                claimed = expired.size();
+            }
+            total += expired.size();
+            // 카운터 반영이 실패해 남은 예약이 있으면 다음 주기로 넘긴다(같은 예약을 곧바로 다시 잡지 않도록)
+        } while (claimed == batchSize && expired.size() == claimed);
+        if (total > 0) {
+            log.info("재고 예약 만료 해제: {}건", total);
+        }
+    }
+
+    /**
+     * 배치 하나의 카운터 할당 해제. 커밋이 실패하면 {@link #revert()}로 되돌린다.
+     */
+    private final class CounterRelease implements Predicate<Expired> {
+
+        private final List<Expired> released = new ArrayList<>();
+        private int claimed;
+
+        @Override
+        public boolean test(Expired e) {
+            claimed++;
+            try {
+                counterEngine.deallocate(e.inventoryId(), e.quantity(), e.reason());
+                released.add(e);
+                return true;
+            } catch (ProductException ex) {
+                if (ex.getErrorCode() != ProductErrorCode.INCORRECT_DEALLOCATION_QUANTITY) {
+                    log.error("만료 예약의 카운터 할당 해제 실패(다음 주기에 재시도): reservationId={}, "
+                            + "inventoryId={}", e.reservationId(), e.inventoryId(), ex);
+                    return false;
+                }
+                // 해제할 할당이 이미 없다: 예약만 만료시킨다
+                log.warn("만료 예약 할당 차감 건너뜀(할당 수량 부족): reservationId={}, inventoryId={}, "
+                        + "quantity={}", e.reservationId(), e.inventoryId(), e.quantity());
+                return true;
+            } catch (RuntimeException ex) {
+                log.error("만료 예약의 카운터 할당 해제 실패(다음 주기에 재시도): reservationId={}, "
+                        + "inventoryId={}", e.reservationId(), e.inventoryId(), ex);
+                return false;
+            }
+        }
+
+        void revert() {
+            for (Expired e : released) {
+                try {
+                    counterEngine.allocate(e.inventoryId(), e.quantity(), "예약 만료 실패 보상");
+                } catch (RuntimeException ex) {
+                    log.error("만료 예약 커밋 실패 후 카운터 할당 복구 실패: reservationId={}, "
+                            + "inventoryId={}", e.reservationId(), e.inventoryId(), ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 변경의 낙관적 락 충돌 재시도 설정({@code dolphin.inventory.retry.*}).
+ *
+ * @param maxAttempts      최대 시도 횟수(첫 시도 포함). 1이면 재시도하지 않는다
+ * @param initialBackoffMs 첫 재시도 대기 상한(ms). 실제 대기는 0~상한 사이 무작위(full jitter)
+ * @param maxBackoffMs     재시도 대기 상한의 최댓값(ms). 시도마다 상한이 두 배가 되다가 여기서 멈춘다
+ * @param maxTaggedSkus    충돌 카운터에 SKU 태그로 남길 최대 SKU 수(넘으면 {@code other})
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.inventory.retry")
+public record InventoryRetryProperties(
+        @DefaultValue("4") int maxAttempts,
+        @DefaultValue("5") long initialBackoffMs,
+        @DefaultValue("100") long maxBackoffMs,
+        @DefaultValue("1000") int maxTaggedSkus
+) {
+
+}
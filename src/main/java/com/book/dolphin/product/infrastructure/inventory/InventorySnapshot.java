@@ -0,0 +1,26 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점의 재고 상태(불변).
+ *
+ * <p>인메모리 카운터가 엔티티 없이 응답을 만들 때 사용한다.</p>
+ */
+public record InventorySnapshot(
+        Long id,
+        Long productId,
+        Long variantId,
+        String skuCode,
+        long onHand,
+        long allocated,
+        long safetyStock,
+        boolean backorderable,
+        long version,
+        LocalDateTime updatedAt
+) {
+
+    public long available() {
+        return Math.max(onHand - allocated - safetyStock, 0L);
+    }
+}
@@ -0,0 +1,154 @@
+package com.book.dolphin.product.infrastructure.price;
+
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.book.dolphin.product.application.service.ProductPriceRefreshService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 할인 시작/종료 경계를 시각 순 우선순위 큐로 들고 있다가, 경계가 되는 순간 해당 상품의 현재가를 다시 계산한다.
+ *
+ * <ul>
+ *   <li>등록: 상품 변경 커밋 후({@link ProductChangedEvent}) 다음 전환 시각을 넣는다.</li>
+ *   <li>적재: {@link ProductPriceRefreshScheduler}가 주기마다 horizon 이내 경계를 DB에서 읽어 넣는다.</li>
+ *   <li>실행: 전용 스레드가 큐 머리 시각까지 대기하다가, 도달한 경계를 모아 한 트랜잭션으로 갱신한다.</li>
+ * </ul>
+ *
+ * <p>상품당 최신 경계 하나만 유효하며, 덮어쓴 이전 항목은 꺼낼 때 버린다. horizon 밖의 경계는 올리지 않아
+ * 메모리는 가까운 경계 수에 비례한다.</p>
+ */
+@Slf4j
+@Component
+class PriceBoundaryScheduler implements SmartLifecycle {
+
+    private final ProductPriceRefreshService refreshService;
+    private final ProductPriceProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Boundary> queue =
+            new PriorityQueue<>(Comparator.comparing(Boundary::at));
+    private final Map<Long, LocalDateTime> latest = new ConcurrentHashMap<>();
+
+    private Thread worker;
+    private volatile boolean running;
+
+    PriceBoundaryScheduler(ProductPriceRefreshService refreshService,
+            ProductPriceProperties properties) {
+        this.refreshService = refreshService;
+        this.properties = properties;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onProductChanged(ProductChangedEvent event) {
+        schedule(event.productId(), event.priceRefreshAt());
+    }
+
+    /**
+     * 상품의 다음 전환 시각을 등록(기존 등록은 대체). {@code at}이 null이거나 horizon 밖이면 등록하지 않는다.
+     */
+    void schedule(Long productId, LocalDateTime at) {
+        if (at == null) {
+            latest.remove(productId);
+            return;
+        }
+        if (at.isAfter(LocalDateTime.now().plus(Duration.ofMillis(properties.horizonMs())))) {
+            return;
+        }
+        if (at.equals(latest.put(productId, at))) {
+            return; // 이미 같은 경계가 등록되어 있음
+        }
+        lock.lock();
+        try {
+            queue.add(new Boundary(productId, at));
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            List<Long> due;
+            try {
+                due = awaitDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (due.isEmpty()) {
+                continue;
+            }
+            try {
+                refreshService.refresh(due, LocalDateTime.now());
+            } catch (RuntimeException e) {
+                // 실패한 경계는 주기 보정(price_refresh_at <= now)에서 다시 처리된다
+                log.warn("가격 전환 처리 실패: products={}", due.size(), e);
+            }
+        }
+    }
+
+    // 큐 머리가 도달할 때까지 기다렸다가, 도달한 경계를 모두 꺼낸다.
+    private List<Long> awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            Boundary head = queue.peek();
+            if (head == null) {
+                changed.await(1, TimeUnit.SECONDS);
+                return List.of();
+            }
+            long waitNanos = Duration.between(LocalDateTime.now(), head.at()).toNanos();
+            if (waitNanos > 0) {
+                changed.awaitNanos(waitNanos);
+                return List.of();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> due = new ArrayList<>();
+            while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+                Boundary b = queue.poll();
+                if (latest.remove(b.productId(), b.at())) { // 대체된 이전 항목은 버린다
+                    due.add(b.productId());
+                }
+            }
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("price-boundary-scheduler").daemon(true)
+                .start(this::runWorker);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record Boundary(Long productId, LocalDateTime at) {
+
+    }
+}
@@ -0,0 +1,19 @@
+package com.book.dolphin.product.infrastructure.price;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 현재가 전환 설정({@code dolphin.product.price.*}).
+ *
+ * @param refreshIntervalMs 지난 경계 보정 + 다가올 경계 적재 주기(ms)
+ * @param horizonMs         메모리 큐에 올려 둘 경계의 범위(지금부터 ms). 그 이후 경계는 다음 주기에 적재한다.
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.product.price")
+public record ProductPriceProperties(
+        @DefaultValue("60000") long refreshIntervalMs,
+        @DefaultValue("3600000") long horizonMs
+) {
+
+}
@@ -0,0 +1,49 @@
+package com.book.dolphin.product.infrastructure.price;
+
+import com.book.dolphin.product.application.service.ProductPriceRefreshService;
+import com.book.dolphin.product.domain.repository.ProductRepository.PriceRefreshRow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가격 전환 주기 작업.
+ *
+ * <ol>
+ *   <li>보정: 전환 시각이 지났는데 처리되지 않은 상품(재기동/실패 등)을 다시 계산</li>
+ *   <li>적재: horizon 이내에 다가올 경계를 {@link PriceBoundaryScheduler}에 등록</li>
+ * </ol>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class ProductPriceRefreshScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductPriceRefreshService refreshService;
+    private final PriceBoundaryScheduler boundaryScheduler;
+    private final ProductPriceProperties properties;
+
+    @Scheduled(fixedDelayString = "${dolphin.product.price.refresh-interval-ms:60000}")
+    void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int refreshed;
+        do {
+            refreshed = refreshService.refreshDue(now, BATCH_SIZE); // 배치마다 커밋
+            total += refreshed;
+        } while (refreshed == BATCH_SIZE);
+        if (total > 0) {
+            log.info("놓친 가격 전환 보정: {}건", total);
+        }
+
+        LocalDateTime until = now.plus(Duration.ofMillis(properties.horizonMs()));
+        for (PriceRefreshRow row : refreshService.findUpcoming(now, until)) {
+            boundaryScheduler.schedule(row.getId(), row.getPriceRefreshAt());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.book.dolphin.product.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명(선택: 본문) n-gram 역색인.
+ *
+ * <ul>
+ *   <li>토큰: 정규화(NFC, 소문자, 제어문자 제거)한 문자열의 유니그램과 바이그램. 한글은 띄어쓰기/형태소와 무관하게
+ *       부분 문자열로 찾을 수 있다.</li>
+ *   <li>문서: 상품마다 증가하는 dense 문서 ID를 발급하고, 포스팅은 {@link PostingList}(델타 + varint)로 압축한다.</li>
+ *   <li>변경: 텍스트가 바뀌면 옛 문서에 묘비를 세우고 새 문서 ID로 다시 넣는다(포스팅은 추가 전용).
+ *       묘비가 많아지면 살아 있는 문서만으로 다시 만든다.</li>
+ *   <li>검색: 키워드의 바이그램 포스팅을 짧은 것부터 교집합 → 원문 포함 여부로 최종 확인(LIKE '%kw%'와 같은 결과).</li>
+ * </ul>
+ *
+ * <p>읽기는 공유 락, 쓰기는 배타 락으로 보호한다.</p>
+ */
+final class NGramIndex {
+
+    private static final char FIELD_SEPARATOR = '\u0000'; // 이름/본문 경계를 넘는 매치 방지(정규화에서 제거되는 문자)
+
+    private final boolean indexContent;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> docByProduct = new HashMap<>();
+    private Map<Integer, PostingList> postings = new HashMap<>();
+    private long[] productIds = new long[1024];
+    private String[] texts = new String[1024];
+    private String[] statuses = new String[1024];
+    private BitSet deleted = new BitSet();
+    private int nextDoc;
+    private int deletedCount;
+
+    NGramIndex(boolean indexContent) {
+        this.indexContent = indexContent;
+    }
+
+    /**
+     * 상품을 넣거나 갱신한다. 텍스트가 같으면 상태만 바꾼다.
+     */
+    void upsert(long productId, String name, String content, String status) {
+        String text = text(name, content);
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByProduct.get(productId);
+            if (doc != null && texts[doc].equals(text)) {
+                statuses[doc] = status;
+                return;
+            }
+            if (doc != null) {
+                tombstone(doc);
+            }
+            add(productId, text, status);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 없는 상품만 넣는다(초기 적재가 커밋 후 이벤트로 먼저 들어온 최신 값을 덮지 않도록).
+     */
+    boolean addIfAbsent(long productId, String name, String content, String status) {
+        String text = text(name, content);
+        lock.writeLock().lock();
+        try {
+            if (docByProduct.containsKey(productId)) {
+                return false;
+            }
+            add(productId, text, status);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByProduct.remove(productId);
+            if (doc != null) {
+                tombstone(doc);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docByProduct.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 상품 ID(오름차순).
+     *
+     * @param status  상태 필터(null이면 전체, 대소문자 무시)
+     * @param maxHits 결과 상한. 넘으면 null(너무 넓은 검색은 DB 필터에 맡긴다)
+     * @return 상품 ID 목록, 상한 초과 시 null
+     */
+    long[] search(String keyword, String status, int maxHits) {
+        String q = normalize(keyword);
+        if (q.isEmpty()) {
+            return null;
+        }
+        int[] grams = queryGrams(q);
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return new long[0];
+                }
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+
+            int[] candidates = lists[0].toArray();
+            int count = candidates.length;
+            for (int i = 1; i < lists.length && count > 0; i++) {
+                count = lists[i].retainAll(candidates, count);
+            }
+
+            long[] hits = new long[Math.min(count, maxHits)];
+            int n = 0;
+            for (int i = 0; i < count; i++) {
+                int doc = candidates[i];
+                if (deleted.get(doc) || !texts[doc].contains(q)
+                        || (status != null && !status.equalsIgnoreCase(statuses[doc]))) {
+                    continue;
+                }
+                if (n == maxHits) {
+                    return null;
+                }
+                hits[n++] = productIds[doc];
+            }
+            long[] out = Arrays.copyOf(hits, n);
+            Arrays.sort(out);
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 내부 =====
+
+    private String text(String name, String content) {
+        String n = normalize(name);
+        return indexContent && content != null ? n + FIELD_SEPARATOR + normalize(content) : n;
+    }
+
+    static String normalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(s, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isISOControl(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 1글자 키워드는 유니그램, 그 외는 바이그램(중복 제거)
+    private static int[] queryGrams(String q) {
+        if (q.length() == 1) {
+            return new int[]{unigram(q.charAt(0))};
+        }
+        int[] grams = new int[q.length() - 1];
+        for (int i = 0; i + 1 < q.length(); i++) {
+            grams[i] = bigram(q.charAt(i), q.charAt(i + 1));
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static int[] docGrams(String text) {
+        int[] grams = new int[text.length() * 2];
+        int n = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams[n++] = unigram(c);
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                grams[n++] = bigram(c, text.charAt(i + 1));
+            }
+        }
+        return Arrays.stream(grams, 0, n).distinct().toArray();
+    }
+
+    // 제어문자(0x00~0x1F)는 정규화에서 빠지므로 첫 글자가 0인 바이그램 키와 유니그램 키는 겹치지 않는다
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    private void add(long productId, String text, String status) {
+        int doc = nextDoc++;
+        if (doc == productIds.length) {
+            int cap = doc + (doc >> 1);
+            productIds = Arrays.copyOf(productIds, cap);
+            texts = Arrays.copyOf(texts, cap);
+            statuses = Arrays.copyOf(statuses, cap);
+        }
+        productIds[doc] = productId;
+        texts[doc] = text;
+        statuses[doc] = status;
+        docByProduct.put(productId, doc);
+        for (int gram : docGrams(text)) {
+            postings.computeIfAbsent(gram, k -> new PostingList()).append(doc);
+        }
+    }
+
+    private void tombstone(int doc) {
+        deleted.set(doc);
+        texts[doc] = "";
+        statuses[doc] = null;
+        deletedCount++;
+    }
+
+    // 묘비가 전체의 1/4을 넘으면 살아 있는 문서만으로 포스팅을 다시 만든다
+    private void compactIfNeeded() {
+        if (deletedCount < 1024 || deletedCount * 4 < nextDoc) {
+            return;
+        }
+        List<Integer> live = new ArrayList<>(docByProduct.values());
+        live.sort(null);
+        long[] oldIds = productIds;
+        String[] oldTexts = texts;
+        String[] oldStatuses = statuses;
+
+        int cap = Math.max(1024, live.size() * 2);
+        productIds = new long[cap];
+        texts = new String[cap];
+        statuses = new String[cap];
+        postings = new HashMap<>();
+        deleted = new BitSet();
+        docByProduct.clear();
+        nextDoc = 0;
+        deletedCount = 0;
+        for (int doc : live) {
+            add(oldIds[doc], oldTexts[doc], oldStatuses[doc]);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.book.dolphin.product.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 문서 ID 목록을 델타 + varint로 압축해 담는 포스팅 리스트(추가 전용).
+ *
+ * <p>문서 ID는 색인 순서대로 증가하며 발급되므로 항상 뒤에만 붙는다. 인접 ID 차이는 대부분 작아서
+ * 문서당 1~2바이트로 저장된다. 삭제는 여기서 하지 않고 색인 쪽 묘비(tombstone)로 거른다.</p>
+ *
+ * @implNote 스레드 안전하지 않다. {@link NGramIndex}의 읽기/쓰기 락 안에서만 다룬다.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    void append(int docId) {
+        if (docId <= last) {
+            throw new IllegalArgumentException("문서 ID는 증가해야 합니다: " + docId + " <= " + last);
+        }
+        int delta = last < 0 ? docId : docId - last;
+        ensureCapacity(length + 5);
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+        last = docId;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int bytesUsed() {
+        return length;
+    }
+
+    int[] toArray() {
+        int[] out = new int[size];
+        int pos = 0;
+        int doc = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc = i == 0 ? delta : doc + delta;
+            out[i] = doc;
+        }
+        return out;
+    }
+
+    /**
+     * {@code candidates[0..count)} 중 이 리스트에도 있는 것만 앞쪽에 남긴다(두 목록 모두 오름차순, 선형 병합).
+     *
+     * @return 남은 개수
+     */
+    int retainAll(int[] candidates, int count) {
+        int kept = 0;
+        int c = 0;
+        int pos = 0;
+        int doc = 0;
+        for (int i = 0; i < size && c < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc = i == 0 ? delta : doc + delta;
+            while (c < count && candidates[c] < doc) {
+                c++;
+            }
+            if (c < count && candidates[c] == doc) {
+                candidates[kept++] = doc;
+                c++;
+            }
+        }
+        return kept;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(needed, bytes.length + (bytes.length >> 1)));
+        }
+    }
+}
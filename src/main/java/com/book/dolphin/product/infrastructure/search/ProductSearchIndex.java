@@ -0,0 +1,175 @@
+package com.book.dolphin.product.infrastructure.search;
+
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.book.dolphin.product.domain.repository.ProductRepository.SearchDocRow;
+import com.book.dolphin.product.infrastructure.KeysetLoadedIndex;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 키워드 검색용 메모리 역색인({@link NGramIndex}).
+ *
+ * <ul>
+ *   <li>적재: 시작 시 전용 스레드가 상품을 ID 순 키셋으로 읽어 채운다. 끝나기 전에는 {@link #findIds}가 비어
+ *       호출 측이 LIKE 필터로 검색한다.</li>
+ *   <li>갱신: 상품 변경 커밋 후({@link ProductChangedEvent}) 해당 행을 다시 읽어 넣거나 뺀다. 초기 적재는
+ *       이미 들어온 상품을 덮지 않으므로 적재 중 변경도 잃지 않는다. 다른 인스턴스의 변경과 반영에 실패한 이벤트는
+ *       주기적인 따라잡기로 채운다(최대 {@code dolphin.product.index.catch-up-interval-ms}만큼 늦게 검색된다).</li>
+ *   <li>검색: 키워드를 포함하는 상품 ID를 돌려주고, 목록 쿼리는 {@code product_id IN (...)}로 좁혀 읽는다.</li>
+ * </ul>
+ *
+ * <p>색인을 못 쓸 때의 LIKE 검색도 같은 결과를 내도록 맞춘다. 키워드는 {@link #likeKeyword}로 색인과 같이 정규화하고
+ * 와일드카드를 이스케이프하며, 찾는 필드는 {@link #coversContent()}로 맞춘다(이름, 설정 시 본문). 남는 차이는 DB
+ * 콜레이션뿐이다. MySQL 기본 {@code utf8mb4_0900_ai_ci}는 악센트도 무시하므로 LIKE 쪽이 악센트 있는 라틴 문자를 더
+ * 넓게 찾고, 원문에 제어문자가 끼어 있으면 색인만 그 문자를 건너뛰고 찾는다.</p>
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex extends KeysetLoadedIndex<SearchDocRow> {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchProperties properties;
+    private final NGramIndex index;
+
+    ProductSearchIndex(ProductRepository productRepository, ProductSearchProperties properties) {
+        super("product-search-loader");
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.index = new NGramIndex(properties.indexContent());
+    }
+
+    /**
+     * 키워드를 포함하는 상품 ID(오름차순).
+     *
+     * @param status 상태 필터(null이면 전체)
+     * @return 색인이 준비되지 않았거나 결과가 {@code maxCandidates}를 넘으면 empty(LIKE 필터로 처리)
+     */
+    public Optional<List<Long>> findIds(String keyword, String status) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        long[] hits = index.search(keyword, status, properties.maxCandidates());
+        return hits == null ? Optional.empty() : Optional.of(Arrays.stream(hits).boxed().toList());
+    }
+
+    /**
+     * 키워드를 포함하는 상품 ID 전체(상한 없음). 패싯 집계처럼 DB로 넘기지 않고 메모리에서 쓰는 경우용.
+     *
+     * @return 색인이 준비되지 않았으면 empty
+     */
+    public Optional<List<Long>> findAllIds(String keyword) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        long[] hits = index.search(keyword, null, Integer.MAX_VALUE);
+        return Optional.of(hits == null ? List.of() : Arrays.stream(hits).boxed().toList());
+    }
+
+    /**
+     * 색인이 본문도 찾는지. LIKE 검색도 같은 필드를 보도록 목록 쿼리에 넘긴다.
+     */
+    public boolean coversContent() {
+        return properties.indexContent();
+    }
+
+    /**
+     * LIKE 검색에 쓸 키워드. 색인과 같게 정규화(NFC, 소문자, 제어문자 제거)하고 {@code %}, {@code _}와 이스케이프
+     * 문자 {@code !}를 이스케이프한다. 목록 쿼리는 {@code LOWER(컬럼) LIKE ... ESCAPE '!'}로 비교한다.
+     */
+    public static String likeKeyword(String keyword) {
+        String normalized = NGramIndex.normalize(keyword);
+        StringBuilder sb = new StringBuilder(normalized.length() + 8);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == '!' || c == '%' || c == '_') {
+                sb.append('!');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onProductChanged(ProductChangedEvent event) {
+        if (!properties.enabled() || event.cause() == ProductChangedEvent.Cause.PRICE) {
+            return; // 가격 변경은 색인 대상(이름/본문/상태)과 무관
+        }
+        try {
+            List<SearchDocRow> rows = productRepository.findSearchDocsByIdIn(
+                    List.of(event.productId()));
+            if (rows.isEmpty()) {
+                index.remove(event.productId());
+            } else {
+                upsert(rows.get(0));
+            }
+        } catch (RuntimeException e) {
+            // 색인이 어긋나도 결과는 원문 확인을 거치므로 놓친 변경만 검색되지 않는다(다음 따라잡기에서 복구)
+            log.warn("상품 검색 색인 갱신 실패: productId={}", event.productId(), e);
+        }
+    }
+
+    private void upsert(SearchDocRow row) {
+        index.upsert(row.getId(), row.getName(), row.getContent(), row.getStatus().name());
+    }
+
+    @Override
+    protected boolean enabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    protected int loadBatchSize() {
+        return properties.loadBatchSize();
+    }
+
+    @Override
+    protected List<SearchDocRow> fetchAfter(long lastId, int limit) {
+        return properties.indexContent()
+                ? productRepository.findSearchDocsWithContentAfter(lastId, PageRequest.of(0, limit))
+                : productRepository.findSearchDocsAfter(lastId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    protected long idOf(SearchDocRow row) {
+        return row.getId();
+    }
+
+    @Override
+    protected void loadBatch(List<SearchDocRow> rows) {
+        for (SearchDocRow row : rows) {
+            index.addIfAbsent(row.getId(), row.getName(), row.getContent(),
+                    row.getStatus().name());
+        }
+    }
+
+    @Override
+    protected List<SearchDocRow> fetchChangedAfter(LocalDateTime since, long lastId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return properties.indexContent()
+                ? productRepository.findSearchDocsWithContentChangedSince(since, lastId, page)
+                : productRepository.findSearchDocsChangedSince(since, lastId, page);
+    }
+
+    @Override
+    protected void applyChanged(List<SearchDocRow> rows) {
+        rows.forEach(this::upsert);
+    }
+
+    @Override
+    protected void onLoaded(long elapsedMs) {
+        log.info("상품 검색 색인 적재 완료: docs={}, {}ms", index.size(), elapsedMs);
+    }
+
+    @Override
+    protected void onLoadFailed(long lastId, RuntimeException e) {
+        log.error("상품 검색 색인 적재 실패(LIKE 검색으로 동작): lastId={}", lastId, e);
+    }
+}
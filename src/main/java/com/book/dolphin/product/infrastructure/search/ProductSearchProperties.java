@@ -0,0 +1,23 @@
+package com.book.dolphin.product.infrastructure.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 키워드 검색 색인 설정({@code dolphin.product.search.*}).
+ *
+ * @param enabled       false면 색인을 만들지 않고 항상 LIKE 필터로 검색한다
+ * @param indexContent  본문도 색인할지(기본은 상품명만). 켜면 LIKE 검색도 본문까지 찾는다
+ * @param maxCandidates 색인 결과가 이보다 많으면 ID 목록 대신 LIKE 필터로 넘긴다(IN 절 크기 상한)
+ * @param loadBatchSize 시작 시 초기 적재 배치 크기
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "dolphin.product.search")
+public record ProductSearchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean indexContent,
+        @DefaultValue("2000") int maxCandidates,
+        @DefaultValue("1000") int loadBatchSize
+) {
+
+}
@@ -1,18 +1,26 @@
 package com.book.dolphin.product.presentation;
 
+import com.book.dolphin.common.idempotency.IdempotencyService;
 import com.book.dolphin.common.response.ApiResponse;
+import com.book.dolphin.product.application.dto.request.BulkAllocateRequest;
 import com.book.dolphin.product.application.dto.request.InitInventoryRequest;
 import com.book.dolphin.product.application.dto.request.QuantityRequest;
+import com.book.dolphin.product.application.dto.request.ReserveRequest;
+import com.book.dolphin.product.application.dto.response.InventoryAvailability;
 import com.book.dolphin.product.application.dto.response.InventoryResponse;
+import com.book.dolphin.product.application.dto.response.ReservationResponse;
+import com.book.dolphin.product.application.service.InventoryFacade;
 import com.book.dolphin.product.application.service.InventoryService;
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,6 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final InventoryFacade inventoryFacade;
+    private final IdempotencyService idempotency;
 
     // 1) 재고 초기화(상품 생성 이후 1회)
     @PostMapping
@@ -44,10 +54,12 @@ public class InventoryController {
     @PostMapping("/{inventoryId}/inbound")
     public ResponseEntity<ApiResponse<InventoryResponse>> inbound(
             @PathVariable Long inventoryId,
-            @Valid @RequestBody QuantityRequest req
+            @Valid @RequestBody QuantityRequest req,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
     ) {
-        InventoryResponse response = inventoryService.inbound(inventoryId, req.quantity(),
-                req.reason());
+        InventoryResponse response = idempotency.execute(idempotencyKey,
+                "inbound:" + inventoryId + ":" + req, InventoryResponse.class,
+                () -> inventoryFacade.inbound(inventoryId, req.quantity(), req.reason()));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -55,10 +67,24 @@ public class InventoryController {
     @PostMapping("/{inventoryId}/allocate")
     public ResponseEntity<ApiResponse<InventoryResponse>> allocate(
             @PathVariable Long inventoryId,
-            @Valid @RequestBody QuantityRequest req
+            @Valid @RequestBody QuantityRequest req,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
     ) {
-        InventoryResponse response = inventoryService.allocate(inventoryId, req.quantity(),
-                req.reason());
+        InventoryResponse response = idempotency.execute(idempotencyKey,
+                "allocate:" + inventoryId + ":" + req, InventoryResponse.class,
+                () -> inventoryFacade.allocate(inventoryId, req.quantity(), req.reason()));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 3-1) 다건 할당(주문 라인 일괄, 전부 성공 또는 전부 실패)
+    @PostMapping("/allocate")
+    public ResponseEntity<ApiResponse<List<InventoryResponse>>> allocateAll(
+            @Valid @RequestBody BulkAllocateRequest req,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
+    ) {
+        List<InventoryResponse> response = idempotency.executeList(idempotencyKey,
+                "allocateAll:" + req, InventoryResponse.class,
+                () -> inventoryFacade.allocateAll(req.lines(), req.reason()));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -66,10 +92,12 @@ public class InventoryController {
     @PostMapping("/{inventoryId}/deallocate")
     public ResponseEntity<ApiResponse<InventoryResponse>> deallocate(
             @PathVariable Long inventoryId,
-            @Valid @RequestBody QuantityRequest req
+            @Valid @RequestBody QuantityRequest req,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
     ) {
-        InventoryResponse response = inventoryService.deallocate(inventoryId, req.quantity(),
-                req.reason());
+        InventoryResponse response = idempotency.execute(idempotencyKey,
+                "deallocate:" + inventoryId + ":" + req, InventoryResponse.class,
+                () -> inventoryFacade.deallocate(inventoryId, req.quantity(), req.reason()));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -77,17 +105,59 @@ public class InventoryController {
     @PostMapping("/{inventoryId}/ship")
     public ResponseEntity<ApiResponse<InventoryResponse>> ship(
             @PathVariable Long inventoryId,
-            @Valid @RequestBody QuantityRequest req
+            @Valid @RequestBody QuantityRequest req,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
+    ) {
+        InventoryResponse response = idempotency.execute(idempotencyKey,
+                "ship:" + inventoryId + ":" + req, InventoryResponse.class,
+                () -> inventoryFacade.ship(inventoryId, req.quantity(), req.reason()));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 6) 예약(만료 시각이 있는 할당, 장바구니). 만료되면 자동으로 할당 해제된다.
+    @PostMapping("/{inventoryId}/reservations")
+    public ResponseEntity<ApiResponse<ReservationResponse>> reserve(
+            @PathVariable Long inventoryId,
+            @Valid @RequestBody ReserveRequest req,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
+    ) {
+        ReservationResponse response = idempotency.execute(idempotencyKey,
+                "reserve:" + inventoryId + ":" + req, ReservationResponse.class,
+                () -> inventoryFacade.reserve(inventoryId, req.quantity(), req.reason(),
+                        req.ttlSeconds()));
+        return ResponseEntity
+                .created(URI.create("/api/v1/inventories/reservations/" + response.reservationId()))
+                .body(ApiResponse.success(response));
+    }
+
+    // 6-1) 예약 해제(장바구니 삭제)
+    @PostMapping("/reservations/{reservationId}/release")
+    public ResponseEntity<ApiResponse<ReservationResponse>> releaseReservation(
+            @PathVariable Long reservationId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
     ) {
-        InventoryResponse response = inventoryService.ship(inventoryId, req.quantity(),
-                req.reason());
+        ReservationResponse response = idempotency.execute(idempotencyKey,
+                "release:" + reservationId, ReservationResponse.class,
+                () -> inventoryFacade.releaseReservation(reservationId));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 6-2) 예약 확정(결제 성공 → 출고)
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public ResponseEntity<ApiResponse<ReservationResponse>> confirmReservation(
+            @PathVariable Long reservationId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
+    ) {
+        ReservationResponse response = idempotency.execute(idempotencyKey,
+                "confirm:" + reservationId, ReservationResponse.class,
+                () -> inventoryFacade.confirmReservation(reservationId));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     // 0) 단건 조회
     @GetMapping("/{inventoryId}")
     public ResponseEntity<ApiResponse<InventoryResponse>> getOne(@PathVariable Long inventoryId) {
-        InventoryResponse response = inventoryService.getById(inventoryId);
+        InventoryResponse response = inventoryFacade.getById(inventoryId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -97,7 +167,18 @@ public class InventoryController {
             @RequestParam(required = false) Long productId,
             @RequestParam(required = false) String skuCode
     ) {
-        InventoryResponse response = inventoryService.getByKey(productId, skuCode);
+        InventoryResponse response = inventoryFacade.getByKey(productId, skuCode);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 0-1) 가용성 일괄 조회: variantIds, skuCodes 중 하나 이상(합계 최대 500건)
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<List<InventoryAvailability>>> getAvailability(
+            @RequestParam(required = false) List<Long> variantIds,
+            @RequestParam(required = false) List<String> skuCodes
+    ) {
+        List<InventoryAvailability> response = inventoryFacade.getAvailability(variantIds,
+                skuCodes);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -108,13 +189,10 @@ public class InventoryController {
      *
      * P1
      * PATCH /{inventoryId}/policy: safetyStock, backorderable 변경.
-     * Idempotency-Key 지원: inbound/allocate/ship 멱등 처리(결제/재시도 안전).
-     * Optimistic Lock 충돌 대응: version 헤더/바디로 받고 실패 시 409 → 클라이언트 재시도 가이드.
+     * Optimistic Lock: version 헤더/바디로 받아 조건부 변경(충돌 시 서버 재시도 후 409는 적용됨).
      *
      * P2
-     * 예약 만료(할당 TTL) 처리 훅: 장바구니 만료 시 자동 deallocate.
      * Bulk 입고/조정: 운영툴에서 다건 처리.
-     * 가용성 일괄 조회: 여러 variantId에 대한 재고 스냅샷.
      */
 
 }
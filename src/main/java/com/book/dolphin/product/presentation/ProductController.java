@@ -2,6 +2,8 @@ package com.book.dolphin.product.presentation;
 
 import com.book.dolphin.common.response.ApiResponse;
 import com.book.dolphin.product.application.dto.request.ProductCreateRequest;
+import com.book.dolphin.product.application.dto.response.ProductCursorPage;
+import com.book.dolphin.product.application.dto.response.ProductFacetResponse;
 import com.book.dolphin.product.application.dto.response.ProductListPage;
 import com.book.dolphin.product.application.dto.response.ProductResponse;
 import com.book.dolphin.product.application.service.ProductService;
@@ -65,15 +67,54 @@ public class ProductController {
     public ResponseEntity<ApiResponse<ProductListPage>> list(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "true") boolean includeSubcategories, // 하위 카테고리 상품 포함
             @RequestParam(required = false) String status,       // e.g. DRAFT/PUBLISHED/ARCHIVED
+            @RequestParam(required = false) Long priceMin,       // 현재가 하한(원, 포함)
+            @RequestParam(required = false) Long priceMax,       // 현재가 상한(원, 포함)
             @RequestParam(required = false) String sort,         // PRICE_ASC / PRICE_DESC / RECENT(default)
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) int size
+            @RequestParam(defaultValue = "20") @Min(1) int size,
+            @RequestParam(required = false) String countMode     // EXACT(default) / HAS_NEXT / ESTIMATE
     ) {
-        ProductListPage pageDto = productService.list(keyword, categoryId, status, sort, page, size);
+        ProductListPage pageDto = productService.list(keyword, categoryId,
+                includeSubcategories, status, priceMin, priceMax, sort, page, size, countMode);
         return ResponseEntity.ok(ApiResponse.success(pageDto));
     }
 
+    // 2-1) 목록 - 커서 페이지(깊은 페이지도 일정한 비용, total은 선택)
+    @GetMapping("/list/cursor")
+    public ResponseEntity<ApiResponse<ProductCursorPage>> listByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "true") boolean includeSubcategories, // 하위 카테고리 상품 포함
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long priceMin,
+            @RequestParam(required = false) Long priceMax,
+            @RequestParam(required = false) String sort,         // PRICE_ASC / PRICE_DESC / RECENT(default)
+            @RequestParam(required = false) String cursor,       // 직전 응답의 nextCursor(첫 페이지는 생략)
+            @RequestParam(defaultValue = "20") @Min(1) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        ProductCursorPage pageDto = productService.listByCursor(keyword, categoryId,
+                includeSubcategories, status, priceMin, priceMax, sort, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(pageDto));
+    }
+
+    // 2-2) 목록 패싯(상태/카테고리/가격 구간별 개수, 목록과 같은 필터)
+    @GetMapping("/list/facets")
+    public ResponseEntity<ApiResponse<ProductFacetResponse>> facets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "true") boolean includeSubcategories,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long priceMin,
+            @RequestParam(required = false) Long priceMax
+    ) {
+        ProductFacetResponse response = productService.facets(keyword, categoryId,
+                includeSubcategories, status, priceMin, priceMax);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 3) 상태 전환
     @PostMapping("/{id}/publish")
     public ResponseEntity<ApiResponse<ProductResponse>> publish(@PathVariable Long id) {
@@ -27,6 +27,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("카테고리 서비스 - 생성(create)")
@@ -42,6 +43,9 @@ class CategoryCreateServiceTest {
     @Mock
     private CategoryClosureRepository categoryClosureRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     // 공통
     private Long id;
     private String name;
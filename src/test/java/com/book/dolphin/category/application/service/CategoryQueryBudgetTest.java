@@ -0,0 +1,74 @@
+package com.book.dolphin.category.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.category.application.dto.response.CategoryDetailResponse;
+import com.book.dolphin.category.application.dto.response.MegaMenuResponse;
+import com.book.dolphin.category.domain.entity.Category;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.repository.CategoryClosureRepository;
+import com.book.dolphin.category.domain.repository.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import support.CategoryTestSeeder;
+import support.SqlBudget;
+
+@DisplayName("카테고리 DB 조회 - SQL 예산")
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CategoryService.class)
+class CategoryQueryBudgetTest {
+
+    @Autowired
+    CategoryService categoryService;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    CategoryClosureRepository closureRepository;
+    @Autowired
+    EntityManager em;
+
+    private Category root;
+    private Category top;
+
+    @BeforeEach
+    void setUp() {
+        CategoryTestSeeder seeder = new CategoryTestSeeder(categoryRepository, closureRepository);
+        root = seeder.seedRoot("예산", "budget", 0, CategoryStatus.ACTIVE, null);
+        top = seeder.seedChild(root, "상의", "budget-top", 0, CategoryStatus.ACTIVE, null);
+        seeder.seedChild(root, "하의", "budget-bottom", 1, CategoryStatus.ACTIVE, null);
+        for (int i = 0; i < 5; i++) {
+            seeder.seedChild(top, "셔츠" + i, "budget-shirt-" + i, i, CategoryStatus.ACTIVE, null);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("getMegaMenu는 루트/자식 수와 무관하게 SQL 3개 이내")
+    void megaMenu() {
+        MegaMenuResponse res = SqlBudget.atMost(3,
+                () -> categoryService.getMegaMenu(root.getId(), true));
+
+        assertThat(res.childrenOfSelectedRoot()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("getDetail(children, siblings, roots)은 포함 항목당 1개, 최대 SQL 5개")
+    void detailWithAllIncludes() {
+        CategoryDetailResponse res = SqlBudget.atMost(5,
+                () -> categoryService.getDetail(top.getId(), true,
+                        Set.of("children", "siblings", "roots")));
+
+        assertThat(res.children()).hasSize(5);
+    }
+}
@@ -0,0 +1,131 @@
+package com.book.dolphin.category.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.category.application.dto.response.BreadcrumbNode;
+import com.book.dolphin.category.application.dto.response.CategoryDetailResponse;
+import com.book.dolphin.category.application.dto.response.MegaMenuResponse;
+import com.book.dolphin.category.application.tree.CategoryTreeCache;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.exception.CategoryErrorCode;
+import com.book.dolphin.category.domain.exception.CategoryException;
+import com.book.dolphin.category.domain.repository.CategoryRepository;
+import com.book.dolphin.category.domain.repository.CategoryRepository.CategoryTreeRow;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("카테고리 조회 - 메모리 트리 스냅샷")
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeQueryServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryTreeCache treeCache;
+    private CategoryTreeQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        treeCache = new CategoryTreeCache(categoryRepository);
+        queryService = new CategoryTreeQueryService(treeCache);
+
+        // /men(1) ─ /men/top(10) ─ /men/top/shirts(100), /men/top/knit(101, READY)
+        //         └ /men/bottom(11, sortOrder 1)
+        // /women(2, sortOrder 1)
+        // /outlet(3, READY)
+        when(categoryRepository.findAllForTree()).thenReturn(List.of(
+                row(100L, 10L, "셔츠", "shirts", "/men/top/shirts", 2, 0, CategoryStatus.ACTIVE),
+                row(1L, null, "남성", "men", "/men", 0, 0, CategoryStatus.ACTIVE),
+                row(11L, 1L, "하의", "bottom", "/men/bottom", 1, 1, CategoryStatus.ACTIVE),
+                row(10L, 1L, "상의", "top", "/men/top", 1, 0, CategoryStatus.ACTIVE),
+                row(101L, 10L, "니트", "knit", "/men/top/knit", 2, 0, CategoryStatus.READY),
+                row(2L, null, "여성", "women", "/women", 0, 1, CategoryStatus.ACTIVE),
+                row(3L, null, "아울렛", "outlet", "/outlet", 0, 2, CategoryStatus.READY)
+        ));
+    }
+
+    @Test
+    @DisplayName("성공: 메가메뉴는 정렬/노출 필터/뱃지를 DB 조회와 같게 만든다")
+    void mega_menu_from_snapshot() {
+        MegaMenuResponse res = queryService.getMegaMenu(999L, true);
+
+        assertThat(res.roots()).extracting(MegaMenuResponse.Node::id).containsExactly(1L, 2L);
+        assertThat(res.roots()).extracting(MegaMenuResponse.Node::childCount)
+                .containsExactly(2, 0);
+        assertThat(res.selectedRoot().id()).isEqualTo(1L); // 없는 루트 → 첫 번째 루트
+        assertThat(res.childrenOfSelectedRoot()).extracting(MegaMenuResponse.Node::id)
+                .containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("성공: 상세는 브레드크럼/자식/형제/루트를 스냅샷에서 조립한다")
+    void detail_from_snapshot() {
+        CategoryDetailResponse res = queryService.getDetail(100L, false,
+                Set.of("children", "siblings", "roots"));
+
+        assertThat(res.category().path()).isEqualTo("/men/top/shirts");
+        assertThat(res.breadcrumb()).extracting(BreadcrumbNode::id).containsExactly(1L, 10L);
+        assertThat(res.children()).isEmpty();
+        assertThat(res.siblings()).extracting(CategoryDetailResponse.Node::id)
+                .containsExactly(101L);
+        assertThat(res.roots()).extracting(CategoryDetailResponse.Node::id)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("실패: 노출 필터에 걸리는 카테고리는 찾을 수 없음")
+    void detail_hidden_category() {
+        CategoryException ex = assertThrows(CategoryException.class,
+                () -> queryService.getDetail(101L, true, Set.of()));
+
+        assertThat(ex.getErrorCode()).isEqualTo(CategoryErrorCode.CATEGORY_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("성공: 스냅샷은 한 번만 적재하고 이후 조회는 DB를 타지 않는다")
+    void snapshot_loaded_once() {
+        queryService.getMegaMenu(null, true);
+        queryService.getDetail(10L, true, Set.of("children", "siblings"));
+        queryService.getMegaMenu(2L, false);
+
+        verify(categoryRepository, times(1)).findAllForTree();
+    }
+
+    @Test
+    @DisplayName("성공: 이벤트 없이 바뀐 트리(다른 인스턴스의 쓰기)는 주기 재구성으로 반영된다")
+    void reconcile_picks_up_outside_writes() {
+        queryService.getMegaMenu(null, true);
+        when(categoryRepository.findAllForTree()).thenReturn(List.of(
+                row(1L, null, "남성", "men", "/men", 0, 0, CategoryStatus.ACTIVE),
+                row(4L, null, "키즈", "kids", "/kids", 0, 3, CategoryStatus.ACTIVE)
+        ));
+
+        treeCache.reconcile();
+
+        assertThat(queryService.getMegaMenu(null, true).roots())
+                .extracting(MegaMenuResponse.Node::id).containsExactly(1L, 4L);
+        verify(categoryRepository, times(2)).findAllForTree();
+    }
+
+    private static CategoryTreeRow row(Long id, Long parentId, String name, String slug,
+            String path, int depth, int sortOrder, CategoryStatus status) {
+        return new Row(id, parentId, name, slug, path, depth, sortOrder, status, null);
+    }
+
+    private record Row(Long getId, Long getParentId, String getName, String getSlug,
+                       String getPath, Integer getDepth, Integer getSortOrder,
+                       CategoryStatus getStatus, String getImageUrl)
+            implements CategoryTreeRow {
+
+    }
+}
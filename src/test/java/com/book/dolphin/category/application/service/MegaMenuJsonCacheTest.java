@@ -0,0 +1,79 @@
+package com.book.dolphin.category.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.category.application.tree.CategoryTreeCache;
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.repository.CategoryRepository.CategoryTreeRow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("메가메뉴 응답 캐시")
+@ExtendWith(MockitoExtension.class)
+class MegaMenuJsonCacheTest {
+
+    private static final CategoryTreeSnapshot V1 = CategoryTreeSnapshot.of(1L, List.of(
+            new Row(1L, null, "남성", "men", "/men", 0, 0, CategoryStatus.ACTIVE, null),
+            new Row(2L, null, "여성", "women", "/women", 0, 1, CategoryStatus.ACTIVE, null)));
+
+    private static final CategoryTreeSnapshot V2 = CategoryTreeSnapshot.of(2L, List.of(
+            new Row(1L, null, "남성", "men", "/men", 0, 0, CategoryStatus.ACTIVE, null),
+            new Row(2L, null, "여성", "women", "/women", 0, 1, CategoryStatus.ACTIVE, null),
+            new Row(10L, 1L, "상의", "top", "/men/top", 1, 0, CategoryStatus.ACTIVE, null)));
+
+    @Mock
+    private CategoryTreeCache treeCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MegaMenuJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MegaMenuJsonCache(treeCache, new CategoryTreeQueryService(treeCache),
+                objectMapper);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 키는 직렬화 결과를 재사용하고, 루트가 아닌 id는 기본 선택으로 접는다")
+    void reuses_serialized_body() throws Exception {
+        when(treeCache.current()).thenReturn(V1);
+
+        MegaMenuJsonCache.Entry first = cache.get(null, true);
+        MegaMenuJsonCache.Entry again = cache.get(999L, true);
+        MegaMenuJsonCache.Entry women = cache.get(2L, true);
+
+        assertThat(again).isSameAs(first);
+        assertThat(women.etag()).isNotEqualTo(first.etag());
+        JsonNode body = objectMapper.readTree(women.body());
+        assertThat(body.at("/data/selectedRoot/id").asLong()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("성공: 스냅샷 세대가 바뀌면 다시 만들고, 내용이 바뀌었으니 ETag도 바뀐다")
+    void invalidated_by_new_generation() {
+        when(treeCache.current()).thenReturn(V1, V2);
+
+        MegaMenuJsonCache.Entry before = cache.get(1L, true);
+        MegaMenuJsonCache.Entry after = cache.get(1L, true);
+
+        assertThat(after.generation()).isEqualTo(2L);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+
+    private record Row(Long getId, Long getParentId, String getName, String getSlug,
+                       String getPath, Integer getDepth, Integer getSortOrder,
+                       CategoryStatus getStatus, String getImageUrl)
+            implements CategoryTreeRow {
+
+    }
+}
@@ -0,0 +1,58 @@
+package com.book.dolphin.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.common.idempotency.IdempotencyKeyStore.StoredKey;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(IdempotencyKeyStore.class)
+class IdempotencyKeyStoreTest {
+
+    @Autowired
+    IdempotencyKeyStore store;
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @DisplayName("임대 기한이 지난 처리 중 선점은 다른 요청이 이어받고, 옛 선점자는 완료/해제하지 못한다")
+    @Test
+    void expiredLeaseIsTakenOver() {
+        LocalDateTime first = now().minusMinutes(5);
+        assertThat(store.claim("lease-1", "fp", first, first.plusMinutes(1))).isTrue();
+
+        LocalDateTime second = now();
+        assertThat(store.find("lease-1", second)).isEmpty();
+        assertThat(store.claim("lease-1", "fp", second, second.plusMinutes(1))).isTrue();
+
+        assertThat(store.complete("lease-1", first, "\"old\"", second.plusDays(1))).isFalse();
+        store.release("lease-1", first);
+        assertThat(store.find("lease-1", second))
+                .hasValue(new StoredKey("fp", false, null));
+
+        assertThat(store.complete("lease-1", second, "\"new\"", second.plusDays(1))).isTrue();
+        assertThat(store.find("lease-1", second.plusHours(1)))
+                .hasValue(new StoredKey("fp", true, "\"new\""));
+    }
+
+    @DisplayName("임대 기한 안의 처리 중 선점은 다른 요청이 가져가지 못한다")
+    @Test
+    void liveLeaseBlocksOtherClaims() {
+        LocalDateTime claimedAt = now();
+        assertThat(store.claim("lease-2", "fp", claimedAt, claimedAt.plusMinutes(1))).isTrue();
+
+        assertThat(store.claim("lease-2", "fp", claimedAt.plusSeconds(1),
+                claimedAt.plusMinutes(2))).isFalse();
+    }
+}
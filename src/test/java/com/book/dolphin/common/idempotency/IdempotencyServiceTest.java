@@ -0,0 +1,149 @@
+package com.book.dolphin.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.common.exception.AppErrorCode;
+import com.book.dolphin.common.exception.AppException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("멱등 키 실행")
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyKeyStore store;
+
+    private IdempotencyService service;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(store,
+                new IdempotencyProperties(60_000, 5_000, 1_000, 2_000, 600_000, 100),
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    private String run(String key, String fingerprint) {
+        return service.execute(key, fingerprint, String.class,
+                () -> "result-" + executions.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 DB 접근 없이 처음 응답을 돌려준다")
+    void repeat_hits_local_cache() {
+        when(store.find(eq("k1"), any())).thenReturn(Optional.empty());
+        when(store.claim(eq("k1"), anyString(), any(), any())).thenReturn(true);
+
+        assertThat(run("k1", "allocate:1:q=1")).isEqualTo("result-1");
+        assertThat(run("k1", "allocate:1:q=1")).isEqualTo("result-1");
+
+        assertThat(executions).hasValue(1);
+        verify(store, times(1)).find(eq("k1"), any());
+        verify(store).complete(eq("k1"), any(), eq("\"result-1\""), any());
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청에 쓰면 422")
+    void reused_key_rejected() {
+        when(store.find(eq("k2"), any())).thenReturn(Optional.empty());
+        when(store.claim(eq("k2"), anyString(), any(), any())).thenReturn(true);
+        run("k2", "allocate:1:q=1");
+
+        AppException ex = assertThrows(AppException.class, () -> run("k2", "allocate:1:q=5"));
+        assertThat(ex.getErrorCode()).isEqualTo(AppErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 선점을 풀어 같은 키로 다시 실행할 수 있다")
+    void failure_releases_claim() {
+        when(store.find(eq("k3"), any())).thenReturn(Optional.empty());
+        when(store.claim(eq("k3"), anyString(), any(), any())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("k3", "ship:1", String.class,
+                () -> {
+                    throw new IllegalStateException("boom");
+                }));
+        verify(store).release(eq("k3"), any());
+
+        assertThat(run("k3", "ship:1")).isEqualTo("result-1");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 완료한 키는 저장된 응답을 읽어 돌려준다")
+    void completed_elsewhere_reads_stored_response() throws Exception {
+        String fp = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest("inbound:1".getBytes(StandardCharsets.UTF_8)));
+        when(store.find(eq("k4"), any())).thenReturn(
+                Optional.of(new IdempotencyKeyStore.StoredKey(fp, true, "\"stored\"")));
+
+        assertThat(run("k4", "inbound:1")).isEqualTo("stored");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 키 요청은 합쳐져 한 번만 실행된다")
+    void in_flight_duplicates_coalesce() throws Exception {
+        when(store.find(eq("k5"), any())).thenReturn(Optional.empty());
+        when(store.claim(eq("k5"), anyString(), any(), any())).thenReturn(true);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = pool.submit(() -> service.execute("k5", "allocate:9",
+                    String.class, () -> {
+                        entered.countDown();
+                        await(release);
+                        return "result-" + executions.incrementAndGet();
+                    }));
+            assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = pool.submit(() -> run("k5", "allocate:9"));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(leader.get(2, TimeUnit.SECONDS)).isEqualTo("result-1");
+            assertThat(follower.get(2, TimeUnit.SECONDS)).isEqualTo("result-1");
+            assertThat(executions).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("키가 없으면 멱등 처리 없이 실행한다")
+    void no_key_executes_directly() {
+        assertThat(run(null, "inbound:1")).isEqualTo("result-1");
+        assertThat(run(null, "inbound:1")).isEqualTo("result-2");
+    }
+}
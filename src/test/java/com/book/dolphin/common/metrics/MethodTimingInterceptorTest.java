@@ -0,0 +1,77 @@
+package com.book.dolphin.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.common.exception.AppErrorCode;
+import com.book.dolphin.common.exception.AppException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+@DisplayName("메서드 지연 시간 타이머")
+class MethodTimingInterceptorTest {
+
+    interface Work {
+
+        String run(boolean fail);
+    }
+
+    static class WorkImpl implements Work {
+
+        @Override
+        public String run(boolean fail) {
+            if (fail) {
+                throw new AppException(AppErrorCode.INTERNAL_SERVER_ERROR);
+            }
+            return "ok";
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private Work work;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable()).thenReturn(registry);
+        MethodTimingProperties properties = new MethodTimingProperties(true, List.of(0.5, 0.99));
+
+        ProxyFactory factory = new ProxyFactory(new WorkImpl());
+        factory.addInterface(Work.class);
+        factory.addAdvice(new MethodTimingInterceptor("app.service.calls", properties, meterRegistry));
+        work = (Work) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("정상 호출은 exception=none 타이머에 클래스/메서드 태그로 기록된다")
+    void records_success() {
+        work.run(false);
+        work.run(false);
+
+        Timer timer = registry.get("app.service.calls")
+                .tags("class", "WorkImpl", "method", "run", "exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.takeSnapshot().percentileValues()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("도메인 예외는 에러 코드를 exception 태그로 기록하고 그대로 던진다")
+    void records_failure_with_error_code() {
+        assertThrows(AppException.class, () -> work.run(true));
+
+        assertThat(registry.get("app.service.calls")
+                .tags("exception", AppErrorCode.INTERNAL_SERVER_ERROR.name())
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.book.dolphin.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.common.exception.AppErrorCode;
+import com.book.dolphin.common.exception.AppException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+@DisplayName("DB 입장 제어")
+class DbAdmissionInterceptorTest {
+
+    interface Work {
+
+        String run(Runnable body);
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private Work work;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<DataSource> dataSource = mock(ObjectProvider.class);
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable()).thenReturn(registry);
+
+        DbAdmissionInterceptor interceptor = new DbAdmissionInterceptor(
+                new DbAdmissionProperties(true, 1, 50L, 2), dataSource, meterRegistry);
+        ProxyFactory factory = new ProxyFactory((Work) body -> {
+            body.run();
+            return "ok";
+        });
+        factory.addAdvice(interceptor);
+        work = (Work) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공: 허가 수는 풀 크기에서 예비 커넥션을 뺀 값을 넘지 않는다")
+    @SuppressWarnings("unchecked")
+    void permits_leave_reserved_connections() {
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        when(hikari.getMaximumPoolSize()).thenReturn(10);
+        ObjectProvider<DataSource> dataSource = mock(ObjectProvider.class);
+        when(dataSource.getIfAvailable()).thenReturn(hikari);
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+
+        assertThat(new DbAdmissionInterceptor(new DbAdmissionProperties(true, 0, 50L, 2),
+                dataSource, meterRegistry).resolvePermits()).isEqualTo(8);
+        assertThat(new DbAdmissionInterceptor(new DbAdmissionProperties(true, 10, 50L, 2),
+                dataSource, meterRegistry).resolvePermits()).isEqualTo(8);
+        assertThat(new DbAdmissionInterceptor(new DbAdmissionProperties(true, 5, 50L, 2),
+                dataSource, meterRegistry).resolvePermits()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 스레드의 중첩 진입은 허가를 다시 받지 않는다")
+    void nested_call_reuses_permit() {
+        String result = work.run(() -> work.run(() -> { }));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(registry.get("db.admission.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 허가가 모두 사용 중이면 대기 시간 초과 후 503")
+    void rejects_after_timeout() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> holder = pool.submit(() -> work.run(() -> {
+                holding.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+            AppException ex = assertThrows(AppException.class, () -> work.run(() -> { }));
+
+            assertThat(ex.getErrorCode()).isEqualTo(AppErrorCode.DB_ADMISSION_TIMEOUT);
+            assertThat(registry.get("db.admission.rejected").counter().count()).isEqualTo(1.0);
+
+            release.countDown();
+            assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        }
+        assertThat(work.run(() -> { })).isEqualTo("ok"); // 반납 후에는 다시 입장 가능
+    }
+}
@@ -0,0 +1,50 @@
+package com.book.dolphin.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.common.persistence.SqlStatementCounter.Scope;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SqlCountingDataSourceTest {
+
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    ProductRepository productRepository;
+
+    @DisplayName("JPA 쿼리와 JdbcTemplate SQL을 같은 범위에서 함께 센다")
+    @Test
+    void countsJpaAndJdbc() {
+        try (Scope scope = SqlStatementCounter.open(true)) {
+            productRepository.count();
+            jdbcTemplate.queryForObject("select count(*) from inventory_ledgers", Long.class);
+            jdbcTemplate.batchUpdate("update products set name = name where product_id = -1",
+                    "update products set name = name where product_id = -2");
+
+            assertThat(scope.count()).isEqualTo(3);
+            assertThat(scope.statements().get(1)).contains("inventory_ledgers");
+        }
+    }
+
+    @DisplayName("래퍼 안쪽의 Hikari 풀을 꺼낼 수 있다")
+    @Test
+    void unwrapsPool() {
+        assertThat(dataSource).isInstanceOf(SqlCountingDataSource.class);
+        assertThat(DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class)).isNotNull();
+    }
+}
@@ -0,0 +1,181 @@
+package com.book.dolphin.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.book.dolphin.product.application.dto.request.BulkAllocateRequest.Line;
+import com.book.dolphin.product.application.dto.response.InventoryResponse;
+import com.book.dolphin.product.domain.entity.Inventory;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductVariant;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.domain.repository.InventoryLedgerRepository;
+import com.book.dolphin.product.domain.repository.InventoryRepository;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.book.dolphin.product.domain.repository.ProductVariantRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryConditionalWriter;
+import com.book.dolphin.product.infrastructure.inventory.InventoryCounterEngine;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerAppender;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerProperties;
+import com.book.dolphin.product.infrastructure.inventory.InventoryRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import support.SqlBudget;
+
+/**
+ * JPA 경로 다건 할당. 롤백을 보려면 실제로 커밋해야 하므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryAllocateAllTest {
+
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    ProductVariantRepository variantRepository;
+    @Autowired
+    InventoryRepository inventoryRepository;
+    @Autowired
+    InventoryLedgerRepository ledgerRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManager em;
+
+    private InventoryService service;
+    private InventoryFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        service = new InventoryService(inventoryRepository, variantRepository,
+                new InventoryLedgerAppender(new InventoryLedgerProperties(
+                        InventoryLedgerProperties.WriteMode.SYNC, 65536, 500, 50L,
+                        "data/inventory-ledger-journal", 67108864L, 5),
+                        ledgerRepository, null, em, null));
+        // 인메모리/조건부 모드는 꺼진 상태(mock의 isEnabled() = false)
+        facade = new InventoryFacade(service, mock(InventoryCounterEngine.class), null,
+                new InventoryConflictRetry(new InventoryRetryProperties(1, 0, 0, 10),
+                        inventoryRepository, new SimpleMeterRegistry()),
+                mock(InventoryConditionalWriter.class));
+    }
+
+    private Inventory seed(String sku, long onHand, boolean backorderable) {
+        return inTx(() -> {
+            Product product = Product.builder().name("다건 " + sku).content("본문").build();
+            product.setListPrice(Money.of(10_000));
+            productRepository.save(product);
+            ProductVariant variant = variantRepository.save(ProductVariant.of(product, sku));
+            return inventoryRepository.save(Inventory.of(variant, onHand, 0, backorderable));
+        });
+    }
+
+    private <T> T inTx(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private long allocatedOf(Inventory inv) {
+        return inventoryRepository.findById(inv.getId()).orElseThrow().getAllocated();
+    }
+
+    private long ledgerCount(Inventory... inventories) {
+        long count = 0;
+        for (Inventory inv : inventories) {
+            count += jdbcTemplate.queryForObject(
+                    "select count(*) from inventory_ledgers where inventory_id = ?", Long.class,
+                    inv.getId());
+        }
+        return count;
+    }
+
+    @DisplayName("한 라인이라도 실패하면 앞서 할당한 라인까지 롤백되고 원장도 남지 않는다")
+    @Test
+    void rollsBackEveryLineWhenOneFails() {
+        Inventory first = seed("SKU-BULK-RB-1", 10, false);
+        Inventory second = seed("SKU-BULK-RB-2", 1, false); // PK가 커서 나중에 할당된다
+
+        TreeMap<Long, Long> quantities = new TreeMap<>();
+        quantities.put(first.getId(), 3L);
+        quantities.put(second.getId(), 5L);
+        ProductException ex = assertThrows(ProductException.class,
+                () -> inTx(() -> service.allocateAll(quantities, "주문")));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVENTORY_OUT_OF_STOCK);
+        assertThat(allocatedOf(first)).isZero();
+        assertThat(allocatedOf(second)).isZero();
+        assertThat(ledgerCount(first, second)).isZero();
+    }
+
+    @DisplayName("없는 재고 ID가 섞이면 404로 거부하고 아무것도 할당하지 않는다")
+    @Test
+    void rejectsMissingInventory() {
+        Inventory inv = seed("SKU-BULK-MISS", 10, false);
+        long missingId = inv.getId() + 1_000_000L;
+
+        TreeMap<Long, Long> quantities = new TreeMap<>();
+        quantities.put(inv.getId(), 1L);
+        quantities.put(missingId, 1L);
+        ProductException ex = assertThrows(ProductException.class,
+                () -> inTx(() -> service.allocateAll(quantities, "주문")));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.NOT_FOUND_INVENTORY);
+        assertThat(allocatedOf(inv)).isZero();
+        assertThat(ledgerCount(inv)).isZero();
+    }
+
+    @DisplayName("같은 재고 라인은 합산해 한 번 할당하고 원장도 한 건 남긴다")
+    @Test
+    void mergesDuplicateLines() {
+        Inventory a = seed("SKU-BULK-DUP-A", 10, false);
+        Inventory b = seed("SKU-BULK-DUP-B", 10, false);
+
+        // 서비스가 프록시가 아니므로 트랜잭션은 테스트가 연다(재시도 1회라 바깥 트랜잭션이어도 무방)
+        List<InventoryResponse> responses = inTx(() -> facade.allocateAll(List.of(
+                new Line(b.getId(), 1), new Line(a.getId(), 2), new Line(a.getId(), 3)), "주문"));
+
+        assertThat(responses).extracting(InventoryResponse::id)
+                .containsExactly(a.getId(), b.getId());
+        assertThat(allocatedOf(a)).isEqualTo(5);
+        assertThat(allocatedOf(b)).isEqualTo(1);
+        assertThat(ledgerCount(a)).isEqualTo(1);
+        assertThat(ledgerCount(b)).isEqualTo(1);
+    }
+
+    @DisplayName("재고는 요청 순서와 무관하게 PK 오름차순으로 쿼리 1개에 읽는다")
+    @Test
+    void loadsInPrimaryKeyOrder() {
+        Inventory a = seed("SKU-BULK-ORD-A", 10, false);
+        Inventory b = seed("SKU-BULK-ORD-B", 10, false);
+        Inventory c = seed("SKU-BULK-ORD-C", 10, false);
+
+        List<Inventory> loaded = SqlBudget.atMost(1, () -> inTx(() -> {
+            List<Inventory> rows = inventoryRepository.findAllWithVariantOrderById(
+                    List.of(c.getId(), a.getId(), b.getId()));
+            rows.forEach(inv -> inv.getVariant().getSkuCode()); // fetch join 확인
+            return rows;
+        }));
+
+        assertThat(loaded).extracting(Inventory::getId)
+                .containsExactly(a.getId(), b.getId(), c.getId());
+    }
+}
@@ -0,0 +1,93 @@
+package com.book.dolphin.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.product.domain.entity.Inventory;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.domain.repository.InventoryRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@DisplayName("재고 낙관적 락 재시도")
+@ExtendWith(MockitoExtension.class)
+class InventoryConflictRetryTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private InventoryConflictRetry retry;
+
+    @BeforeEach
+    void setUp() {
+        retry = new InventoryConflictRetry(new InventoryRetryProperties(3, 0, 0, 1),
+                inventoryRepository, registry);
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict(long inventoryId) {
+        return new ObjectOptimisticLockingFailureException(Inventory.class, inventoryId);
+    }
+
+    @Test
+    @DisplayName("충돌은 새 시도로 재실행되고, 성공하면 결과를 돌려준다")
+    void retries_until_success() {
+        when(inventoryRepository.findSkuCodeById(7L)).thenReturn(Optional.of("SKU-HOT"));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retry.execute(7L, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw conflict(7L);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+        assertThat(registry.get(InventoryConflictRetry.CONFLICT_METRIC)
+                .tags("sku", "SKU-HOT", "outcome", "retried").counter().count()).isEqualTo(2);
+        verify(inventoryRepository, times(1)).findSkuCodeById(7L); // SKU 조회는 캐시
+    }
+
+    @Test
+    @DisplayName("시도를 모두 소진하면 409 재고 충돌, SKU 태그 수는 상한을 넘지 않는다")
+    void exhausted_maps_to_conflict() {
+        when(inventoryRepository.findSkuCodeById(1L)).thenReturn(Optional.of("SKU-A"));
+        when(inventoryRepository.findSkuCodeById(2L)).thenReturn(Optional.of("SKU-B"));
+        retry.execute(1L, failingOnce(1L));
+
+        ProductException ex = assertThrows(ProductException.class,
+                () -> retry.execute(2L, () -> {
+                    throw conflict(2L);
+                }));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVENTORY_CONFLICT);
+        assertThat(registry.get(InventoryConflictRetry.CONFLICT_METRIC)
+                .tags("sku", InventoryConflictRetry.OTHER_SKU, "outcome", "exhausted")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private static Supplier<String> failingOnce(long inventoryId) {
+        AtomicInteger calls = new AtomicInteger();
+        return () -> {
+            if (calls.getAndIncrement() == 0) {
+                throw conflict(inventoryId);
+            }
+            return "ok";
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.book.dolphin.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.book.dolphin.category.application.event.CategoryChangedEvent;
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.book.dolphin.product.application.event.ProductChangedEvent.Cause;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("상품 목록 개수 캐시")
+class ProductCountCacheTest {
+
+    private final ProductCountCache cache = new ProductCountCache(
+            new ProductCountProperties(100, 2));
+    private final ProductCountCache.Key key = new ProductCountCache.Key("셔츠", 1L, true,
+            "PUBLISHED", null, null);
+    private final AtomicInteger queries = new AtomicInteger();
+    private final LongSupplier counter = () -> {
+        queries.incrementAndGet();
+        return 42L;
+    };
+
+    @Test
+    @DisplayName("정확 모드는 캐시를 쓰지 않고 매번 센다(다른 인스턴스의 쓰기는 버전에 잡히지 않는다)")
+    void exactAlwaysCounts() {
+        assertThat(cache.exact(key, counter)).isEqualTo(42L);
+        assertThat(cache.exact(key, counter)).isEqualTo(42L);
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("countMode는 대소문자를 무시하고, 모르는 값은 400으로 거절한다")
+    void parsesCountMode() {
+        assertThat(ProductCountMode.from(null)).isEqualTo(ProductCountMode.EXACT);
+        assertThat(ProductCountMode.from("has_next")).isEqualTo(ProductCountMode.HAS_NEXT);
+        assertThat(ProductCountMode.from("Estimate")).isEqualTo(ProductCountMode.ESTIMATE);
+
+        ProductException ex = assertThrows(ProductException.class,
+                () -> ProductCountMode.from("FAST"));
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVALID_COUNT_MODE);
+    }
+
+    @Test
+    @DisplayName("추정 모드는 캐시 이후 쓰기 수를 오차로 알려 주고, 상한을 넘으면 다시 센다")
+    void estimateWithinBound() {
+        cache.exact(key, counter);
+        cache.onProductChanged(new ProductChangedEvent(7L, Cause.PRICE, null));
+        cache.onProductChanged(new ProductChangedEvent(8L, Cause.CREATED, null));
+
+        ProductCountCache.Estimate estimate = cache.estimate(key, counter);
+        assertThat(estimate.count()).isEqualTo(42L);
+        assertThat(estimate.maxError()).isEqualTo(2L);
+        assertThat(queries).hasValue(1);
+
+        cache.onProductChanged(new ProductChangedEvent(9L, Cause.STATUS, null));
+        assertThat(cache.estimate(key, counter).maxError()).isZero();
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경은 추정 모드 항목까지 모두 무효화한다")
+    void categoryChangeInvalidatesAll() {
+        cache.exact(key, counter);
+
+        cache.onCategoryChanged(new CategoryChangedEvent(1L, CategoryChangedEvent.Cause.MOVED));
+
+        cache.estimate(key, counter);
+        assertThat(queries).hasValue(2);
+    }
+}
@@ -0,0 +1,87 @@
+package com.book.dolphin.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.book.dolphin.category.application.event.CategoryChangedEvent;
+import com.book.dolphin.product.application.dto.response.ProductResponse;
+import com.book.dolphin.product.application.event.ProductChangedEvent;
+import com.book.dolphin.product.application.event.ProductChangedEvent.Cause;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("상품 상세 캐시")
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, ProductResponse> loader = id -> {
+        loads.incrementAndGet();
+        return new ProductResponse(id, "셔츠", "본문", "PUBLISHED", 10_000L, List.of(), List.of(),
+                List.of());
+    };
+
+    private ProductDetailCache cache() {
+        return new ProductDetailCache(new ProductDetailCacheProperties(true, 1 << 20, 60_000),
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 돌려주고 히트/미스를 기록한다")
+    void readThrough() {
+        ProductDetailCache cache = cache();
+
+        cache.get(1L, loader);
+        ProductResponse second = cache.get(1L, loader);
+
+        assertThat(second.id()).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "product.detail")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상품 변경은 해당 상품만, 카테고리 변경은 전체를 무효화한다")
+    void invalidation() {
+        ProductDetailCache cache = cache();
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        cache.onProductChanged(new ProductChangedEvent(1L, Cause.STATUS, null));
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        assertThat(loads).hasValue(3);
+
+        cache.onCategoryChanged(new CategoryChangedEvent(9L, CategoryChangedEvent.Cause.UPDATED));
+        cache.get(2L, loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 예외를 그대로 던지고 캐시하지 않는다")
+    void notFoundIsNotCached() {
+        ProductDetailCache cache = cache();
+        Function<Long, ProductResponse> missing = id -> {
+            loads.incrementAndGet();
+            throw new ProductException(ProductErrorCode.NOT_FOUND_PRODUCT, id);
+        };
+
+        assertThatThrownBy(() -> cache.get(5L, missing)).isInstanceOf(ProductException.class);
+        assertThatThrownBy(() -> cache.get(5L, missing)).isInstanceOf(ProductException.class);
+        assertThat(loads).hasValue(2);
+    }
+}
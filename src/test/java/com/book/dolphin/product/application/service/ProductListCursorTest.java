@@ -0,0 +1,44 @@
+package com.book.dolphin.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.book.dolphin.product.application.service.ProductListCursor.Sort;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("상품 목록 커서")
+class ProductListCursorTest {
+
+    @Test
+    @DisplayName("성공: 인코딩한 커서를 같은 정렬로 복원")
+    void round_trip() {
+        String encoded = new ProductListCursor(Sort.PRICE_DESC, 12900L, 42L).encode();
+
+        ProductListCursor decoded = ProductListCursor.decode(encoded, Sort.PRICE_DESC);
+
+        assertThat(decoded).isEqualTo(new ProductListCursor(Sort.PRICE_DESC, 12900L, 42L));
+    }
+
+    @Test
+    @DisplayName("성공: 빈 커서는 첫 페이지")
+    void blank_is_first_page() {
+        assertThat(ProductListCursor.decode(" ", Sort.RECENT)).isNull();
+    }
+
+    @Test
+    @DisplayName("실패: 다른 정렬의 커서 또는 손상된 커서")
+    void rejects_mismatch_and_garbage() {
+        String priceCursor = new ProductListCursor(Sort.PRICE_ASC, 100L, 1L).encode();
+
+        ProductException mismatch = assertThrows(ProductException.class,
+                () -> ProductListCursor.decode(priceCursor, Sort.RECENT));
+        ProductException garbage = assertThrows(ProductException.class,
+                () -> ProductListCursor.decode("not*base64", Sort.RECENT));
+
+        assertThat(mismatch.getErrorCode()).isEqualTo(ProductErrorCode.INVALID_LIST_CURSOR);
+        assertThat(garbage.getErrorCode()).isEqualTo(ProductErrorCode.INVALID_LIST_CURSOR);
+    }
+}
@@ -0,0 +1,54 @@
+package com.book.dolphin.product.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("상품 현재가(비정규화)")
+class ProductCurrentPriceTest {
+
+    private static final LocalDateTime SALE_FROM = LocalDateTime.now().plusDays(1);
+    private static final LocalDateTime SALE_UNTIL = SALE_FROM.plusDays(2);
+
+    private Product productWithUpcomingSale() {
+        Product product = Product.builder().name("티셔츠").content("").build();
+        product.setListPrice(Money.of(12_900));
+        product.setSalePrice(Money.of(9_900), new DateRange(SALE_FROM, SALE_UNTIL));
+        return product;
+    }
+
+    @Test
+    @DisplayName("성공: 할인 시작 전에는 정가, 다음 전환 시각은 할인 시작")
+    void before_sale() {
+        Product product = productWithUpcomingSale();
+
+        assertThat(product.getCurrentPriceWon()).isEqualTo(12_900L);
+        assertThat(product.getPriceRefreshAt()).isEqualTo(SALE_FROM);
+    }
+
+    @Test
+    @DisplayName("성공: 할인 기간에는 할인가, 다음 전환 시각은 종료 직후")
+    void during_sale() {
+        Product product = productWithUpcomingSale();
+
+        boolean changed = product.refreshCurrentPrice(SALE_FROM);
+
+        assertThat(changed).isTrue();
+        assertThat(product.getCurrentPriceWon()).isEqualTo(9_900L);
+        assertThat(product.getPriceRefreshAt()).isEqualTo(SALE_UNTIL.plus(1, ChronoUnit.MICROS));
+    }
+
+    @Test
+    @DisplayName("성공: 할인 종료 후에는 정가로 돌아오고 더 이상 전환이 없다")
+    void after_sale() {
+        Product product = productWithUpcomingSale();
+
+        product.refreshCurrentPrice(SALE_UNTIL.plusSeconds(1));
+
+        assertThat(product.getCurrentPriceWon()).isEqualTo(12_900L);
+        assertThat(product.getPriceRefreshAt()).isNull();
+    }
+}
@@ -0,0 +1,66 @@
+package com.book.dolphin.product.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.product.domain.entity.Inventory;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductVariant;
+import com.book.dolphin.product.domain.repository.InventoryRepository.AvailabilityRow;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import support.SqlBudget;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class InventoryAvailabilityQueryTest {
+
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    ProductVariantRepository variantRepository;
+    @Autowired
+    InventoryRepository inventoryRepository;
+    @Autowired
+    EntityManager em;
+
+    @DisplayName("여러 옵션의 가용성은 키 개수와 무관하게 쿼리 1개로 읽는다")
+    @Test
+    void readsManyVariantsInOneQuery() {
+        Product product = Product.builder().name("가용성 셔츠").content("본문").build();
+        product.setListPrice(Money.of(10_000));
+        productRepository.save(product);
+        List<Long> variantIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ProductVariant variant = variantRepository.save(
+                    ProductVariant.of(product, "SKU-AVAIL-" + i));
+            Inventory inv = Inventory.of(variant, 10, 2, i % 2 == 0);
+            if (i < 5) {
+                inv.allocate(3);
+            }
+            inventoryRepository.save(inv);
+            variantIds.add(variant.getId());
+        }
+        em.flush();
+        em.clear();
+
+        List<AvailabilityRow> rows = SqlBudget.atMost(1,
+                () -> inventoryRepository.findAvailabilityByVariantIdIn(variantIds));
+
+        assertThat(rows).hasSize(50);
+        AvailabilityRow first = rows.stream()
+                .filter(r -> r.getSkuCode().equals("SKU-AVAIL-0"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(first.getOnHand() - first.getAllocated() - first.getSafetyStock()).isEqualTo(5);
+        assertThat(first.isBackorderable()).isTrue();
+    }
+}
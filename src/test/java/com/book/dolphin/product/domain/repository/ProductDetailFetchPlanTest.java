@@ -0,0 +1,71 @@
+package com.book.dolphin.product.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.category.domain.entity.Category;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.repository.CategoryClosureRepository;
+import com.book.dolphin.category.domain.repository.CategoryRepository;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductCategory;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import support.CategoryTestSeeder;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductDetailFetchPlanTest {
+
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    CategoryClosureRepository closureRepository;
+    @Autowired
+    EntityManager em;
+
+    @DisplayName("상세 조회는 카테고리/이미지 수와 무관하게 쿼리 2개(상품+카테고리, 미디어)로 끝난다")
+    @Test
+    void detailReadIssuesConstantQueries() {
+        CategoryTestSeeder seeder = new CategoryTestSeeder(categoryRepository, closureRepository);
+        Category root = seeder.seedRoot("페치플랜", "fetch-plan", 0, CategoryStatus.ACTIVE, null);
+        Product product = Product.builder().name("페치 플랜 셔츠").content("본문").build();
+        product.setListPrice(Money.of(BigDecimal.valueOf(10_000), "KRW"));
+        for (int i = 0; i < 4; i++) {
+            Category child = seeder.seedChild(root, "하위" + i, "fetch-plan-" + i, i,
+                    CategoryStatus.ACTIVE, null);
+            product.addCategory(child, i == 0, i);
+        }
+        for (int i = 0; i < 3; i++) {
+            product.addRepresentativeImage("https://img/rep" + i, "대표" + i, i);
+            product.addContentImage("https://img/content" + i, "본문" + i, i);
+        }
+        Long id = productRepository.save(product).getId();
+        em.flush();
+        em.clear();
+
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        stats.clear();
+
+        Product found = productRepository.findDetailById(id).orElseThrow();
+        found.getCategories().stream().map(ProductCategory::getCategory)
+                .forEach(Category::getName);
+        found.getMediaList().forEach(m -> m.getUrl());
+
+        assertThat(found.getCategories()).hasSize(4);
+        assertThat(found.getMediaList()).hasSize(6);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,100 @@
+package com.book.dolphin.product.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.category.domain.entity.Category;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.repository.CategoryClosureRepository;
+import com.book.dolphin.category.domain.repository.CategoryRepository;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.repository.ProductRepository.ProductListRow;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import support.CategoryTestSeeder;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductListCategoryFilterTest {
+
+    private static final List<Long> NO_IDS = List.of(-1L);
+
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    CategoryClosureRepository closureRepository;
+    @Autowired
+    EntityManager em;
+
+    // 의류(root) ─ 상의(top) ─ 셔츠(shirt) ─ 린넨 셔츠(linen)
+    //           └ 하의(bottom)
+    private Category top;
+    private Long topProduct;
+    private Long shirtProduct;
+    private Long linenProduct;
+
+    @BeforeEach
+    void setUp() {
+        CategoryTestSeeder seeder = new CategoryTestSeeder(categoryRepository, closureRepository);
+        Category root = seeder.seedRoot("의류", "cat-filter", 0, CategoryStatus.ACTIVE, null);
+        top = seeder.seedChild(root, "상의", "cat-filter-top", 0, CategoryStatus.ACTIVE, null);
+        Category shirt = seeder.seedChild(top, "셔츠", "cat-filter-shirt", 0,
+                CategoryStatus.ACTIVE, null);
+        Category linen = seeder.seedChild(shirt, "린넨 셔츠", "cat-filter-linen", 0,
+                CategoryStatus.ACTIVE, null);
+        Category bottom = seeder.seedChild(root, "하의", "cat-filter-bottom", 1,
+                CategoryStatus.ACTIVE, null);
+
+        topProduct = seed("상의 기획전", top);
+        shirtProduct = seed("옥스퍼드 셔츠", shirt);
+        linenProduct = seed("린넨 셔츠", linen);
+        seed("와이드 팬츠", bottom);
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("하위 포함이면 손자 이하 카테고리 상품까지 읽고, 형제 카테고리 상품은 빼며, 개수도 같다")
+    @Test
+    void subtreeIncludesDescendantsAndExcludesSiblings() {
+        List<ProductListRow> rows = productRepository.findListSimple(null, false, false, NO_IDS,
+                top.getId(), Integer.MAX_VALUE, null, null, null, null, 100, 0);
+        List<ProductListRow> recent = productRepository.findListRecentAfter(null, false, false,
+                NO_IDS, top.getId(), Integer.MAX_VALUE, null, null, null, null, 100);
+        long count = productRepository.countListSimple(null, false, false, NO_IDS, top.getId(),
+                Integer.MAX_VALUE, null, null, null);
+
+        assertThat(rows).extracting(ProductListRow::getId)
+                .containsExactlyInAnyOrder(topProduct, shirtProduct, linenProduct);
+        assertThat(recent).extracting(ProductListRow::getId)
+                .containsExactly(linenProduct, shirtProduct, topProduct);
+        assertThat(count).isEqualTo(3);
+    }
+
+    @DisplayName("하위 미포함(depth 0)이면 직접 연결된 상품만 읽는다")
+    @Test
+    void directOnly() {
+        List<ProductListRow> rows = productRepository.findListSimple(null, false, false, NO_IDS,
+                top.getId(), 0, null, null, null, null, 100, 0);
+
+        assertThat(rows).extracting(ProductListRow::getId).containsExactly(topProduct);
+        assertThat(productRepository.countListSimple(null, false, false, NO_IDS, top.getId(), 0,
+                null, null, null)).isEqualTo(1);
+    }
+
+    private Long seed(String name, Category category) {
+        Product product = Product.builder().name(name).content("본문").build();
+        product.setListPrice(Money.of(10_000));
+        product.addCategory(category, true, 0);
+        return productRepository.save(product).getId();
+    }
+}
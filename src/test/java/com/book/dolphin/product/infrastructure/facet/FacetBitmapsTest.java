@@ -0,0 +1,127 @@
+package com.book.dolphin.product.infrastructure.facet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
+import com.book.dolphin.category.domain.entity.CategoryStatus;
+import com.book.dolphin.category.domain.repository.CategoryRepository.CategoryTreeRow;
+import com.book.dolphin.product.domain.entity.ProductStatus;
+import com.book.dolphin.product.infrastructure.facet.FacetCounts.BucketCount;
+import com.book.dolphin.product.infrastructure.facet.FacetCounts.CategoryCount;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("상품 패싯 비트맵")
+class FacetBitmapsTest {
+
+    // 남성(1) ─ 상의(10) ─ 셔츠(100)
+    //        └ 하의(11)
+    // 여성(2)
+    private final CategoryTreeSnapshot tree = CategoryTreeSnapshot.of(1L, List.of(
+            row(1L, null, "남성", 0, 0),
+            row(10L, 1L, "상의", 1, 0),
+            row(100L, 10L, "셔츠", 2, 0),
+            row(11L, 1L, "하의", 1, 1),
+            row(2L, null, "여성", 0, 1)
+    ));
+
+    private final FacetBitmaps bitmaps = new FacetBitmaps(new long[]{10_000, 30_000});
+
+    @BeforeEach
+    void setUp() {
+        bitmaps.put(1L, ProductStatus.PUBLISHED, 9_000, new long[]{100L});
+        bitmaps.put(2L, ProductStatus.PUBLISHED, 25_000, new long[]{100L, 2L});
+        bitmaps.put(3L, ProductStatus.DRAFT, 40_000, new long[]{11L});
+        bitmaps.put(4L, ProductStatus.PUBLISHED, 30_000, new long[]{2L});
+    }
+
+    @Test
+    @DisplayName("필터 없이 세면 루트 카테고리별 하위 포함 개수와 상태/가격 구간 개수를 낸다")
+    void countsWithoutFilter() {
+        FacetCounts counts = bitmaps.count(query(null, null, null, null, null), tree);
+
+        assertThat(counts.total()).isEqualTo(4);
+        assertThat(counts.statuses()).containsEntry(ProductStatus.PUBLISHED, 3L)
+                .containsEntry(ProductStatus.DRAFT, 1L)
+                .containsEntry(ProductStatus.ARCHIVED, 0L);
+        assertThat(counts.categories()).containsExactly(
+                new CategoryCount(1L, 3), new CategoryCount(2L, 2));
+        assertThat(counts.buckets()).containsExactly(
+                new BucketCount(null, 10_000L, 1),
+                new BucketCount(10_000L, 30_000L, 1),
+                new BucketCount(30_000L, null, 2));
+    }
+
+    @Test
+    @DisplayName("카테고리 필터는 하위 트리로 펼치고, 각 패싯은 자기 차원 필터를 빼고 센다")
+    void subtreeFilterAndDisjunctiveCounts() {
+        FacetCounts counts = bitmaps.count(query(null, 1L, "PUBLISHED", null, null), tree);
+
+        assertThat(counts.total()).isEqualTo(2); // 1, 2
+        // 상태 패싯은 상태 필터를 빼고 센다(남성 하위 1, 2, 3)
+        assertThat(counts.statuses()).containsEntry(ProductStatus.PUBLISHED, 2L)
+                .containsEntry(ProductStatus.DRAFT, 1L);
+        // 카테고리 패싯은 남성의 자식별
+        assertThat(counts.categories()).containsExactly(new CategoryCount(10L, 2));
+    }
+
+    @Test
+    @DisplayName("가격 범위는 걸치는 구간만 상품 가격으로 확인하고, 키워드 결과로 좁힌다")
+    void priceRangeAndKeywordIds() {
+        FacetCounts byPrice = bitmaps.count(query(null, null, null, 20_000L, 30_000L), tree);
+        assertThat(byPrice.total()).isEqualTo(2); // 25,000 / 30,000
+
+        FacetCounts byIds = bitmaps.count(query(List.of(2L, 3L, 999L), null, null, null, null),
+                tree);
+        assertThat(byIds.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 변경/삭제는 이전 비트를 지우고 새 값으로 센다")
+    void incrementalUpdate() {
+        bitmaps.put(3L, ProductStatus.PUBLISHED, 5_000, new long[]{2L});
+        bitmaps.remove(4L);
+
+        FacetCounts counts = bitmaps.count(query(null, 2L, null, null, null), tree);
+
+        assertThat(counts.total()).isEqualTo(2); // 2, 3
+        assertThat(counts.statuses()).containsEntry(ProductStatus.PUBLISHED, 2L)
+                .containsEntry(ProductStatus.DRAFT, 0L);
+        assertThat(bitmaps.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("초기 적재(putIfAbsent)는 이미 들어온 상품과 지워진 상품을 덮지 않는다")
+    void putIfAbsentKeepsNewerValue() {
+        bitmaps.remove(4L);
+
+        assertThat(bitmaps.putIfAbsent(1L, ProductStatus.DRAFT, 50_000, new long[]{2L})).isFalse();
+        assertThat(bitmaps.putIfAbsent(4L, ProductStatus.DRAFT, 50_000, new long[]{2L})).isFalse();
+        assertThat(bitmaps.putIfAbsent(5L, ProductStatus.DRAFT, 50_000, new long[]{2L})).isTrue();
+
+        FacetCounts counts = bitmaps.count(query(null, null, null, null, null), tree);
+        assertThat(counts.statuses()).containsEntry(ProductStatus.PUBLISHED, 2L)
+                .containsEntry(ProductStatus.DRAFT, 2L); // 3, 5
+        assertThat(bitmaps.size()).isEqualTo(4);
+    }
+
+    private static FacetQuery query(List<Long> ids, Long categoryId, String status, Long min,
+            Long max) {
+        return new FacetQuery(ids, categoryId, true, status, min, max);
+    }
+
+    private static CategoryTreeRow row(Long id, Long parentId, String name, int depth,
+            int sortOrder) {
+        return new Row(id, parentId, name, "c" + id, "/c" + id, depth, sortOrder,
+                CategoryStatus.ACTIVE, null);
+    }
+
+    private record Row(Long getId, Long getParentId, String getName, String getSlug,
+                       String getPath, Integer getDepth, Integer getSortOrder,
+                       CategoryStatus getStatus, String getImageUrl)
+            implements CategoryTreeRow {
+
+    }
+}
@@ -0,0 +1,80 @@
+package com.book.dolphin.product.infrastructure.facet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.category.application.tree.CategoryTreeSnapshot;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로더 스레드가 커밋된 행만 보므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductFacetIndexCatchUpTest {
+
+    private static final long PRICE = 987_654L; // 다른 테스트 데이터와 겹치지 않는 가격
+
+    @Autowired
+    ProductRepository productRepository;
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        index = new ProductFacetIndex(productRepository,
+                new ProductFacetProperties(true, List.of(10_000L, 100_000L), 1000));
+        index.start();
+        awaitTrue(index::isReady);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @DisplayName("변경 이벤트 없이 저장된 상품(다른 인스턴스의 쓰기)은 따라잡기 후 개수에 들어간다")
+    @Test
+    void catchesUpOutsideWrites() {
+        long before = total();
+        Product product = Product.builder().name("따라잡기 패싯").content("본문").build();
+        product.setListPrice(Money.of(PRICE));
+        productRepository.save(product);
+
+        assertThat(total()).isEqualTo(before);
+
+        assertThat(index.catchUp(Duration.ofMinutes(2))).isPositive();
+
+        assertThat(total()).isEqualTo(before + 1);
+    }
+
+    private long total() {
+        return index.count(new FacetQuery(null, null, false, null, PRICE, PRICE),
+                CategoryTreeSnapshot.empty()).orElseThrow().total();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.book.dolphin.common.persistence.EntityIdAllocator;
+import com.book.dolphin.product.domain.entity.Inventory;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductVariant;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.domain.repository.InventoryLedgerRepository;
+import com.book.dolphin.product.domain.repository.InventoryRepository;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.book.dolphin.product.domain.repository.ProductVariantRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryProperties.WriteMode;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({InventoryLedgerJdbcWriter.class, EntityIdAllocator.class})
+class InventoryConditionalWriterTest {
+
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    ProductVariantRepository variantRepository;
+    @Autowired
+    InventoryRepository inventoryRepository;
+    @Autowired
+    InventoryLedgerRepository ledgerRepository;
+    @Autowired
+    InventoryLedgerJdbcWriter ledgerWriter;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManager em;
+
+    private InventoryConditionalWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new InventoryConditionalWriter(
+                new InventoryProperties(WriteMode.CONDITIONAL, 64, 200, 500,
+                        "data/inventory-counter-journal", 5000, 20),
+                jdbcTemplate, transactionTemplate,
+                new InventoryLedgerAppender(new InventoryLedgerProperties(
+                        InventoryLedgerProperties.WriteMode.SYNC, 65536, 500, 50L,
+                        "data/inventory-ledger-journal", 67108864L, 5),
+                        ledgerRepository, null, em, ledgerWriter));
+    }
+
+    private Inventory seed(String sku, long onHand, long safetyStock, boolean backorderable) {
+        Product product = Product.builder().name("조건부 " + sku).content("본문").build();
+        product.setListPrice(Money.of(10_000));
+        productRepository.save(product);
+        ProductVariant variant = variantRepository.save(ProductVariant.of(product, sku));
+        Inventory inv = inventoryRepository.save(
+                Inventory.of(variant, onHand, safetyStock, backorderable));
+        em.flush();
+        em.clear();
+        return inv;
+    }
+
+    @DisplayName("가용 수량 안에서만 할당하고, 부족하면 행을 바꾸지 않고 재고 부족 예외")
+    @Test
+    void allocatesWithinAvailable() {
+        Inventory inv = seed("SKU-COND-1", 10, 2, false);
+
+        InventorySnapshot after = writer.allocate(inv.getId(), 8, "주문");
+        ProductException ex = assertThrows(ProductException.class,
+                () -> writer.allocate(inv.getId(), 1, "초과"));
+
+        assertThat(after.allocated()).isEqualTo(8);
+        assertThat(after.available()).isZero();
+        assertThat(after.version()).isEqualTo(inv.getVersion() + 1);
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVENTORY_OUT_OF_STOCK);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM inventory_ledgers
+                WHERE inventory_id = ? AND event_type = 'ALLOCATE'
+                """, Long.class, inv.getId())).isEqualTo(1L);
+    }
+
+    @DisplayName("출고는 할당/보유 수량을 함께 줄이고, 할당보다 많으면 할당 해제 수량 오류")
+    @Test
+    void shipsAllocatedStock() {
+        Inventory inv = seed("SKU-COND-2", 5, 0, false);
+        writer.allocate(inv.getId(), 3, "주문");
+
+        InventorySnapshot shipped = writer.ship(inv.getId(), 3, "출고");
+        ProductException ex = assertThrows(ProductException.class,
+                () -> writer.ship(inv.getId(), 1, "초과 출고"));
+
+        assertThat(shipped.onHand()).isEqualTo(2);
+        assertThat(shipped.allocated()).isZero();
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INCORRECT_DEALLOCATION_QUANTITY);
+    }
+
+    @DisplayName("다건 할당: 백오더 재고는 가용과 무관하게 할당되고, 부족한 라인이 있으면 재고 부족 예외")
+    @Test
+    void allocateAllChecksEveryLine() {
+        Inventory backorder = seed("SKU-COND-3", 0, 0, true);
+        Inventory scarce = seed("SKU-COND-4", 1, 0, false);
+
+        TreeMap<Long, Long> ok = new TreeMap<>();
+        ok.put(backorder.getId(), 5L);
+        ok.put(scarce.getId(), 1L);
+        List<InventorySnapshot> result = writer.allocateAll(ok, "주문");
+        assertThat(result).extracting(InventorySnapshot::allocated).containsExactly(5L, 1L);
+
+        TreeMap<Long, Long> tooMuch = new TreeMap<>();
+        tooMuch.put(backorder.getId(), 1L);
+        tooMuch.put(scarce.getId(), 1L);
+        ProductException ex = assertThrows(ProductException.class,
+                () -> writer.allocateAll(tooMuch, "초과"));
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVENTORY_OUT_OF_STOCK);
+    }
+}
@@ -0,0 +1,288 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.common.persistence.EntityIdAllocator;
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import com.book.dolphin.product.domain.exception.ProductErrorCode;
+import com.book.dolphin.product.domain.exception.ProductException;
+import com.book.dolphin.product.infrastructure.inventory.InventoryCounter.Delta;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Entry;
+import com.book.dolphin.product.infrastructure.inventory.InventoryProperties.WriteMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+@DisplayName("인메모리 재고 카운터 엔진")
+@ExtendWith(MockitoExtension.class)
+class InventoryCounterEngineTest {
+
+    @Mock
+    private InventoryCounterStore store;
+
+    @Mock
+    private EntityIdAllocator idAllocator;
+
+    @TempDir
+    Path journalDir;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nextLedgerId = new AtomicLong(1);
+    private InventoryCounterEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(idAllocator.allocate(any(), anyInt())).thenAnswer(inv -> LongStream
+                .range(0, inv.<Integer>getArgument(1))
+                .mapToObj(i -> nextLedgerId.getAndIncrement())
+                .toList());
+        engine = start(20);
+    }
+
+    private InventoryCounterEngine start(int flushMaxFailures) {
+        InventoryCounterEngine e = new InventoryCounterEngine(
+                new InventoryProperties(WriteMode.IN_MEMORY, 16, 200, 500, journalDir.toString(),
+                        5000, flushMaxFailures),
+                store, idAllocator, registry);
+        e.start();
+        return e;
+    }
+
+    private void given(long inventoryId, long onHand, long safetyStock) {
+        when(store.load(inventoryId)).thenReturn(Optional.of(snapshot(inventoryId, onHand, 0L,
+                safetyStock, 0L)));
+    }
+
+    private static InventorySnapshot snapshot(long inventoryId, long onHand, long allocated,
+            long safetyStock, long version) {
+        return new InventorySnapshot(inventoryId, 1L, 10L, "SKU-" + inventoryId, onHand,
+                allocated, safetyStock, false, version, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("성공: 동시 할당 요청은 가용 수량만큼만 성공한다")
+    void concurrent_allocate_never_oversells() throws InterruptedException {
+        given(1L, 50L, 0L);
+        int requests = 200;
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < requests; i++) {
+                pool.submit(() -> {
+                    try {
+                        engine.allocate(1L, 1L, "flash-sale");
+                        success.incrementAndGet();
+                    } catch (ProductException e) {
+                        outOfStock.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(success.get()).isEqualTo(50);
+        assertThat(outOfStock.get()).isEqualTo(150);
+        assertThat(engine.peek(1L)).get()
+                .extracting(InventorySnapshot::allocated).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("실패: 안전재고를 침범하는 할당은 거부")
+    void allocate_respects_safety_stock() {
+        given(2L, 10L, 8L);
+
+        ProductException ex = assertThrows(ProductException.class,
+                () -> engine.allocate(2L, 3L, null));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVENTORY_OUT_OF_STOCK);
+    }
+
+    @Test
+    @DisplayName("성공: 플러시는 재고별 델타를 합치고 원장은 건별로 넘긴다")
+    void flush_coalesces_deltas() {
+        given(3L, 10L, 0L);
+        engine.allocate(3L, 2L, "a");
+        engine.allocate(3L, 3L, "b");
+        engine.deallocate(3L, 1L, "c");
+
+        int flushed = engine.flush(100);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Delta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(store).apply(captor.capture());
+        Delta delta = captor.getValue().get(0);
+
+        assertThat(flushed).isEqualTo(1);
+        assertThat(delta.allocatedDelta()).isEqualTo(4L);
+        assertThat(delta.onHandDelta()).isZero();
+        assertThat(delta.ledger()).extracting(InventoryLedgerRow::eventType)
+                .containsExactly(LedgerEventType.ALLOCATE, LedgerEventType.ALLOCATE,
+                        LedgerEventType.DEALLOCATE);
+        assertThat(engine.hasDirty()).isFalse();
+        assertThat(engine.peek(3L)).get().extracting(InventorySnapshot::version).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("실패: 플러시가 실패하면 변경분을 되돌려 다음 주기에 재시도")
+    void flush_failure_restores_pending() {
+        given(4L, 10L, 0L);
+        engine.allocate(4L, 5L, "a");
+        doThrow(new IllegalStateException("db down")).when(store).apply(anyList());
+
+        assertThat(engine.flush(100)).isZero();
+
+        assertThat(engine.hasDirty()).isTrue();
+        assertThat(engine.peek(4L)).get().extracting(InventorySnapshot::version).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("성공: 응답한 변경은 플러시 전에 프로세스가 죽어도 재기동 시 저널에서 복구한다")
+    void acknowledged_changes_are_replayed_from_journal() {
+        given(11L, 10L, 0L);
+        engine.allocate(11L, 2L, "a");
+        engine.inbound(11L, 3L, "b");
+        // 플러시 없이 종료(크래시) 후 같은 저널로 재기동
+        when(store.replay(anyList(), anyInt())).thenReturn(true);
+
+        start(20);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Entry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(store).replay(captor.capture(), anyInt());
+        assertThat(captor.getValue()).extracting(Entry::ledgerId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).extracting(e -> e.row().eventType())
+                .containsExactly(LedgerEventType.ALLOCATE, LedgerEventType.INBOUND);
+    }
+
+    @Test
+    @DisplayName("성공: 다른 쓰기 경로가 바꾼 재고는 DB 값 위에 미반영분을 얹어 다시 맞춘다")
+    void sync_rebases_counter_on_outside_write() {
+        given(12L, 10L, 0L);
+        engine.allocate(12L, 1L, "a");
+        // 다른 인스턴스가 입고 40, 할당 5를 반영해 버전이 3이 됨
+        when(store.versions(anyCollection())).thenReturn(Map.of(12L, 3L));
+        when(store.load(12L)).thenReturn(Optional.of(snapshot(12L, 50L, 5L, 0L, 3L)));
+
+        engine.syncWithDb();
+
+        assertThat(engine.peek(12L)).get().satisfies(s -> {
+            assertThat(s.onHand()).isEqualTo(50L);
+            assertThat(s.allocated()).isEqualTo(6L);
+            assertThat(s.version()).isEqualTo(3L);
+        });
+        assertThat(engine.hasDirty()).isTrue(); // 미반영분은 그대로 플러시 대상
+    }
+
+    @Test
+    @DisplayName("성공: 플러시에서 버전이 어긋난 재고는 반영 후 DB 값으로 다시 맞춘다")
+    void flush_rebases_stale_counter() {
+        given(13L, 10L, 0L);
+        engine.allocate(13L, 2L, "a");
+        when(store.apply(anyList())).thenReturn(Set.of(13L));
+        when(store.load(13L)).thenReturn(Optional.of(snapshot(13L, 30L, 2L, 0L, 8L)));
+
+        engine.flush(100);
+
+        assertThat(engine.peek(13L)).get().satisfies(s -> {
+            assertThat(s.onHand()).isEqualTo(30L);
+            assertThat(s.allocated()).isEqualTo(2L);
+            assertThat(s.version()).isEqualTo(8L);
+        });
+    }
+
+    @Test
+    @DisplayName("실패: 데이터 오류로 플러시가 계속 실패하면 격리하고 새 변경을 거절한다(DB 장애는 세지 않음)")
+    void repeated_rejection_quarantines_counter() {
+        engine = start(2);
+        given(14L, 10L, 0L);
+        engine.allocate(14L, 1L, "a");
+
+        doThrow(new CannotGetJdbcConnectionException("db down")).when(store).apply(anyList());
+        for (int i = 0; i < 5; i++) {
+            engine.flushAll(100);
+        }
+        assertThat(engine.allocate(14L, 1L, "b").allocated()).isEqualTo(2L);
+
+        doThrow(new DataIntegrityViolationException("bad row")).when(store).apply(anyList());
+        engine.flushAll(100);
+        engine.flushAll(100);
+
+        ProductException ex = assertThrows(ProductException.class,
+                () -> engine.allocate(14L, 1L, "c"));
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVENTORY_COUNTER_QUARANTINED);
+        assertThat(engine.hasDirty()).isFalse(); // 더 이상 재시도하지 않는다
+        assertThat(registry.get("inventory.counter.quarantined").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 다건 할당은 모든 라인을 한 번에 반영")
+    void allocate_all_success() {
+        given(5L, 10L, 0L);
+        given(6L, 10L, 0L);
+
+        List<InventorySnapshot> result = engine.allocateAll(
+                new TreeMap<>(Map.of(5L, 3L, 6L, 4L)), "order-1");
+
+        assertThat(result).extracting(InventorySnapshot::allocated).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("실패: 다건 할당 중 한 라인이라도 부족하면 아무것도 반영하지 않는다")
+    void allocate_all_is_all_or_nothing() {
+        given(7L, 10L, 0L);
+        given(8L, 1L, 0L);
+
+        ProductException ex = assertThrows(ProductException.class,
+                () -> engine.allocateAll(new TreeMap<>(Map.of(7L, 3L, 8L, 2L)), null));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.INVENTORY_OUT_OF_STOCK);
+        assertThat(engine.peek(7L)).get().extracting(InventorySnapshot::allocated).isEqualTo(0L);
+        assertThat(engine.hasDirty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패: 존재하지 않는 재고")
+    void unknown_inventory() {
+        when(store.load(99L)).thenReturn(Optional.empty());
+
+        ProductException ex = assertThrows(ProductException.class,
+                () -> engine.allocate(99L, 1L, null));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ProductErrorCode.NOT_FOUND_INVENTORY);
+    }
+}
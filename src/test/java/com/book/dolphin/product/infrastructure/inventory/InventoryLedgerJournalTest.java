@@ -0,0 +1,67 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Entry;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Recovered;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerJournal.Segment;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("재고 원장 저널")
+class InventoryLedgerJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static Entry entry(long txId, long ledgerId, String reason) {
+        return new Entry(txId, ledgerId, 3L, new InventoryLedgerRow(
+                7L, LedgerEventType.ALLOCATE, 2L, reason, LocalDateTime.of(2025, 1, 1, 12, 0)));
+    }
+
+    @Test
+    @DisplayName("성공: 기록한 원장과 커밋/롤백 표시를 그대로 읽어온다")
+    void read_back_entries_and_markers() {
+        InventoryLedgerJournal journal = new InventoryLedgerJournal(dir, 1 << 20);
+        journal.appendDurably(100L, List.of(entry(100L, 100L, "주문\t#1"), entry(100L, 101L, null)));
+        journal.appendDurably(200L, List.of(entry(200L, 200L, "")));
+        journal.markCommitted(100L);
+        journal.markRolledBack(200L);
+        journal.close();
+
+        Recovered recovered = new InventoryLedgerJournal(dir, 1 << 20).readAll();
+
+        assertThat(recovered.entries()).extracting(Entry::ledgerId)
+                .containsExactly(100L, 101L, 200L);
+        assertThat(recovered.entries()).extracting(e -> e.row().reason())
+                .containsExactly("주문\t#1", null, "");
+        assertThat(recovered.committed()).containsExactly(100L);
+        assertThat(recovered.rolledBack()).containsExactly(200L);
+    }
+
+    @Test
+    @DisplayName("성공: 교체된 세그먼트는 원장이 모두 반영되면 삭제된다")
+    void retired_segment_is_deleted_after_release() throws IOException {
+        InventoryLedgerJournal journal = new InventoryLedgerJournal(dir, 1); // 매 기록마다 교체
+        Segment first = journal.appendDurably(1L, List.of(entry(1L, 1L, "a")));
+        journal.appendDurably(2L, List.of(entry(2L, 2L, "b")));
+
+        assertThat(countFiles()).isEqualTo(2);
+        first.release(1);
+        assertThat(countFiles()).isEqualTo(1);
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> s = Files.list(dir)) {
+            return s.count();
+        }
+    }
+}
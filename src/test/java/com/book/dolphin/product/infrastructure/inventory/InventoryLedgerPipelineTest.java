@@ -0,0 +1,199 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.book.dolphin.common.persistence.EntityIdAllocator;
+import com.book.dolphin.product.domain.entity.InventoryLedger.LedgerEventType;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerPipeline.Prepared;
+import com.book.dolphin.product.infrastructure.inventory.InventoryLedgerProperties.WriteMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("재고 원장 비동기 적재 파이프라인")
+class InventoryLedgerPipelineTest {
+
+    private static final String WRITER_THREAD = "inventory-ledger-writer";
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InventoryLedgerJdbcWriter ledgerWriter = mock(InventoryLedgerJdbcWriter.class);
+    private final EntityIdAllocator idAllocator = mock(EntityIdAllocator.class);
+    private final NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+    private final AtomicLong nextId = new AtomicLong(1);
+    private InventoryLedgerPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        when(idAllocator.allocate(any(), anyInt())).thenAnswer(inv -> {
+            int n = inv.getArgument(1);
+            return LongStream.range(0, n)
+                    .mapToObj(i -> nextId.getAndIncrement())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    private InventoryLedgerPipeline start(int queueCapacity, int writeMaxAttempts) {
+        InventoryLedgerProperties properties = new InventoryLedgerProperties(WriteMode.ASYNC,
+                queueCapacity, 10, 0L, dir.toString(), 1 << 20, writeMaxAttempts);
+        InventoryLedgerPipeline p = new InventoryLedgerPipeline(properties, ledgerWriter,
+                idAllocator, jdbc, mock(PlatformTransactionManager.class), registry);
+        p.start();
+        return p;
+    }
+
+    private Prepared commit(InventoryLedgerPipeline p) {
+        Prepared prepared = p.prepare(List.of(new InventoryLedgerRow(7L, LedgerEventType.ALLOCATE,
+                1L, "주문", LocalDateTime.of(2025, 1, 1, 12, 0))), List.of(1L));
+        p.committed(prepared);
+        return prepared;
+    }
+
+    private static boolean onWriterThread() {
+        return WRITER_THREAD.equals(Thread.currentThread().getName());
+    }
+
+    private double count(String name) {
+        return registry.get(name).counter().count();
+    }
+
+    @Test
+    @DisplayName("성공: 대기열이 가득 차면 호출 스레드가 한 번 직접 적재한다")
+    void overflow_is_written_by_caller_once() throws Exception {
+        CountDownLatch writerEntered = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        Set<Long> writtenByCaller = ConcurrentHashMap.newKeySet();
+        doAnswer(inv -> {
+            if (onWriterThread()) {
+                writerEntered.countDown();
+                releaseWriter.await(5, TimeUnit.SECONDS);
+            } else {
+                writtenByCaller.addAll(inv.<List<Long>>getArgument(0));
+            }
+            return null;
+        }).when(ledgerWriter).insertAll(anyList(), anyList());
+        pipeline = start(1, 3);
+
+        commit(pipeline);                                     // 적재 스레드가 꺼내 붙잡고 있음
+        assertThat(writerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        commit(pipeline);                                     // 대기열(1칸)을 채움
+        Prepared overflow = commit(pipeline);                 // 넘침
+
+        assertThat(writtenByCaller).containsExactly(overflow.entries().get(0).ledgerId());
+        assertThat(count("inventory.ledger.backpressure")).isEqualTo(1.0);
+        assertThat(count("inventory.ledger.deferred")).isZero();
+        releaseWriter.countDown();
+    }
+
+    @Test
+    @DisplayName("실패: DB 장애 중 넘친 원장은 호출 스레드가 재시도하지 않고 보류 목록으로 넘긴다")
+    void overflow_failure_does_not_block_caller() throws Exception {
+        CountDownLatch writerEntered = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        AtomicInteger callerAttempts = new AtomicInteger();
+        doAnswer(inv -> {
+            if (onWriterThread()) {
+                writerEntered.countDown();
+                releaseWriter.await(5, TimeUnit.SECONDS);
+                return null;
+            }
+            callerAttempts.incrementAndGet();
+            throw new DataAccessResourceFailureException("db down");
+        }).when(ledgerWriter).insertAll(anyList(), anyList());
+        pipeline = start(1, 3);
+
+        commit(pipeline);
+        assertThat(writerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        commit(pipeline);
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> commit(pipeline));
+
+        assertThat(callerAttempts).hasValue(1);
+        assertThat(count("inventory.ledger.deferred")).isEqualTo(1.0);
+        assertThat(registry.get("inventory.ledger.parked").gauge().value()).isEqualTo(1.0);
+        releaseWriter.countDown();
+    }
+
+    @Test
+    @DisplayName("실패: 계속 실패하는 배치는 정해진 횟수 후 보류되고, 다음 배치는 그대로 적재되며, 보류분은 재기동 시 저널에서 복구된다")
+    void persistent_failure_is_parked_and_recovered_from_journal() throws Exception {
+        AtomicInteger poisonAttempts = new AtomicInteger();
+        Set<Long> written = ConcurrentHashMap.newKeySet();
+        doAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            if (ids.contains(1L)) {
+                poisonAttempts.incrementAndGet();
+                throw new DataAccessResourceFailureException("constraint");
+            }
+            written.addAll(ids);
+            return null;
+        }).when(ledgerWriter).insertAll(anyList(), anyList());
+        pipeline = start(16, 2);
+
+        commit(pipeline); // id=1: 항상 실패
+        awaitTrue(() -> count("inventory.ledger.deferred") == 1.0);
+        assertThat(poisonAttempts.get()).isGreaterThanOrEqualTo(2);
+
+        commit(pipeline); // id=2: 적재 스레드가 막히지 않고 처리
+        awaitTrue(() -> written.contains(2L));
+        assertThat(count("inventory.ledger.deferred")).isEqualTo(1.0);
+        pipeline.stop();
+        pipeline = null;
+
+        // 재기동: 저널에 남은 id=1만 다시 적재(id=2는 이미 DB에 있음)
+        written.clear();
+        doAnswer(inv -> {
+            written.addAll(inv.<List<Long>>getArgument(0));
+            return null;
+        }).when(ledgerWriter).insertAll(anyList(), anyList());
+        when(jdbc.queryForList(anyString(), anyMap(), eq(Long.class))).thenReturn(List.of(2L));
+        pipeline = start(16, 2);
+
+        assertThat(written).containsExactly(1L);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.book.dolphin.product.infrastructure.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.common.persistence.EntityIdAllocator;
+import com.book.dolphin.product.domain.entity.Inventory;
+import com.book.dolphin.product.domain.entity.InventoryReservation;
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.entity.ProductVariant;
+import com.book.dolphin.product.domain.repository.InventoryRepository;
+import com.book.dolphin.product.domain.repository.InventoryReservationRepository;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.book.dolphin.product.domain.repository.ProductVariantRepository;
+import com.book.dolphin.product.infrastructure.inventory.InventoryReservationStore.Expired;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({InventoryReservationStore.class, InventoryLedgerJdbcWriter.class, EntityIdAllocator.class})
+class InventoryReservationStoreTest {
+
+    @Autowired
+    InventoryReservationStore store;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    ProductVariantRepository variantRepository;
+    @Autowired
+    InventoryRepository inventoryRepository;
+    @Autowired
+    InventoryReservationRepository reservationRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager em;
+
+    @DisplayName("만료된 예약만 만료 시각 순으로 배치 해제하고 할당 차감과 DEALLOCATE 원장을 남긴다")
+    @Test
+    void expiresDueReservationsInBatches() {
+        Inventory inv = seed("SKU-RSV-1", 10, 6);
+
+        LocalDateTime now = LocalDateTime.now();
+        InventoryReservation older = reservationRepository.save(
+                InventoryReservation.hold(inv, 3, "장바구니", now.minusMinutes(10)));
+        InventoryReservation newer = reservationRepository.save(
+                InventoryReservation.hold(inv, 2, "장바구니", now.minusMinutes(1)));
+        InventoryReservation live = reservationRepository.save(
+                InventoryReservation.hold(inv, 1, "장바구니", now.plusMinutes(10)));
+        em.flush();
+        em.clear();
+
+        List<Expired> first = store.expireDue(now, 1);
+        List<Expired> rest = store.expireDue(now, 10);
+
+        assertThat(first).extracting(Expired::reservationId).containsExactly(older.getId());
+        assertThat(rest).extracting(Expired::reservationId).containsExactly(newer.getId());
+        assertThat(store.expireDue(now, 10)).isEmpty();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT allocated FROM inventories WHERE inventory_id = ?", Long.class,
+                inv.getId())).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM inventory_reservations WHERE reservation_id = ?", String.class,
+                live.getId())).isEqualTo("ACTIVE");
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT SUM(quantity) FROM inventory_ledgers
+                WHERE inventory_id = ? AND event_type = 'DEALLOCATE'
+                """, Long.class, inv.getId())).isEqualTo(-5L);
+    }
+
+    @DisplayName("할당 수량보다 큰 만료분은 차감하지 않고 원장도 남기지 않되, 예약은 만료시킨다")
+    @Test
+    void skipsReleaseWhenAllocatedIsShort() {
+        Inventory inv = seed("SKU-RSV-2", 10, 2);
+        LocalDateTime now = LocalDateTime.now();
+        InventoryReservation r = reservationRepository.save(
+                InventoryReservation.hold(inv, 3, "장바구니", now.minusMinutes(1)));
+        em.flush();
+        em.clear();
+
+        assertThat(store.expireDue(now, 10)).extracting(Expired::reservationId)
+                .containsExactly(r.getId());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT allocated FROM inventories WHERE inventory_id = ?", Long.class,
+                inv.getId())).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM inventory_ledgers
+                WHERE inventory_id = ? AND event_type = 'DEALLOCATE'
+                """, Long.class, inv.getId())).isZero();
+    }
+
+    @DisplayName("인메모리 모드: 카운터 반영에 실패한 예약은 ACTIVE로 남기고 성공한 예약만 만료시킨다")
+    @Test
+    void keepsReservationActiveWhenCounterReleaseFails() {
+        Inventory inv = seed("SKU-RSV-3", 10, 5);
+        LocalDateTime now = LocalDateTime.now();
+        InventoryReservation failing = reservationRepository.save(
+                InventoryReservation.hold(inv, 3, "장바구니", now.minusMinutes(2)));
+        InventoryReservation ok = reservationRepository.save(
+                InventoryReservation.hold(inv, 2, "장바구니", now.minusMinutes(1)));
+        em.flush();
+        em.clear();
+
+        List<Expired> expired = store.expireDue(now, 10,
+                e -> e.reservationId() != failing.getId());
+
+        assertThat(expired).extracting(Expired::reservationId).containsExactly(ok.getId());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM inventory_reservations WHERE reservation_id = ?", String.class,
+                failing.getId())).isEqualTo("ACTIVE");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT allocated FROM inventories WHERE inventory_id = ?", Long.class,
+                inv.getId())).isEqualTo(5L); // 재고 반영은 카운터 몫
+    }
+
+    private Inventory seed(String sku, long onHand, long allocated) {
+        Product product = Product.builder().name("예약 " + sku).content("본문").build();
+        product.setListPrice(Money.of(10_000));
+        productRepository.save(product);
+        ProductVariant variant = variantRepository.save(ProductVariant.of(product, sku));
+        Inventory inv = Inventory.of(variant, onHand, 0, false);
+        inv.allocate(allocated);
+        return inventoryRepository.save(inv);
+    }
+}
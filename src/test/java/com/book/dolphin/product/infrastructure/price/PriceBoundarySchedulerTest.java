@@ -0,0 +1,66 @@
+package com.book.dolphin.product.infrastructure.price;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.book.dolphin.product.application.service.ProductPriceRefreshService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("가격 전환 경계 스케줄러")
+@ExtendWith(MockitoExtension.class)
+class PriceBoundarySchedulerTest {
+
+    @Mock
+    private ProductPriceRefreshService refreshService;
+
+    private PriceBoundaryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PriceBoundaryScheduler(refreshService,
+                new ProductPriceProperties(60_000, 3_600_000));
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("성공: 경계 시각이 되면 해당 상품을 다시 계산한다")
+    void fires_at_boundary() {
+        scheduler.schedule(1L, LocalDateTime.now().plusNanos(100_000_000));
+
+        verify(refreshService, timeout(2_000)).refresh(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("성공: 다시 등록하면 이전 경계는 버려진다")
+    void replaced_boundary_is_skipped() {
+        scheduler.schedule(2L, LocalDateTime.now().plusNanos(100_000_000));
+        scheduler.schedule(2L, LocalDateTime.now().plusMinutes(30));
+
+        verify(refreshService, after(500).never()).refresh(any(), any());
+    }
+
+    @Test
+    @DisplayName("성공: horizon 밖의 경계는 올리지 않는다")
+    void beyond_horizon_is_ignored() {
+        scheduler.schedule(3L, LocalDateTime.now().plusHours(2));
+
+        verify(refreshService, never()).refresh(any(), any());
+    }
+}
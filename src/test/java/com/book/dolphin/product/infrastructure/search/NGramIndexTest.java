@@ -0,0 +1,79 @@
+package com.book.dolphin.product.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("상품 n-gram 색인")
+class NGramIndexTest {
+
+    private final NGramIndex index = new NGramIndex(false);
+
+    @Test
+    @DisplayName("부분 문자열 검색은 LIKE '%kw%'와 같은 결과를 낸다(대소문자 무시)")
+    void searchMatchesSubstring() {
+        index.upsert(1L, "오버핏 린넨 셔츠", "", "PUBLISHED");
+        index.upsert(2L, "린넨 와이드 팬츠", "", "PUBLISHED");
+        index.upsert(3L, "Cotton Shirt", "", "DRAFT");
+
+        assertThat(index.search("린넨", null, 100)).containsExactly(1L, 2L);
+        assertThat(index.search("넨 셔", null, 100)).containsExactly(1L);
+        assertThat(index.search("shirt", null, 100)).containsExactly(3L);
+        assertThat(index.search("셔", null, 100)).containsExactly(1L);
+        // 바이그램은 모두 있지만 연속하지 않는 경우는 원문 확인에서 걸러진다
+        assertThat(index.search("린넨팬", null, 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태 필터와 결과 상한을 적용한다")
+    void statusFilterAndLimit() {
+        index.upsert(1L, "셔츠 A", "", "PUBLISHED");
+        index.upsert(2L, "셔츠 B", "", "DRAFT");
+        index.upsert(3L, "셔츠 C", "", "PUBLISHED");
+
+        assertThat(index.search("셔츠", "published", 100)).containsExactly(1L, 3L);
+        assertThat(index.search("셔츠", null, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("이름 변경/삭제는 이전 텍스트로 더 이상 검색되지 않는다")
+    void renameAndRemove() {
+        index.upsert(1L, "린넨 셔츠", "", "PUBLISHED");
+        index.upsert(2L, "린넨 바지", "", "PUBLISHED");
+
+        index.upsert(1L, "데님 셔츠", "", "PUBLISHED");
+        index.remove(2L);
+
+        assertThat(index.search("린넨", null, 100)).isEmpty();
+        assertThat(index.search("데님", null, 100)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("초기 적재는 이벤트로 먼저 들어온 최신 값을 덮지 않는다")
+    void addIfAbsentKeepsNewer() {
+        index.upsert(1L, "새 이름", "", "PUBLISHED");
+
+        assertThat(index.addIfAbsent(1L, "옛 이름", "", "DRAFT")).isFalse();
+        assertThat(index.search("새 이름", "PUBLISHED", 100)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("묘비가 쌓여 다시 만들어도 살아 있는 문서는 그대로 검색된다")
+    void compaction() {
+        for (long id = 1; id <= 3000; id++) {
+            index.upsert(id, "상품 " + id, "", "PUBLISHED");
+        }
+        for (long id = 1; id <= 3000; id++) {
+            if (id % 3 != 0) {
+                index.upsert(id, "변경 " + id, "", "PUBLISHED");
+            }
+        }
+
+        assertThat(index.search("상품 3000", null, 100)).containsExactly(3000L);
+        assertThat(index.search("상품 2998", null, 100)).isEmpty();
+        assertThat(index.search("변경 2998", null, 100)).containsExactly(2998L);
+        assertThat(index.size()).isEqualTo(3000);
+    }
+}
@@ -0,0 +1,71 @@
+package com.book.dolphin.product.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로더 스레드가 커밋된 행만 보므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductSearchIndexCatchUpTest {
+
+    @Autowired
+    ProductRepository productRepository;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        index = new ProductSearchIndex(productRepository,
+                new ProductSearchProperties(true, false, 2000, 1000));
+        index.start();
+        awaitTrue(index::isReady);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @DisplayName("변경 이벤트 없이 저장된 상품(다른 인스턴스의 쓰기)은 따라잡기 후 검색된다")
+    @Test
+    void catchesUpOutsideWrites() {
+        Product product = Product.builder().name("따라잡기 전용 셔츠").content("본문").build();
+        product.setListPrice(Money.of(10_000));
+        Long id = productRepository.save(product).getId();
+
+        assertThat(index.findIds("따라잡기 전용", null)).hasValue(List.of());
+
+        assertThat(index.catchUp(Duration.ofMinutes(2))).isPositive();
+
+        assertThat(index.findIds("따라잡기 전용", null)).hasValue(List.of(id));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.book.dolphin.product.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.product.domain.entity.Money;
+import com.book.dolphin.product.domain.entity.Product;
+import com.book.dolphin.product.domain.repository.ProductRepository;
+import com.book.dolphin.product.domain.repository.ProductRepository.ProductListRow;
+import com.book.dolphin.product.domain.repository.ProductRepository.SearchDocRow;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductSearchParityTest {
+
+    private static final List<String> KEYWORDS = List.of(
+            "%", "_", "!", "100%", "면_", "느낌표!", "shirt", "SHIRT", "셔츠", "면 1", "매치");
+
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    EntityManager em;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        seed("100% 면 셔츠", "여름용");
+        seed("면_셔츠 세트", "100원 할인");
+        seed("Cotton SHIRT", "면 100%");
+        seed("린넨 팬츠", "셔츠와 매치하기 좋은");
+        seed("느낌표! 한정판", "본문");
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("상품명만 색인할 때 색인 검색과 LIKE 검색은 와일드카드/대소문자까지 같은 결과를 낸다")
+    @Test
+    void nameOnly() {
+        assertParity(false);
+        assertThat(like("%", false)).containsExactly(ids.get(0));
+        assertThat(like("_", false)).containsExactly(ids.get(1));
+    }
+
+    @DisplayName("본문도 색인할 때 LIKE 검색도 본문까지 찾아 색인과 같은 결과를 낸다")
+    @Test
+    void withContent() {
+        assertParity(true);
+        assertThat(like("%", true)).containsExactly(ids.get(0), ids.get(2));
+        assertThat(like("매치", true)).containsExactly(ids.get(3));
+    }
+
+    private void assertParity(boolean indexContent) {
+        NGramIndex index = new NGramIndex(indexContent);
+        for (SearchDocRow row : productRepository.findSearchDocsByIdIn(ids)) {
+            index.upsert(row.getId(), row.getName(), row.getContent(), row.getStatus().name());
+        }
+        for (String keyword : KEYWORDS) {
+            List<Long> fromIndex = Arrays.stream(index.search(keyword, null, Integer.MAX_VALUE))
+                    .boxed().toList();
+            assertThat(like(keyword, indexContent)).as("keyword=%s", keyword)
+                    .containsExactlyElementsOf(fromIndex);
+        }
+    }
+
+    // 색인을 못 쓸 때 목록 쿼리가 받는 값 그대로(ids는 이 테스트의 상품으로만 좁히는 용도)
+    private List<Long> like(String keyword, boolean likeContent) {
+        return productRepository.findListSimple(ProductSearchIndex.likeKeyword(keyword),
+                        likeContent, true, ids, null, 0, null, null, null, null, 100, 0)
+                .stream().map(ProductListRow::getId).sorted().toList();
+    }
+
+    private void seed(String name, String content) {
+        Product product = Product.builder().name(name).content(content).build();
+        product.setListPrice(Money.of(10_000));
+        ids.add(productRepository.save(product).getId());
+    }
+}
@@ -0,0 +1,43 @@
+package support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.dolphin.common.persistence.SqlStatementCounter;
+import com.book.dolphin.common.persistence.SqlStatementCounter.Scope;
+import java.util.function.Supplier;
+
+/**
+ * SQL 예산 검증: 블록이 실행한 SQL 수가 상한을 넘으면 실패한다(실패 메시지에 트랜잭션별 개수와 SQL 원문).
+ *
+ * <pre>{@code
+ * MegaMenuResponse res = SqlBudget.atMost(3, () -> categoryService.getMegaMenu(null, true));
+ * }</pre>
+ *
+ * <p>DataSource가 {@code SqlCountingDataSource}로 감싸진 컨텍스트에서 센다(앱은 {@code SqlCountingConfig},
+ * {@code @DataJpaTest}는 테스트 리소스의 슬라이스 imports). JPA 쿼리와 JdbcTemplate SQL을 함께 세며,
+ * 블록을 실행한 스레드의 SQL만 센다(원장 적재 스레드 등 백그라운드 작업 제외).</p>
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static <T> T atMost(int maxStatements, Supplier<T> action) {
+        try (Scope scope = SqlStatementCounter.open(true)) {
+            T result = action.get();
+            assertThat(scope.count())
+                    .as("SQL 예산 %d개 초과: 트랜잭션별=%s%n%s", maxStatements,
+                            scope.countsByTransaction(),
+                            String.join(System.lineSeparator(), scope.statements()))
+                    .isLessThanOrEqualTo(maxStatements);
+            return result;
+        }
+    }
+
+    public static void atMost(int maxStatements, Runnable action) {
+        atMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}